@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.benchmarks;
+
+import com.sun.source.util.JavacTask;
+import org.jisel.generators.SegregationModel;
+import org.jisel.handlers.AnnotationIndex;
+import org.jisel.handlers.impl.AddToHandler;
+import org.jisel.handlers.impl.SealForHandler;
+import org.jisel.handlers.impl.TopLevelHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Measures the handling of the &#64;AddTo annotated children of a single large interface by {@link AddToHandler} alone, all of
+ * them being added to the same profile when a single profile is used.<br>
+ * Unlike {@link AddToScalingBenchmark}, the sources are analyzed once without annotation processing, and the
+ * {@link SegregationModel.Builder} of the large interface is filled by the &#64;TopLevel and &#64;SealFor handlers before each
+ * invocation, so neither javac nor the other handlers are part of the measured time.<br>
+ * Run with: <b>java -jar target/benchmarks.jar AddToHandlerBenchmark</b>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddToHandlerBenchmark {
+
+    @Param({"1000", "2500", "5000"})
+    private int addToChildren;
+
+    @Param({"1", "8"})
+    private int profiles;
+
+    // keeps the compiler context, hence the elements and mirrors, alive during the benchmark
+    private JavacTask javacTask;
+    private AnnotationIndex annotationIndex;
+    private TopLevelHandler topLevelHandler;
+    private SealForHandler sealForHandler;
+    private AddToHandler addToHandler;
+    private Map<Element, SegregationModel.Builder> segregationModelBuilders;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        var corpus = new SyntheticCorpusGenerator(20, profiles, 0.5, 1, addToChildren, 0, false, 42L).generate(1);
+        var sources = new ArrayList<SimpleJavaFileObject>();
+        corpus.forEach((qualifiedName, content) -> sources.add(sourceOf(qualifiedName, content)));
+        // the Sealed* interfaces extended by the children are only generated by the processor: the resulting errors are ignored,
+        // as the handlers only read the annotations of the children. With errors, analyze() returns no element, so the analyzed
+        // types are looked up by name
+        javacTask = (JavacTask) ToolProvider.getSystemJavaCompiler().getTask(null, null, new DiagnosticCollector<JavaFileObject>(),
+                List.of("-proc:none", "-classpath", System.getProperty("java.class.path")), null, sources);
+        javacTask.analyze();
+        var rootElements = new ArrayList<TypeElement>();
+        corpus.keySet().forEach(qualifiedName -> rootElements.add(javacTask.getElements().getTypeElement(qualifiedName)));
+        var roundEnvironment = new AnalyzedRoundEnvironment(rootElements);
+        annotationIndex = AnnotationIndex.of(roundEnvironment.annotations(), roundEnvironment, javacTask.getElements());
+        if (annotationIndex.addToElements().size() != addToChildren) {
+            throw new IllegalStateException("Unexpected count of indexed @AddTo children: " + annotationIndex.addToElements().size());
+        }
+        topLevelHandler = new TopLevelHandler();
+        sealForHandler = new SealForHandler();
+        addToHandler = new AddToHandler(new AnalyzedProcessingEnvironment(javacTask.getElements(), javacTask.getTypes()));
+    }
+
+    @Setup(Level.Invocation)
+    public void fillSegregationModelBuilders() {
+        segregationModelBuilders = new HashMap<>();
+        topLevelHandler.handleAnnotatedElements(annotationIndex.topLevelElements(), annotationIndex, segregationModelBuilders);
+        sealForHandler.handleAnnotatedElements(annotationIndex.sealForElements(), annotationIndex, segregationModelBuilders);
+    }
+
+    @Benchmark
+    public Map<Element, String> handleAddToChildren() {
+        return addToHandler.handleAnnotatedElements(annotationIndex.addToElements(), annotationIndex, segregationModelBuilders);
+    }
+
+    private static SimpleJavaFileObject sourceOf(String qualifiedName, String content) {
+        return new SimpleJavaFileObject(URI.create(format("mem:///%s.java", qualifiedName.replace('.', '/'))), SimpleJavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    // only the utilities used by the handlers are provided
+    private record AnalyzedProcessingEnvironment(Elements elementUtils, Types typeUtils) implements ProcessingEnvironment {
+
+        @Override
+        public Map<String, String> getOptions() {
+            return Map.of();
+        }
+
+        @Override
+        public Messager getMessager() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Filer getFiler() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Elements getElementUtils() {
+            return elementUtils;
+        }
+
+        @Override
+        public Types getTypeUtils() {
+            return typeUtils;
+        }
+
+        @Override
+        public SourceVersion getSourceVersion() {
+            return SourceVersion.RELEASE_17;
+        }
+
+        @Override
+        public Locale getLocale() {
+            return Locale.getDefault();
+        }
+    }
+}
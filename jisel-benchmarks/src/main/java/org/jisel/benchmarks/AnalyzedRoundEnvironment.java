@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.benchmarks;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link RoundEnvironment} over elements analyzed through the compiler API without annotation processing, with the annotated
+ * elements looked up once at creation. Only the root elements and their directly enclosed elements are looked up.<br>
+ * Allows the benchmarks to run the Jisel handlers alone, outside of a javac processing round
+ */
+final class AnalyzedRoundEnvironment implements RoundEnvironment {
+
+    private final Set<Element> rootElements;
+    private final Map<Element, Set<Element>> annotatedElementsByAnnotation = new HashMap<>();
+
+    AnalyzedRoundEnvironment(List<TypeElement> rootElements) {
+        this.rootElements = new LinkedHashSet<>(rootElements);
+        for (var rootElement : rootElements) {
+            index(rootElement);
+            rootElement.getEnclosedElements().forEach(this::index);
+        }
+    }
+
+    private void index(Element element) {
+        element.getAnnotationMirrors().forEach(annotationMirror -> annotatedElementsByAnnotation
+                .computeIfAbsent(annotationMirror.getAnnotationType().asElement(), annotation -> new LinkedHashSet<>())
+                .add(element));
+    }
+
+    /**
+     * Returns the annotation types found on the analyzed elements, as provided to the processor on each round
+     *
+     * @return {@link Set} of the annotation types found on the analyzed elements
+     */
+    Set<TypeElement> annotations() {
+        var annotations = new LinkedHashSet<TypeElement>();
+        annotatedElementsByAnnotation.keySet().forEach(annotation -> annotations.add((TypeElement) annotation));
+        return annotations;
+    }
+
+    @Override
+    public boolean processingOver() {
+        return false;
+    }
+
+    @Override
+    public boolean errorRaised() {
+        return false;
+    }
+
+    @Override
+    public Set<? extends Element> getRootElements() {
+        return rootElements;
+    }
+
+    @Override
+    public Set<? extends Element> getElementsAnnotatedWith(TypeElement annotation) {
+        return annotatedElementsByAnnotation.getOrDefault(annotation, Set.of());
+    }
+
+    @Override
+    public Set<? extends Element> getElementsAnnotatedWith(Class<? extends Annotation> annotation) {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.benchmarks;
+
+import com.sun.source.util.JavacTask;
+import org.jisel.handlers.AnnotationIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Compares the cost of reading the attributes of 10,000 &#64;Detach annotations (100 large interfaces with 100 &#64;Detach each):
+ * <ul>
+ * <li>regex parsing of the AnnotationMirror String representation, compiling the patterns on each call (as done up to version 1.2)</li>
+ * <li>the same regex parsing with precompiled patterns</li>
+ * <li>indexing of the annotated elements through {@link AnnotationIndex}, as done by the processor on each round</li>
+ * </ul>
+ * Run with: <b>java -jar target/benchmarks.jar AnnotationParsingBenchmark</b>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnnotationParsingBenchmark {
+
+    private static final int INTERFACES = 100;
+    private static final int DETACH_PER_INTERFACE = 100;
+    private static final String DETACHS_QUALIFIED_NAME = "org.jisel.annotations.Detach.Detachs";
+
+    // keeps the compiler context, hence the elements and mirrors, alive during the benchmark
+    private JavacTask javacTask;
+    private List<TypeElement> largeInterfaces;
+    private List<AnnotationMirror> detachsAnnotationMirrors;
+    private Elements elementUtils;
+    private Set<TypeElement> annotations;
+    private RoundEnvironment roundEnvironment;
+
+    @Setup
+    public void setUp() throws IOException {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var sources = new ArrayList<SimpleJavaFileObject>();
+        for (int i = 0; i < INTERFACES; i++) {
+            sources.add(sourceOf(format("LargeInterface%d", i), buildLargeInterface(format("LargeInterface%d", i))));
+        }
+        javacTask = (JavacTask) compiler.getTask(null, null, null,
+                List.of("-proc:none", "-classpath", System.getProperty("java.class.path")), null, sources);
+        largeInterfaces = new ArrayList<>();
+        javacTask.analyze().forEach(element -> largeInterfaces.add((TypeElement) element));
+        detachsAnnotationMirrors = largeInterfaces.stream()
+                .flatMap(largeInterface -> largeInterface.getAnnotationMirrors().stream())
+                .filter(annotationMirror -> annotationMirror.getAnnotationType().toString().equals(DETACHS_QUALIFIED_NAME))
+                .map(AnnotationMirror.class::cast)
+                .toList();
+        if (detachsAnnotationMirrors.size() != INTERFACES) {
+            throw new IllegalStateException("Unexpected count of @Detach.Detachs annotations: " + detachsAnnotationMirrors.size());
+        }
+        elementUtils = javacTask.getElements();
+        var analyzedRoundEnvironment = new AnalyzedRoundEnvironment(largeInterfaces);
+        roundEnvironment = analyzedRoundEnvironment;
+        annotations = analyzedRoundEnvironment.annotations();
+        var annotationIndex = AnnotationIndex.of(annotations, roundEnvironment, elementUtils);
+        if (largeInterfaces.stream().anyMatch(largeInterface -> annotationIndex.detachSpecs(largeInterface).size() != DETACH_PER_INTERFACE)) {
+            throw new IllegalStateException("Unexpected count of indexed @Detach annotations");
+        }
+    }
+
+    @Benchmark
+    public void regexCompiledOnEachCall(Blackhole blackhole) {
+        var parser = new LegacyDetachParser(false);
+        detachsAnnotationMirrors.forEach(annotationMirror -> blackhole.consume(parser.parse(annotationMirror)));
+    }
+
+    @Benchmark
+    public void regexPrecompiled(Blackhole blackhole) {
+        var parser = new LegacyDetachParser(true);
+        detachsAnnotationMirrors.forEach(annotationMirror -> blackhole.consume(parser.parse(annotationMirror)));
+    }
+
+    @Benchmark
+    public void annotationIndex(Blackhole blackhole) {
+        var annotationIndex = AnnotationIndex.of(annotations, roundEnvironment, elementUtils);
+        largeInterfaces.forEach(largeInterface -> blackhole.consume(annotationIndex.detachSpecs(largeInterface)));
+    }
+
+    private static String buildLargeInterface(String interfaceName) {
+        var source = new StringBuilder(format("package bench;%n%nimport org.jisel.annotations.*;%n%n"));
+        for (int d = 0; d < DETACH_PER_INTERFACE; d++) {
+            source.append(format("@Detach(profile = \"Profile%d\", rename = \"Detached%d\", superInterfaces = {java.util.function.Function.class, Comparable.class}, "
+                    + "firstSuperInterfaceGenerics = {String.class, Integer.class}, secondSuperInterfaceGenerics = {String.class}, "
+                    + "applyAnnotations = \"@SuppressWarnings({\\\"unused\\\"})\\n@Deprecated\")%n", d, d));
+        }
+        source.append(format("public interface %s {%n    @TopLevel%n    void method();%n}%n", interfaceName));
+        return source.toString();
+    }
+
+    private static SimpleJavaFileObject sourceOf(String simpleName, String content) {
+        return new SimpleJavaFileObject(URI.create(format("mem:///bench/%s.java", simpleName)), SimpleJavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
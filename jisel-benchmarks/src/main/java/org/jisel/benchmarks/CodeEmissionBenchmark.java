@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.benchmarks;
+
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.MethodDescriptor;
+import org.jisel.generators.ProfileGraph;
+import org.jisel.generators.contentgen.impl.FinalClassSourceContentGenerator;
+import org.jisel.generators.contentgen.impl.InterfaceSourceContentGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static org.jisel.AnnotationProcessor.JISEL_REPRODUCIBLE_OPTION;
+
+/**
+ * Measures the cost of emitting the code of a generated sealed interface and of the generated final class, per generated
+ * method, from Element-free descriptors of a large interface with 1,000 methods.<br>
+ * The output is discarded, so only the emission itself is measured. Run with the gc profiler to get the bytes allocated per
+ * generated method (<b>gc.alloc.rate.norm</b>):<br>
+ * <b>java -jar target/benchmarks.jar CodeEmissionBenchmark -prof gc</b>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodeEmissionBenchmark {
+
+    private static final int METHODS = 1000;
+    private static final String LARGE_INTERFACE_SIMPLE_NAME = "Sociable";
+    private static final String PROFILE = "Student";
+
+    private InterfaceSourceContentGenerator interfaceSourceContentGenerator;
+    private FinalClassSourceContentGenerator finalClassSourceContentGenerator;
+    private LargeInterfaceDescriptor largeInterface;
+    private Map.Entry<String, List<MethodDescriptor>> sealedInterfaceToGenerate;
+    private ProfileGraph profileGraph;
+    private PrintWriter output;
+
+    @Setup
+    public void setUp() {
+        var processingEnvironment = (ProcessingEnvironment) Proxy.newProxyInstance(
+                ProcessingEnvironment.class.getClassLoader(),
+                new Class<?>[]{ProcessingEnvironment.class},
+                (proxy, method, args) -> {
+                    if ("getOptions".equals(method.getName())) {
+                        return Map.of(JISEL_REPRODUCIBLE_OPTION, Boolean.TRUE.toString());
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+        var appInfo = new AppInfo("org.jisel.JiselAnnotationProcessor", "benchmark");
+        interfaceSourceContentGenerator = new InterfaceSourceContentGenerator(processingEnvironment, appInfo);
+        finalClassSourceContentGenerator = new FinalClassSourceContentGenerator(processingEnvironment, appInfo);
+        var methods = new ArrayList<MethodDescriptor>();
+        for (int i = 0; i < METHODS; i++) {
+            methods.add(new MethodDescriptor(
+                    format("method%d(java.lang.String,int)", i),
+                    i % 10 == 0 ? format("@java.lang.Deprecated%n \t") : "",
+                    "java.util.List<java.lang.String>",
+                    format("method%d(@java.lang.Deprecated java.lang.String param0, int param1)", i),
+                    i % 2 == 0 ? "java.io.IOException, java.lang.IllegalStateException" : "",
+                    "return null"
+            ));
+        }
+        largeInterface = new LargeInterfaceDescriptor("bench." + LARGE_INTERFACE_SIMPLE_NAME, LARGE_INTERFACE_SIMPLE_NAME,
+                "", List.of("java.lang.Runnable"), methods);
+        sealedInterfaceToGenerate = Map.entry(PROFILE, methods);
+        profileGraph = ProfileGraph.of(Map.of(
+                LARGE_INTERFACE_SIMPLE_NAME, List.of(PROFILE),
+                PROFILE, List.of("_" + LARGE_INTERFACE_SIMPLE_NAME + "FinalCass")
+        ));
+        output = new PrintWriter(Writer.nullWriter());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(METHODS)
+    public PrintWriter sealedInterfaceAbstractMethods() {
+        interfaceSourceContentGenerator.generateSourceContent(output, largeInterface, false, sealedInterfaceToGenerate, profileGraph);
+        return output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(METHODS)
+    public PrintWriter finalClassConcreteMethods() {
+        finalClassSourceContentGenerator.generateSourceContent(output, largeInterface, false, null, profileGraph);
+        return output;
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.benchmarks;
+
+import org.jisel.JiselAnnotationProcessor;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.lang.String.format;
+
+/**
+ * Runs the {@link JiselAnnotationProcessor} against in-memory sources through the javax.tools compiler API.<br>
+ * Compilation is done with <b>-proc:only</b>, so the measured cost is the one of the annotation processing rounds (parsing,
+ * entering and the Jisel handlers / generators), not the one of the bytecode generation.<br>
+ * Generated files are kept in memory and never touch the disk.
+ */
+public final class InMemoryProcessorRunner {
+
+    private static final String JAVA_CLASS_PATH = "java.class.path";
+
+    private final JavaCompiler compiler;
+    private final List<String> options;
+
+    /**
+     * InMemoryProcessorRunner constructor. Uses the system java compiler and the current classpath (which must contain the
+     * Jisel annotations)
+     *
+     * @param additionalOptions options passed to javac in addition to <b>-proc:only</b> and the classpath, such as the
+     *                          <b>-A</b> options supported by the processor
+     */
+    public InMemoryProcessorRunner(List<String> additionalOptions) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system java compiler available, the benchmarks must run on a JDK");
+        }
+        this.options = new ArrayList<>(List.of("-proc:only", "-classpath", System.getProperty(JAVA_CLASS_PATH)));
+        this.options.addAll(additionalOptions);
+        // the processor logs every generated file at INFO level
+        Logger.getLogger(JiselAnnotationProcessor.class.getName()).setLevel(Level.WARNING);
+    }
+
+    /**
+     * Compiles the provided sources with a new instance of the {@link JiselAnnotationProcessor}
+     *
+     * @param sources map of the sources to compile, with the fully qualified class names as keys and the sources contents as values
+     * @return map of the files generated by the processor, with the files names as keys and their contents as values
+     * @throws IllegalStateException if the compilation reports any error
+     */
+    public Map<String, String> run(Map<String, String> sources) {
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = new InMemoryFileManager(compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8))) {
+            var task = compiler.getTask(null, fileManager, diagnostics, options, null, toSourceFileObjects(sources));
+            task.setProcessors(List.of(new JiselAnnotationProcessor()));
+            var success = task.call();
+            var errors = diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .toList();
+            if (!success || !errors.isEmpty()) {
+                throw new IllegalStateException(format("Compilation failed: %s", errors));
+            }
+            return fileManager.generatedFiles();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<JavaFileObject> toSourceFileObjects(Map<String, String> sources) {
+        return sources.entrySet().stream()
+                .map(entry -> (JavaFileObject) new SourceFileObject(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private static URI uriOf(String name, JavaFileObject.Kind kind) {
+        return URI.create(format("mem:///%s%s", name.replace('.', '/'), kind.extension));
+    }
+
+    private static final class SourceFileObject extends SimpleJavaFileObject {
+
+        private final String content;
+
+        private SourceFileObject(String qualifiedName, String content) {
+            super(uriOf(qualifiedName, Kind.SOURCE), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+    private static final class GeneratedFileObject extends SimpleJavaFileObject {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private GeneratedFileObject(URI uri, Kind kind) {
+            super(uri, kind);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            bytes.reset();
+            return bytes;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class InMemoryFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+
+        private final Map<String, GeneratedFileObject> generated = new LinkedHashMap<>();
+
+        private InMemoryFileManager(JavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+            return generated.computeIfAbsent(className + kind.extension, name -> new GeneratedFileObject(uriOf(className, kind), kind));
+        }
+
+        @Override
+        public FileObject getFileForOutput(Location location, String packageName, String relativeName, FileObject sibling) {
+            var name = packageName.isEmpty() ? relativeName : format("%s/%s", packageName.replace('.', '/'), relativeName);
+            return generated.computeIfAbsent(name, key -> new GeneratedFileObject(URI.create(format("mem:///%s", key)), JavaFileObject.Kind.OTHER));
+        }
+
+        @Override
+        public boolean isSameFile(FileObject a, FileObject b) {
+            return a.toUri().equals(b.toUri());
+        }
+
+        @Override
+        public boolean hasLocation(Location location) {
+            return location == StandardLocation.SOURCE_OUTPUT || location == StandardLocation.CLASS_OUTPUT || super.hasLocation(location);
+        }
+
+        private Map<String, String> generatedFiles() {
+            var files = new LinkedHashMap<String, String>();
+            generated.forEach((name, fileObject) -> files.put(name, fileObject.getCharContent(true).toString()));
+            return files;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.benchmarks;
+
+import org.jisel.JiselAnnotationProcessor;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * Checks that the output of the {@link JiselAnnotationProcessor} does not depend on which subset of the annotated sources
+ * gets recompiled, as expected from an <b>aggregating</b> processor by the Gradle incremental compilation.<br>
+ * A synthetic corpus is first built from scratch. Then, for every source file (and for every other file at once), the way
+ * Gradle rebuilds incrementally is reproduced: the files generated by the processor and their classes are deleted, only the
+ * "changed" sources are recompiled, and all the other annotated types are handed over to the processor as classes to
+ * reprocess from the class files of the previous build. The regenerated files must be identical to the clean build ones.<br>
+ * The compilations use <b>-Ajisel.reproducible=true</b>, so that the outputs can be compared byte for byte.<br>
+ * The check runs twice: with <b>-parameters</b>, so that the methods parameters names can be read back from the class files,
+ * where no mismatch is expected, and without it, where the large interfaces reprocessed from class files lose their parameters
+ * names: every resulting mismatch must then come with the processor warning about the synthesized parameters names.<br><br>
+ * Command line usage (exits with status 1 if any mismatch is found with -parameters, or any unreported one without it):<br>
+ * <b>java -cp target/benchmarks.jar org.jisel.benchmarks.IncrementalBuildCheck [interfaces]</b>
+ */
+public final class IncrementalBuildCheck {
+
+    private static final List<String> OPTIONS = List.of("-Ajisel.reproducible=true", "-implicit:class");
+    private static final String PARAMETERS_OPTION = "-parameters";
+    // start of the processor warning reported for the large interfaces whose parameters names were synthesized by javac
+    private static final String SYNTHESIZED_PARAMETERS_NAMES_WARNING = "The methods parameters of ";
+    private static final String JAVA_EXTENSION = ".java";
+    private static final String CLASS_EXTENSION = ".class";
+    private static final String EMPTY_EXTENSION = "";
+
+    private final JavaCompiler compiler;
+    private final Map<String, String> sources;
+    private final Path workDirectory;
+    private final boolean parameters;
+
+    /**
+     * Mismatch between the files generated by an incremental build and the ones of the clean build
+     *
+     * @param changed   fully qualified class names of the sources recompiled by the incremental build
+     * @param differing generated files paths, mapped to the description of their difference
+     * @param warnings  count of warnings reported by the processor about synthesized parameters names during the incremental build
+     */
+    public record Mismatch(Collection<String> changed, Map<String, String> differing, long warnings) {
+
+        /**
+         * Whether the mismatch was reported to the user by the processor
+         *
+         * @return true if at least 1 warning about synthesized parameters names was reported during the incremental build
+         */
+        public boolean reported() {
+            return warnings > 0;
+        }
+
+        @Override
+        public String toString() {
+            return format("changed %s: %s (%d synthesized parameters names warning(s))", changed, differing, warnings);
+        }
+    }
+
+    /**
+     * IncrementalBuildCheck constructor
+     *
+     * @param sources       map of the sources of the corpus, with the fully qualified class names as keys and the sources
+     *                      contents as values
+     * @param workDirectory directory the builds are performed into
+     * @param parameters    whether the sources are compiled with the <b>-parameters</b> option
+     */
+    public IncrementalBuildCheck(Map<String, String> sources, Path workDirectory, boolean parameters) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system java compiler available, the check must run on a JDK");
+        }
+        this.sources = sources;
+        this.workDirectory = workDirectory;
+        this.parameters = parameters;
+        // the processor logs every generated file at INFO level
+        Logger.getLogger(JiselAnnotationProcessor.class.getName()).setLevel(Level.WARNING);
+    }
+
+    /**
+     * Performs a clean build of the corpus, then an incremental build for each one of the provided subsets of changed sources
+     *
+     * @param changedSubsets subsets of the fully qualified class names of the sources to consider as changed
+     * @return the mismatches found, empty if every incremental build matched the clean build
+     * @throws IOException if the work directory cannot be written
+     */
+    public List<Mismatch> check(List<? extends Collection<String>> changedSubsets) throws IOException {
+        var cleanBuild = workDirectory.resolve("clean");
+        var cleanSourcesDir = writeSources(cleanBuild.resolve("src"), sources.keySet());
+        compile(cleanBuild, cleanSourcesDir, sources.keySet(), List.of(), cleanBuild.resolve("classes"));
+        var expected = readTree(cleanBuild.resolve("generated"));
+        var mismatches = new ArrayList<Mismatch>();
+        for (int i = 0; i < changedSubsets.size(); i++) {
+            var changed = changedSubsets.get(i);
+            var incrementalBuild = workDirectory.resolve(format("incremental%d", i));
+            var classesDir = incrementalBuild.resolve("classes");
+            copyClassesExcept(cleanBuild.resolve("classes"), classesDir, changed, expected.keySet());
+            var sourcesDir = writeSources(incrementalBuild.resolve("src"), changed);
+            var reprocessed = sources.keySet().stream().filter(name -> !changed.contains(name)).toList();
+            var warnings = compile(incrementalBuild, sourcesDir, changed, reprocessed, classesDir);
+            var actual = readTree(incrementalBuild.resolve("generated"));
+            if (!actual.equals(expected)) {
+                var differing = new TreeMap<String, String>();
+                expected.forEach((file, content) -> {
+                    if (!content.equals(actual.get(file))) {
+                        differing.put(file, actual.containsKey(file) ? "different content" : "missing");
+                    }
+                });
+                actual.keySet().stream().filter(file -> !expected.containsKey(file)).forEach(file -> differing.put(file, "unexpected"));
+                mismatches.add(new Mismatch(changed, differing, warnings));
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Command line entry point
+     *
+     * @param args optional count of large interfaces of the synthetic corpus (default: 3)
+     * @throws IOException if the work directory cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        var interfaces = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        var sources = new SyntheticCorpusGenerator(40, 5, 0.5, 2, 2, 1, true, 42).generate(interfaces);
+        var changedSubsets = new ArrayList<List<String>>();
+        sources.keySet().forEach(name -> changedSubsets.add(List.of(name)));
+        var names = List.copyOf(sources.keySet());
+        changedSubsets.add(Stream.iterate(0, i -> i < names.size(), i -> i + 2).map(names::get).toList());
+        var workDirectory = Files.createTempDirectory("jisel-incremental");
+        var mismatches = new IncrementalBuildCheck(sources, workDirectory.resolve("parameters"), true).check(changedSubsets);
+        mismatches.forEach(System.out::println);
+        System.out.printf("With -parameters: %d incremental builds checked against a clean build, %d mismatch(es)%n",
+                changedSubsets.size(), mismatches.size());
+        var noParametersMismatches = new IncrementalBuildCheck(sources, workDirectory.resolve("noparameters"), false).check(changedSubsets);
+        var unreportedMismatches = noParametersMismatches.stream().filter(mismatch -> !mismatch.reported()).toList();
+        unreportedMismatches.forEach(System.out::println);
+        System.out.printf("Without -parameters: %d incremental builds checked against a clean build, %d mismatch(es), %d not reported by a warning (work directory: %s)%n",
+                changedSubsets.size(), noParametersMismatches.size(), unreportedMismatches.size(), workDirectory);
+        if (!mismatches.isEmpty() || !unreportedMismatches.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    // returns the count of warnings reported about synthesized parameters names
+    private long compile(Path buildDirectory, Path sourcesDir, Collection<String> compiledNames, List<String> reprocessedNames,
+                         Path classesDir) throws IOException {
+        var generatedDir = Files.createDirectories(buildDirectory.resolve("generated"));
+        Files.createDirectories(classesDir);
+        var options = new ArrayList<>(OPTIONS);
+        if (parameters) {
+            options.add(PARAMETERS_OPTION);
+        }
+        options.addAll(List.of(
+                "-classpath", format("%s%s%s", classesDir, File.pathSeparator, System.getProperty("java.class.path")),
+                "-d", classesDir.toString(),
+                "-s", generatedDir.toString()
+        ));
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            var compilationUnits = fileManager.getJavaFileObjectsFromPaths(
+                    compiledNames.stream().map(name -> sourcesDir.resolve(toPath(name, JAVA_EXTENSION))).toList());
+            var task = compiler.getTask(null, fileManager, diagnostics, options, reprocessedNames, compilationUnits);
+            task.setProcessors(List.of(new JiselAnnotationProcessor()));
+            var success = task.call();
+            var errors = diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .toList();
+            if (!success || !errors.isEmpty()) {
+                throw new IllegalStateException(format("Compilation of %s failed: %s", compiledNames, errors));
+            }
+            return diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.WARNING)
+                    .filter(diagnostic -> diagnostic.getMessage(null).startsWith(SYNTHESIZED_PARAMETERS_NAMES_WARNING))
+                    .count();
+        }
+    }
+
+    private Path writeSources(Path sourcesDir, Collection<String> names) throws IOException {
+        for (var name : names) {
+            var file = sourcesDir.resolve(toPath(name, JAVA_EXTENSION));
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, sources.get(name));
+        }
+        return sourcesDir;
+    }
+
+    // keeps the classes of the unchanged sources only, as Gradle deletes the classes of the changed sources and the ones of
+    // the types generated by aggregating processors
+    private static void copyClassesExcept(Path from, Path to, Collection<String> changedNames, Collection<String> generatedFiles) throws IOException {
+        var excludedPrefixes = new ArrayList<String>();
+        changedNames.forEach(name -> excludedPrefixes.add(toPath(name, EMPTY_EXTENSION)));
+        generatedFiles.stream()
+                .filter(file -> file.endsWith(JAVA_EXTENSION))
+                .forEach(file -> excludedPrefixes.add(file.substring(0, file.length() - JAVA_EXTENSION.length())));
+        try (var files = Files.walk(from)) {
+            for (var file : files.filter(Files::isRegularFile).toList()) {
+                var relative = from.relativize(file).toString().replace('\\', '/');
+                var className = relative.substring(0, relative.length() - CLASS_EXTENSION.length());
+                var nestedIndex = className.indexOf('$');
+                var topLevelClassName = nestedIndex < 0 ? className : className.substring(0, nestedIndex);
+                if (!excludedPrefixes.contains(topLevelClassName)) {
+                    var target = to.resolve(relative);
+                    Files.createDirectories(target.getParent());
+                    Files.copy(file, target);
+                }
+            }
+        }
+    }
+
+    private static Map<String, String> readTree(Path root) throws IOException {
+        var files = new HashMap<String, String>();
+        try (var paths = Files.walk(root)) {
+            paths.filter(Files::isRegularFile).forEach(file -> {
+                try {
+                    files.put(root.relativize(file).toString().replace('\\', '/'), Files.readString(file));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return new LinkedHashMap<>(new TreeMap<>(files));
+    }
+
+    private static String toPath(String qualifiedName, String extension) {
+        return qualifiedName.replace('.', '/') + extension;
+    }
+}
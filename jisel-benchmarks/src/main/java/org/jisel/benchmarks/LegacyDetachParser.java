@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.benchmarks;
+
+import javax.lang.model.element.AnnotationMirror;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.stream;
+
+/**
+ * String based parsing of repeated &#64;Detach annotations, as done by the processor up to version 1.2: the container
+ * {@link AnnotationMirror} is converted to a String, split per annotation, then each attribute value is read with a regex.<br>
+ * Kept in the benchmarks only, as a baseline for the typed attributes reading. The regexes can either be compiled on each
+ * call (as the processor used to do) or precompiled once.
+ */
+public final class LegacyDetachParser {
+
+    private static final String ANNOTATION_STRING_VALUE_REGEX = "\"([^\"]*)\"";
+    private static final String ANNOTATION_ARRAY_VALUE_REGEX = "\\{(.*?)\\}";
+    private static final String DETACH_ANNOTATION_SEPARATOR = "@org.jisel.annotations.Detach";
+    private static final String ESCAPED_DOUBLE_QUOTES = "\\\"";
+    private static final String TMP_PLACEHOLDER = "__";
+    private static final String APPLY_ANNOTATIONS = "applyAnnotations";
+    private static final Map<String, String> DETACH_ATTRIBUTES_REGEX = Map.of(
+            "profile", "profile=" + ANNOTATION_STRING_VALUE_REGEX,
+            "rename", "rename=" + ANNOTATION_STRING_VALUE_REGEX,
+            "superInterfaces", "superInterfaces=" + ANNOTATION_ARRAY_VALUE_REGEX,
+            "firstSuperInterfaceGenerics", "firstSuperInterfaceGenerics=" + ANNOTATION_ARRAY_VALUE_REGEX,
+            "secondSuperInterfaceGenerics", "secondSuperInterfaceGenerics=" + ANNOTATION_ARRAY_VALUE_REGEX,
+            "thirdSuperInterfaceGenerics", "thirdSuperInterfaceGenerics=" + ANNOTATION_ARRAY_VALUE_REGEX,
+            APPLY_ANNOTATIONS, APPLY_ANNOTATIONS + "=" + ANNOTATION_STRING_VALUE_REGEX
+    );
+    private static final Map<String, Pattern> DETACH_ATTRIBUTES_PATTERNS = new HashMap<>();
+
+    static {
+        DETACH_ATTRIBUTES_REGEX.forEach((attribute, regex) -> DETACH_ATTRIBUTES_PATTERNS.put(attribute, Pattern.compile(regex)));
+    }
+
+    private final Function<String, Pattern> patternProvider;
+
+    /**
+     * LegacyDetachParser constructor
+     *
+     * @param precompiledPatterns true to use patterns compiled once, false to compile them on each attribute read
+     */
+    public LegacyDetachParser(boolean precompiledPatterns) {
+        this.patternProvider = precompiledPatterns
+                ? DETACH_ATTRIBUTES_PATTERNS::get
+                : attribute -> Pattern.compile(DETACH_ATTRIBUTES_REGEX.get(attribute));
+    }
+
+    /**
+     * Parses the attributes of all the &#64;Detach annotations held by a &#64;Detach.Detachs container annotation
+     *
+     * @param detachsAnnotationMirror {@link AnnotationMirror} instance of the container annotation
+     * @return a Map of the attributes values, by attribute name, for each one of the &#64;Detach annotations
+     */
+    public List<Map<String, String>> parse(AnnotationMirror detachsAnnotationMirror) {
+        var detachsAnnotationRawContentString = detachsAnnotationMirror.getElementValues().values().iterator().next().getValue().toString();
+        var detachAttributesList = new ArrayList<Map<String, String>>();
+        stream(detachsAnnotationRawContentString.split(DETACH_ANNOTATION_SEPARATOR))
+                .map(detachAnnotationRawContent -> removeTrailingStrings(removeTrailingStrings(detachAnnotationRawContent, "(", ","), "(", ")"))
+                .filter(detachAnnotationRawContent -> !detachAnnotationRawContent.isBlank())
+                .forEach(detachAnnotationRawContent -> {
+                    var detachAttributes = new HashMap<String, String>();
+                    DETACH_ATTRIBUTES_REGEX.keySet().forEach(attribute -> detachAttributes.put(
+                            attribute,
+                            APPLY_ANNOTATIONS.equals(attribute)
+                                    ? extractAttributeValue(detachAnnotationRawContent.replace(ESCAPED_DOUBLE_QUOTES, TMP_PLACEHOLDER), attribute).replace(TMP_PLACEHOLDER, ESCAPED_DOUBLE_QUOTES)
+                                    : extractAttributeValue(detachAnnotationRawContent, attribute)
+                    ));
+                    detachAttributesList.add(detachAttributes);
+                });
+        return detachAttributesList;
+    }
+
+    private String extractAttributeValue(String detachAnnotationRawContent, String attribute) {
+        var matcher = patternProvider.apply(attribute).matcher(detachAnnotationRawContent);
+        return matcher.find() ? matcher.group(1).strip() : "";
+    }
+
+    private static String removeTrailingStrings(String providedString, String leftTrailingString, String rightTrailingString) {
+        var strippedString = providedString.strip();
+        if (strippedString.startsWith(leftTrailingString)) {
+            strippedString = strippedString.substring(1);
+        }
+        if (strippedString.endsWith(rightTrailingString)) {
+            strippedString = strippedString.substring(0, strippedString.length() - 1);
+        }
+        return strippedString;
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Removal of the redundant parent/child relations from a permits map, as done by the processor up to version 1.2: for each
+ * parent, only the children of its first child found as a key of the permits map are removed from its children list.<br>
+ * Kept in the benchmarks only, as a baseline for the transitive reduction of the permits map. The children lists of the provided
+ * permits map must be mutable.
+ */
+public final class LegacyPermitsReduction {
+
+    private LegacyPermitsReduction() {
+    }
+
+    /**
+     * Removes from the provided permits map the children of a parent which are also children of its first child being a parent
+     *
+     * @param sealedInterfacesPermits {@link Map} with the profile name as the key and the mutable {@link List} of its children
+     *                                names as the value
+     */
+    public static void eliminateCyclicRelationships(Map<String, List<String>> sealedInterfacesPermits) {
+        var childProfilesListToRemoveByParentProfile = new HashMap<String, List<String>>();
+        sealedInterfacesPermits.forEach((parentProfile, childProfilesList) -> {
+            var childProfilesListToRemove = new ArrayList<String>();
+            for (var childProfile : childProfilesList) {
+                if (sealedInterfacesPermits.containsKey(childProfile)) {
+                    childProfilesListToRemove.addAll(childProfilesList);
+                    childProfilesListToRemove.retainAll(sealedInterfacesPermits.get(childProfile));
+                    break;
+                }
+            }
+            childProfilesListToRemoveByParentProfile.put(parentProfile, childProfilesListToRemove);
+        });
+        sealedInterfacesPermits.keySet().forEach(parentProfile ->
+                sealedInterfacesPermits.get(parentProfile).removeAll(childProfilesListToRemoveByParentProfile.get(parentProfile)));
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.benchmarks;
+
+import org.jisel.generators.ProfileGraph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.lang.String.format;
+import static java.lang.String.join;
+
+/**
+ * Property based check of {@link ProfileGraph#reduceTransitively(Map)} against randomly generated profile overlaps.<br>
+ * Each generated permits map mirrors the ones built by the processor: random subsets of profiles sharing common methods become
+ * parent profiles named after their members ("A,B,C"), permitting their members and some of the smaller overlaps they contain,
+ * under a top-level profile permitting all the parentless ones. For each map, the reduced permits map must only contain relations
+ * of the original map, reach the same profiles from every profile, and not contain any relation to a child also reachable through
+ * another child of the same parent. Whenever the {@link LegacyPermitsReduction} output also has those properties, both outputs
+ * must be identical, as the transitive reduction of an acyclic hierarchy is unique.<br><br>
+ * Command line usage (exits with status 1 if any property is violated):<br>
+ * <b>java -cp target/benchmarks.jar org.jisel.benchmarks.PermitsReductionCheck [iterations] [seed]</b>
+ */
+public final class PermitsReductionCheck {
+
+    private static final String TOP_LEVEL = "(toplevel)";
+    private static final String PROFILE_PREFIX = "P";
+
+    private final Random random;
+
+    /**
+     * PermitsReductionCheck constructor
+     *
+     * @param seed seed of the random profile overlaps generation, so that any failure can be reproduced
+     */
+    public PermitsReductionCheck(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Runs the check
+     *
+     * @param args iterations count (defaults to 10000) and random seed (defaults to 42)
+     */
+    public static void main(String[] args) {
+        var iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        var seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        var check = new PermitsReductionCheck(seed);
+        var violations = new ArrayList<String>();
+        var legacyRedundantCount = 0;
+        for (int i = 0; i < iterations; i++) {
+            var permitsMap = check.generatePermitsMap();
+            var reduced = copy(permitsMap);
+            ProfileGraph.reduceTransitively(reduced);
+            var reducedViolations = checkReduction(permitsMap, reduced);
+            reducedViolations.forEach(violation -> violations.add(format("%s%n  permits map: %s", violation, permitsMap)));
+            var legacy = copy(permitsMap);
+            LegacyPermitsReduction.eliminateCyclicRelationships(legacy);
+            if (!checkReduction(permitsMap, legacy).isEmpty()) {
+                legacyRedundantCount++;
+            } else if (reducedViolations.isEmpty() && !legacy.equals(reduced)) {
+                violations.add(format("output differs from the legacy reduction%n  permits map: %s%n  reduced: %s%n  legacy: %s",
+                        permitsMap, reduced, legacy));
+            }
+        }
+        violations.forEach(System.out::println);
+        System.out.printf("%d random permits maps checked (seed %d), %d property violation(s), %d map(s) left with redundant " +
+                "relations by the legacy reduction%n", iterations, seed, violations.size(), legacyRedundantCount);
+        if (!violations.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates a random permits map: from 2 to 12 profiles, and from 1 to 16 random overlaps of at least 2 of them
+     *
+     * @return the generated permits map, with mutable children lists
+     */
+    public Map<String, List<String>> generatePermitsMap() {
+        var profilesCount = 2 + random.nextInt(11);
+        var overlaps = new TreeSet<List<String>>((first, second) -> join(",", first).compareTo(join(",", second)));
+        var overlapsCount = 1 + random.nextInt(16);
+        for (int i = 0; i < overlapsCount; i++) {
+            var overlap = new ArrayList<String>();
+            for (int id = 0; id < profilesCount; id++) {
+                if (random.nextInt(3) == 0) {
+                    overlap.add(PROFILE_PREFIX + id);
+                }
+            }
+            if (overlap.size() > 1) {
+                overlaps.add(overlap);
+            }
+        }
+        var permitsMap = new LinkedHashMap<String, List<String>>();
+        overlaps.forEach(overlap -> {
+            var children = new ArrayList<>(overlap);
+            overlaps.stream()
+                    .filter(contained -> contained.size() < overlap.size() && overlap.containsAll(contained) && random.nextBoolean())
+                    .forEach(contained -> children.add(random.nextInt(children.size() + 1), join(",", contained)));
+            permitsMap.put(join(",", overlap), children);
+        });
+        var children = new HashSet<String>();
+        permitsMap.values().forEach(children::addAll);
+        var topLevelChildren = new ArrayList<String>();
+        permitsMap.keySet().stream().filter(profile -> !children.contains(profile)).forEach(topLevelChildren::add);
+        for (int id = 0; id < profilesCount; id++) {
+            if (!children.contains(PROFILE_PREFIX + id)) {
+                topLevelChildren.add(PROFILE_PREFIX + id);
+            }
+        }
+        permitsMap.put(TOP_LEVEL, topLevelChildren);
+        return permitsMap;
+    }
+
+    private static List<String> checkReduction(Map<String, List<String>> original, Map<String, List<String>> reduced) {
+        var violations = new ArrayList<String>();
+        original.forEach((profile, children) -> {
+            var reducedChildren = reduced.get(profile);
+            if (!children.containsAll(reducedChildren) || !isOrderKept(children, reducedChildren)) {
+                violations.add(format("%s: children %s are not an ordered subset of %s", profile, reducedChildren, children));
+            }
+            if (!reachable(original, profile).equals(reachable(reduced, profile))) {
+                violations.add(format("%s: reachable profiles changed from %s to %s", profile, reachable(original, profile),
+                        reachable(reduced, profile)));
+            }
+            reducedChildren.forEach(child -> reducedChildren.stream()
+                    .filter(otherChild -> !otherChild.equals(child) && reachable(reduced, otherChild).contains(child))
+                    .findFirst()
+                    .ifPresent(otherChild -> violations.add(format("%s: child %s is also reachable through %s", profile, child,
+                            otherChild))));
+        });
+        return violations;
+    }
+
+    private static boolean isOrderKept(List<String> children, List<String> reducedChildren) {
+        var index = 0;
+        for (var child : reducedChildren) {
+            var foundIndex = children.subList(index, children.size()).indexOf(child);
+            if (foundIndex < 0) {
+                return false;
+            }
+            index += foundIndex + 1;
+        }
+        return true;
+    }
+
+    private static Set<String> reachable(Map<String, List<String>> permitsMap, String profile) {
+        var reachable = new TreeSet<String>();
+        var toVisit = new ArrayDeque<>(permitsMap.getOrDefault(profile, List.of()));
+        while (!toVisit.isEmpty()) {
+            var child = toVisit.pop();
+            if (reachable.add(child)) {
+                toVisit.addAll(permitsMap.getOrDefault(child, List.of()));
+            }
+        }
+        return reachable;
+    }
+
+    private static Map<String, List<String>> copy(Map<String, List<String>> permitsMap) {
+        var copy = new LinkedHashMap<String, List<String>>();
+        permitsMap.forEach((profile, children) -> copy.put(profile, new ArrayList<>(children)));
+        return copy;
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+
+/**
+ * Generates compilable source trees of synthetic large interfaces annotated with &#64;TopLevel, &#64;SealFor, &#64;Detach and
+ * &#64;UnSeal, along with their &#64;AddTo annotated children.<br>
+ * Profiles are created in pairs (<b>Base&#60;i&#62;</b> and <b>Full&#60;i&#62;</b>) where all the methods of the Base profile
+ * are also part of the Full profile, so that every pair results in a valid parent/child sealed hierarchy. An odd profiles
+ * count leaves the last profile standalone.<br>
+ * The profile-overlap density is the probability for a method of a pair to be shared by both profiles, instead of being
+ * specific to the Full profile.<br>
+ * The package spread is the count of packages the large interfaces are distributed over. Each &#64;AddTo child stays in the
+ * package of its large interface, as required by the sealed hierarchies of the unnamed module.<br><br>
+ * Can be used as a command line tool to write a corpus to disk:<br>
+ * <b>java -cp target/benchmarks.jar org.jisel.benchmarks.SyntheticCorpusGenerator --output=corpus --methods=10000 --profiles=200</b><br>
+ * Supported arguments (all optional except <b>--output</b>): --interfaces, --methods, --profiles, --overlap, --packages,
+ * --addToChildren, --detachCount, --unSeal, --seed
+ */
+public final class SyntheticCorpusGenerator {
+
+    /**
+     * Root package of the generated sources
+     */
+    public static final String SYNTHETIC_PACKAGE = "org.jisel.benchmarks.synthetic";
+
+    private static final String TOP_LEVEL_PROFILE = "(toplevel)";
+    private static final String BASE_PROFILE_PREFIX = "Base";
+    private static final String FULL_PROFILE_PREFIX = "Full";
+    private static final String ARG_PREFIX = "--";
+    private static final String ARG_SEPARATOR = "=";
+    private static final String[] RETURN_TYPES = {"String", "int", "void", "java.util.List<String>", "java.util.Map<String, Integer>", "boolean[]"};
+
+    private final int methods;
+    private final int profiles;
+    private final double overlapDensity;
+    private final int packageSpread;
+    private final int addToChildren;
+    private final int detachCount;
+    private final boolean unSeal;
+    private final long seed;
+
+    /**
+     * SyntheticCorpusGenerator constructor
+     *
+     * @param methods        count of abstract methods per large interface, one fifth of them being annotated with &#64;TopLevel
+     * @param profiles       count of profiles per large interface
+     * @param overlapDensity probability, between 0 and 1, for a method of a profiles pair to be shared by both profiles
+     * @param packageSpread  count of packages the large interfaces are distributed over
+     * @param addToChildren  count of interfaces annotated with &#64;AddTo per large interface
+     * @param detachCount    count of &#64;Detach annotations per large interface
+     * @param unSeal         whether the large interfaces are annotated with &#64;UnSeal
+     * @param seed           seed of the random generator distributing the methods, so that a corpus can be reproduced
+     */
+    public SyntheticCorpusGenerator(int methods, int profiles, double overlapDensity, int packageSpread, int addToChildren,
+                                    int detachCount, boolean unSeal, long seed) {
+        if (methods < 1 || profiles < 1 || packageSpread < 1) {
+            throw new IllegalArgumentException("At least 1 method, 1 profile and 1 package are required");
+        }
+        if (overlapDensity < 0 || overlapDensity > 1 || addToChildren < 0 || detachCount < 0) {
+            throw new IllegalArgumentException("Overlap density must be between 0 and 1, and counts cannot be negative");
+        }
+        this.methods = methods;
+        this.profiles = profiles;
+        this.overlapDensity = overlapDensity;
+        this.packageSpread = packageSpread;
+        this.addToChildren = addToChildren;
+        this.detachCount = detachCount;
+        this.unSeal = unSeal;
+        this.seed = seed;
+    }
+
+    /**
+     * Builds the sources of the requested count of large interfaces along with their &#64;AddTo annotated children
+     *
+     * @param interfaces count of large interfaces to build
+     * @return map of the sources, with the fully qualified class names as keys and the sources contents as values
+     */
+    public Map<String, String> generate(int interfaces) {
+        var random = new Random(seed);
+        var sources = new LinkedHashMap<String, String>();
+        for (int i = 0; i < interfaces; i++) {
+            var packageName = packageSpread == 1 ? SYNTHETIC_PACKAGE : format("%s.pkg%d", SYNTHETIC_PACKAGE, i % packageSpread);
+            var interfaceName = format("LargeInterface%d", i);
+            sources.put(qualified(packageName, interfaceName), buildLargeInterface(packageName, interfaceName, random));
+            for (int k = 0; k < addToChildren; k++) {
+                var childName = format("Child%dOf%s", k, interfaceName);
+                sources.put(qualified(packageName, childName), buildAddToChild(packageName, childName, interfaceName, k));
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Writes the sources of the requested count of large interfaces to the provided directory, following the packages folders structure
+     *
+     * @param interfaces      count of large interfaces to build
+     * @param outputDirectory root directory of the generated source tree
+     * @return count of written files
+     * @throws IOException if a file cannot be written
+     */
+    public int writeTo(int interfaces, Path outputDirectory) throws IOException {
+        var sources = generate(interfaces);
+        for (var source : sources.entrySet()) {
+            var file = outputDirectory.resolve(format("%s.java", source.getKey().replace('.', '/')));
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue());
+        }
+        return sources.size();
+    }
+
+    /**
+     * Command line entry point. Expects arguments in the <b>--name=value</b> format.
+     *
+     * @param args command line arguments
+     * @throws IOException if a file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        var arguments = new HashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith(ARG_PREFIX) || !arg.contains(ARG_SEPARATOR)) {
+                throw new IllegalArgumentException(format("Unexpected argument: %s. Expected format: --name=value", arg));
+            }
+            var separatorIndex = arg.indexOf(ARG_SEPARATOR);
+            arguments.put(arg.substring(ARG_PREFIX.length(), separatorIndex), arg.substring(separatorIndex + 1));
+        }
+        if (!arguments.containsKey("output")) {
+            throw new IllegalArgumentException("Missing mandatory argument: --output=<directory>");
+        }
+        var generator = new SyntheticCorpusGenerator(
+                Integer.parseInt(arguments.getOrDefault("methods", "100")),
+                Integer.parseInt(arguments.getOrDefault("profiles", "10")),
+                Double.parseDouble(arguments.getOrDefault("overlap", "0.5")),
+                Integer.parseInt(arguments.getOrDefault("packages", "1")),
+                Integer.parseInt(arguments.getOrDefault("addToChildren", "0")),
+                Integer.parseInt(arguments.getOrDefault("detachCount", "0")),
+                Boolean.parseBoolean(arguments.getOrDefault("unSeal", "false")),
+                Long.parseLong(arguments.getOrDefault("seed", "42"))
+        );
+        var outputDirectory = Path.of(arguments.get("output"));
+        var written = generator.writeTo(Integer.parseInt(arguments.getOrDefault("interfaces", "1")), outputDirectory);
+        System.out.printf("%d source files written to %s%n", written, outputDirectory.toAbsolutePath());
+    }
+
+    private static String qualified(String packageName, String simpleName) {
+        return format("%s.%s", packageName, simpleName);
+    }
+
+    private List<String> profileNames() {
+        return IntStream.range(0, profiles)
+                .mapToObj(p -> p == profiles - 1 && profiles % 2 == 1
+                        ? format("Standalone%d", p / 2)
+                        : format("%s%d", p % 2 == 0 ? BASE_PROFILE_PREFIX : FULL_PROFILE_PREFIX, p / 2))
+                .toList();
+    }
+
+    private List<String> leafProfileNames() {
+        return profileNames().stream().filter(profile -> !profile.startsWith(BASE_PROFILE_PREFIX)).toList();
+    }
+
+    // profiles for the j-th non-toplevel method: either both profiles of a pair or only the child one
+    private List<String> profilesForMethod(int j, List<String> profileNames, Random random) {
+        var pairsCount = (profiles + 1) / 2;
+        var pair = j % pairsCount;
+        if (2 * pair + 1 >= profiles) {
+            return List.of(profileNames.get(2 * pair));
+        }
+        return random.nextDouble() < overlapDensity
+                ? List.of(profileNames.get(2 * pair), profileNames.get(2 * pair + 1))
+                : List.of(profileNames.get(2 * pair + 1));
+    }
+
+    private String buildLargeInterface(String packageName, String interfaceName, Random random) {
+        var profileNames = profileNames();
+        var source = new StringBuilder();
+        source.append(format("package %s;%n%n", packageName));
+        source.append(format("import org.jisel.annotations.*;%n%n"));
+        if (unSeal) {
+            source.append(format("@UnSeal%n"));
+        }
+        var detachTargets = new ArrayList<>(profileNames);
+        detachTargets.add(TOP_LEVEL_PROFILE);
+        for (int d = 0; d < detachCount; d++) {
+            source.append(format("@Detach(profile = \"%s\", rename = \"Detached%d%s\")%n", detachTargets.get(d % detachTargets.size()), d, interfaceName));
+        }
+        source.append(format("public interface %s {%n", interfaceName));
+        var topLevelCount = Math.max(1, methods / 5);
+        for (int j = 0; j < methods; j++) {
+            var annotation = j < topLevelCount
+                    ? "@TopLevel"
+                    : format("@SealFor({%s})", profilesForMethod(j - topLevelCount, profileNames, random).stream()
+                    .map(profile -> format("\"%s\"", profile))
+                    .collect(Collectors.joining(", ")));
+            source.append(format("%n    %s%n    %s method%d(int count, java.util.List<String> names)%s;%n",
+                    annotation, RETURN_TYPES[j % RETURN_TYPES.length], j, j % 3 == 0 ? " throws java.io.IOException" : ""));
+        }
+        source.append(format("}%n"));
+        return source.toString();
+    }
+
+    private String buildAddToChild(String packageName, String childName, String interfaceName, int k) {
+        var leaves = leafProfileNames();
+        var profile = leaves.get(k % leaves.size());
+        return format("""
+                        package %s;
+
+                        import org.jisel.annotations.AddTo;
+
+                        @AddTo(profiles = {"%s"}, largeInterface = %s.class)
+                        public non-sealed interface %s extends Sealed%s%s {
+                        }
+                        """,
+                packageName, profile, interfaceName, childName, profile, interfaceName);
+    }
+}
@@ -24,5 +24,7 @@ module jisel {
     exports org.jisel.annotations;
     requires java.compiler;
     requires java.logging;
+    requires static jdk.compiler;
+    requires jdk.jfr;
     requires com.google.auto.service;
 }
\ No newline at end of file
@@ -21,22 +21,22 @@
  */
 package org.jisel;
 
+import org.jisel.events.HandlerPhaseEvent;
+import org.jisel.generators.SegregationModel;
 import org.jisel.handlers.AbstractSealedAddToHandler;
 import org.jisel.handlers.AbstractSealedDetachHandler;
 import org.jisel.handlers.AbstractSealedSealForHandler;
+import org.jisel.handlers.AnnotationIndex;
 import org.jisel.handlers.JiselAnnotationHandler;
 
-import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.Element;
-import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
 import static java.util.Collections.unmodifiableMap;
-import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.joining;
 import static org.jisel.generators.StringGenerator.ADD_TO;
 import static org.jisel.generators.StringGenerator.AT_SIGN;
@@ -58,29 +58,50 @@ import static org.jisel.generators.StringGenerator.WHITESPACE;
 public sealed interface AnnotationProcessor permits JiselAnnotationProcessor {
 
     /**
-     * String used as a Map key to store all {@link Element} instances annotated with &#64;{@link org.jisel.annotations.SealFor}
+     * Name of the processor option (passed as <code>-Ajisel.reproducible=true</code>) requesting reproducible output:
+     * when enabled, the "date" attribute is omitted from the generated &#64;{@link javax.annotation.processing.Generated}
+     * annotations, so that unchanged inputs produce byte-identical generated files
      */
-    String ALL_ANNOTATED_SEALFOR_ELEMENTS = "allAnnotatedSealForElements";
+    String JISEL_REPRODUCIBLE_OPTION = "jisel.reproducible";
 
     /**
-     * String used as a Map key to store all {@link Element} instances annotated with &#64;{@link org.jisel.annotations.TopLevel}
+     * Name of the processor option (passed as <code>-Ajisel.fingerprint=true</code>) enabling the fingerprinting of the large
+     * interfaces: the generation of the files of a large interface is skipped when its inputs did not change since the previous
+     * build and the previously generated files are still available
      */
-    String ALL_ANNOTATED_TOPLEVEL_ELEMENTS = "allAnnotatedTopLevelElements";
+    String JISEL_FINGERPRINT_OPTION = "jisel.fingerprint";
 
     /**
-     * String used as a Map key to store all {@link Element} instances annotated with &#64;{@link org.jisel.annotations.AddTo}
+     * Name of the processor option (passed as <code>-Ajisel.parallelism=N</code>) providing the number of threads rendering the
+     * content of the generated files. The files are still written one after the other on the javac thread. Defaults to 1
      */
-    String ALL_ANNOTATED_ADDTO_ELEMENTS = "allAnnotatedAddToElements";
+    String JISEL_PARALLELISM_OPTION = "jisel.parallelism";
 
     /**
-     * String used as a Map key to store all {@link Element} instances annotated with &#64;{@link org.jisel.annotations.UnSeal}
+     * Name of the processor option (passed as <code>-Ajisel.stats=true</code>) enabling the timing of the processing phases.
+     * The timings are reported as a note at the end of each processing round
      */
-    String ALL_ANNOTATED_UNSEAL_ELEMENTS = "allAnnotatedUnSealElements";
+    String JISEL_STATS_OPTION = "jisel.stats";
 
     /**
-     * String used as a Map key to store all {@link Element} instances annotated with &#64;{@link org.jisel.annotations.Detach}
+     * Name of the processor option (passed as <code>-Ajisel.stats.file=path</code>) providing the path of a file to which the
+     * timings of each processing round, including the timings of every generated file, are appended when the
+     * {@link #JISEL_STATS_OPTION} option is enabled
      */
-    String ALL_ANNOTATED_DETACH_ELEMENTS = "allAnnotatedDetachElements";
+    String JISEL_STATS_FILE_OPTION = "jisel.stats.file";
+
+    /**
+     * Name of the processor option (passed as <code>-Ajisel.budget.ms=N</code>) providing the time, in milliseconds, the generation
+     * of the files of a single large interface is expected to stay under. A warning is reported for every large interface exceeding it.
+     * The time is cumulative: with parallel rendering, the render times measured on the rendering threads are added to the other steps
+     */
+    String JISEL_BUDGET_MS_OPTION = "jisel.budget.ms";
+
+    /**
+     * Name of the processor option (passed as <code>-Ajisel.budget.artifacts=N</code>) providing the number of files a single large
+     * interface is expected to generate at most. A warning is reported for every large interface exceeding it
+     */
+    String JISEL_BUDGET_ARTIFACTS_OPTION = "jisel.budget.artifacts";
 
     /**
      * Title of the text report displayed in the logs during compilation.<br>
@@ -99,6 +120,39 @@ public sealed interface AnnotationProcessor permits JiselAnnotationProcessor {
      */
     String FILE_GENERATION_SUCCESS = "Successfully generated";
 
+    /**
+     * Displayed as a header while listing the files not generated again, as their large interface did not change since the
+     * previous build
+     */
+    String FILE_GENERATION_UP_TO_DATE = "Up to date, not generated again";
+
+    /**
+     * Displayed when the processing timings could not be appended to the file provided through the {@link #JISEL_STATS_FILE_OPTION} option
+     */
+    String STATS_FILE_WRITING_ERROR = "Error appending the processing stats to %s";
+
+    /**
+     * Displayed when the value provided for one of the budget options is not a positive integer
+     */
+    String INVALID_BUDGET_OPTION_MSG = "Invalid value for the %s option: '%s'. A positive integer is expected, the budget is ignored";
+
+    /**
+     * Displayed when the generation of the files of a large interface took longer than the {@link #JISEL_BUDGET_MS_OPTION} budget
+     */
+    String TIME_BUDGET_EXCEEDED_MSG = "Generating the files of %s took %s ms of cumulative processing time, exceeding the %d ms budget set with the %s option";
+
+    /**
+     * Displayed when a large interface generated more files than the {@link #JISEL_BUDGET_ARTIFACTS_OPTION} budget
+     */
+    String ARTIFACTS_BUDGET_EXCEEDED_MSG = "%s generated %d files, exceeding the %d files budget set with the %s option";
+
+    /**
+     * Displayed when a large interface was read from a class file (ex: large interface reprocessed by the Gradle incremental
+     * compilation) and the parameters of all its methods are named arg0, arg1,... as javac names them when the class file
+     * was compiled without the <b>-parameters</b> option
+     */
+    String SYNTHESIZED_PARAMETERS_NAMES_MSG = "The methods parameters of %s are all named arg0, arg1,... and will be generated as is, as %s was read from a class file compiled without the -parameters option, required to keep the parameters names through the Gradle incremental compilation";
+
     /**
      * Displays the provided statusReport text information.<br>
      * Called once the processing of annotated elements completes
@@ -107,193 +161,150 @@ public sealed interface AnnotationProcessor permits JiselAnnotationProcessor {
      */
     void notifyStatusReportDisplay(String statusReportText);
 
-    /**
-     * Populates the provided {@link Map} based on content of the provided {@link Set} of {@link TypeElement}s
-     *
-     * @param annotations             the annotation interfaces requested to be processed
-     * @param roundEnv                environment for information about the current and prior round
-     * @param allAnnotatedElementsMap {@link Map} to be populated with {@link Set}s of annotated {@link Element} instances
-     */
-    default void populateAllAnnotatedElementsSets(Set<? extends TypeElement> annotations,
-                                                  RoundEnvironment roundEnv,
-                                                  Map<String, Set<Element>> allAnnotatedElementsMap) {
-        for (var annotation : annotations) {
-            if (annotation.getSimpleName().toString().contains(TOP_LEVEL)) {
-                allAnnotatedElementsMap.get(ALL_ANNOTATED_TOPLEVEL_ELEMENTS).addAll(roundEnv.getElementsAnnotatedWith(annotation));
-            }
-            if (annotation.getSimpleName().toString().contains(SEAL_FOR)) {
-                allAnnotatedElementsMap.get(ALL_ANNOTATED_SEALFOR_ELEMENTS).addAll(roundEnv.getElementsAnnotatedWith(annotation));
-            }
-            if (annotation.getSimpleName().toString().contains(ADD_TO)) {
-                allAnnotatedElementsMap.get(ALL_ANNOTATED_ADDTO_ELEMENTS).addAll(roundEnv.getElementsAnnotatedWith(annotation));
-            }
-            if (annotation.getSimpleName().toString().contains(UNSEAL)) {
-                allAnnotatedElementsMap.get(ALL_ANNOTATED_UNSEAL_ELEMENTS).addAll(roundEnv.getElementsAnnotatedWith(annotation));
-            }
-            if (annotation.getSimpleName().toString().contains(DETACH)) {
-                allAnnotatedElementsMap.get(ALL_ANNOTATED_DETACH_ELEMENTS).addAll(roundEnv.getElementsAnnotatedWith(annotation));
-            }
-        }
-    }
-
     /**
      * Processes {@link Element} instances annotated with &#64;{@link org.jisel.annotations.TopLevel} and &#64;{{@link org.jisel.annotations.SealFor}
-     * annotations and populates the provided {@link Map}s with the collected information
+     * annotations and creates and fills a {@link SegregationModel.Builder} for each large interface
      *
-     * @param topLevelHandler                            {@link org.jisel.handlers.impl.TopLevelHandler} instance needed to
-     *                                                   process elements annotated with &#64;{@link org.jisel.annotations.TopLevel}
-     * @param sealForHandler                             {@link org.jisel.handlers.impl.SealForHandler} instance needed to
-     *                                                   process elements annotated with &#64;{@link org.jisel.annotations.SealFor}
-     * @param allAnnotatedElementsMap                    {@link Map} containing grouped {@link Element} instances annotated with
-     *                                                   &#64;{@link org.jisel.annotations.TopLevel} and
-     *                                                   &#64;{{@link org.jisel.annotations.SealFor}
-     * @param sealedInterfacesToGenerateByLargeInterface {@link Map} containing information about the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a Set of Element instances as the value.
-     *                                                   The Element instances represent each one of the abstract methods to be
-     *                                                   added to the generated sealed interface corresponding to a profile.
-     * @param sealedInterfacesPermitsByLargeInterface    {@link Map} containing information about the subtypes permitted by
-     *                                                   each one of the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a List of profiles names as the value.
+     * @param topLevelHandler          {@link org.jisel.handlers.impl.TopLevelHandler} instance needed to
+     *                                 process elements annotated with &#64;{@link org.jisel.annotations.TopLevel}
+     * @param sealForHandler           {@link org.jisel.handlers.impl.SealForHandler} instance needed to
+     *                                 process elements annotated with &#64;{@link org.jisel.annotations.SealFor}
+     * @param annotationIndex          {@link AnnotationIndex} of the current round, providing the {@link Element}
+     *                                 instances annotated with &#64;{@link org.jisel.annotations.TopLevel} and
+     *                                 &#64;{@link org.jisel.annotations.SealFor}
+     * @param segregationModelBuilders {@link Map} of the {@link SegregationModel.Builder} instances collecting the segregation
+     *                                 information of each one of the large interfaces to be segregated, by large interface
+     *                                 {@link Element} instance. To be populated and/or modified if needed
      */
     default void processTopLevelAndSealForAnnotatedElements(JiselAnnotationHandler topLevelHandler,
                                                             AbstractSealedSealForHandler sealForHandler,
-                                                            Map<String, Set<Element>> allAnnotatedElementsMap,
-                                                            Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                            Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
+                                                            AnnotationIndex annotationIndex,
+                                                            Map<Element, SegregationModel.Builder> segregationModelBuilders) {
         // process all interface methods annotated with @TopLevel
+        var topLevelEvent = new HandlerPhaseEvent(topLevelHandler, TOP_LEVEL, annotationIndex.topLevelElements().size());
         var topLevelStatusReport = topLevelHandler.handleAnnotatedElements(
-                unmodifiableSet(allAnnotatedElementsMap.get(ALL_ANNOTATED_TOPLEVEL_ELEMENTS)),
-                sealedInterfacesToGenerateByLargeInterface,
-                Map.of()
+                annotationIndex.topLevelElements(),
+                annotationIndex,
+                segregationModelBuilders
         );
+        topLevelEvent.commit(topLevelStatusReport);
         // process all interface methods annotated with @SealFor
+        var sealForEvent = new HandlerPhaseEvent(sealForHandler, SEAL_FOR, annotationIndex.sealForElements().size());
         var sealForStatusReport = sealForHandler.handleAnnotatedElements(
-                unmodifiableSet(allAnnotatedElementsMap.get(ALL_ANNOTATED_SEALFOR_ELEMENTS)),
-                sealedInterfacesToGenerateByLargeInterface,
-                sealedInterfacesPermitsByLargeInterface
+                annotationIndex.sealForElements(),
+                annotationIndex,
+                segregationModelBuilders
         );
+        sealForEvent.commit(sealForStatusReport);
         displayStatusReport(extractLargeInterfacesWithNoTopLevel(sealForStatusReport, topLevelStatusReport), SEAL_FOR, TOP_LEVEL);
     }
 
     /**
-     * Processes {@link Element} instances annotated with &#64;{@link org.jisel.annotations.UnSeal} and populates the
-     * provided {@link Map}s with the collected information
+     * Processes {@link Element} instances annotated with &#64;{@link org.jisel.annotations.UnSeal} and sets the 'unSeal' value
+     * of the {@link SegregationModel.Builder} of each large interface
      *
-     * @param unSealHandler                              {@link org.jisel.handlers.impl.UnSealHandler} instance needed to
-     *                                                   process elements annotated with &#64;{@link org.jisel.annotations.UnSeal}
-     * @param allAnnotatedUnSealElements                 {@link Set} of {@link Element} instances annotated with &#64;{@link org.jisel.annotations.UnSeal}
-     * @param unSealValueByLargeInterface                {@link Map} storing 'unSeal' boolean value for each large interface
-     * @param sealedInterfacesToGenerateByLargeInterface {@link Map} containing information about the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a Set of Element instances as the value.
-     *                                                   The Element instances represent each one of the abstract methods to be
-     *                                                   added to the generated sealed interface corresponding to a profile.
+     * @param unSealHandler            {@link org.jisel.handlers.impl.UnSealHandler} instance needed to
+     *                                 process elements annotated with &#64;{@link org.jisel.annotations.UnSeal}
+     * @param annotationIndex          {@link AnnotationIndex} of the current round, providing the {@link Element}
+     *                                 instances annotated with &#64;{@link org.jisel.annotations.UnSeal}
+     * @param segregationModelBuilders {@link Map} of the {@link SegregationModel.Builder} instances collecting the segregation
+     *                                 information of each one of the large interfaces to be segregated, by large interface
+     *                                 {@link Element} instance. To be populated and/or modified if needed
      */
     default void processUnSealAnnotatedElements(JiselAnnotationHandler unSealHandler,
-                                                Set<Element> allAnnotatedUnSealElements,
-                                                Map<Element, Boolean> unSealValueByLargeInterface,
-                                                Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface) {
+                                                AnnotationIndex annotationIndex,
+                                                Map<Element, SegregationModel.Builder> segregationModelBuilders) {
+        var unSealEvent = new HandlerPhaseEvent(unSealHandler, UNSEAL, annotationIndex.unSealElements().size());
         var unSealStatusReport = unSealHandler.handleAnnotatedElements(
-                unmodifiableSet(allAnnotatedUnSealElements),
-                Map.of(),
-                Map.of()
+                annotationIndex.unSealElements(),
+                annotationIndex,
+                segregationModelBuilders
         );
-        unSealStatusReport.forEach(((element, unSealValueString) -> unSealValueByLargeInterface.put(element, Boolean.valueOf(unSealValueString))));
+        unSealEvent.commit(unSealStatusReport);
         // report any interfaces tagged with @UnSeal but not containing methods tagged with @TopLevel
-        displayStatusReport(extractUnSealedInterfacesWithNoTopLevel(unSealStatusReport, sealedInterfacesToGenerateByLargeInterface), UNSEAL);
+        displayStatusReport(extractUnSealedInterfacesWithNoTopLevel(unSealStatusReport, segregationModelBuilders), UNSEAL);
     }
 
     /**
      * Processes {@link Element} instances annotated with &#64;{@link org.jisel.annotations.Detach} and &#64;{@link org.jisel.annotations.DetachAll}
-     * and populates the provided {@link Map}s with the collected information
+     * and adds the detached interfaces to generate to the {@link SegregationModel.Builder} of each large interface
      *
-     * @param detachHandler                                {@link org.jisel.handlers.impl.DetachHandler} instance needed to
-     *                                                     process elements annotated with &#64;{@link org.jisel.annotations.Detach}
-     *                                                     and &#64;{@link org.jisel.annotations.DetachAll}
-     * @param allAnnotatedDetachElements                   {@link Set} of {@link Element} instances annotated with &#64;{@link org.jisel.annotations.Detach}
-     *                                                     and &#64;{@link org.jisel.annotations.DetachAll}
-     * @param sealedInterfacesToGenerateByLargeInterface   {@link Map} containing information about the sealed interfaces to be generated.
-     *                                                     To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                     each one of the large interfaces to be segregated, while the associated value is
-     *                                                     a Map of profile name as the key and a Set of Element instances as the value.
-     *                                                     The Element instances represent each one of the abstract methods to be
-     *                                                     added to the generated sealed interface corresponding to a profile.
-     * @param sealedInterfacesPermitsByLargeInterface      {@link Map} containing information about the subtypes permitted by
-     *                                                     each one of the sealed interfaces to be generated.
-     *                                                     To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                     each one of the large interfaces to be segregated, while the associated value is
-     *                                                     a Map of profile name as the key and a List of profiles names as the value.
-     * @param detachedInterfacesToGenerateByLargeInterface {@link Map} containing information about the detached interfaces to
-     *                                                     be generated for each large interface
+     * @param detachHandler            {@link org.jisel.handlers.impl.DetachHandler} instance needed to
+     *                                 process elements annotated with &#64;{@link org.jisel.annotations.Detach}
+     *                                 and &#64;{@link org.jisel.annotations.DetachAll}
+     * @param annotationIndex          {@link AnnotationIndex} of the current round, providing the {@link Element}
+     *                                 instances annotated with &#64;{@link org.jisel.annotations.Detach}
+     *                                 and &#64;{@link org.jisel.annotations.DetachAll}
+     * @param segregationModelBuilders {@link Map} of the {@link SegregationModel.Builder} instances collecting the segregation
+     *                                 information of each one of the large interfaces to be segregated, by large interface
+     *                                 {@link Element} instance. To be populated and/or modified if needed
      */
     default void processDetachAnnotatedElements(AbstractSealedDetachHandler detachHandler,
-                                                Set<Element> allAnnotatedDetachElements,
-                                                Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface,
-                                                Map<Element, Map<String, Map<String, Object>>> detachedInterfacesToGenerateByLargeInterface) {
-        var detachStatusReport = detachHandler.handleDetachAnnotatedElements(
-                unmodifiableSet(allAnnotatedDetachElements),
-                unmodifiableMap(sealedInterfacesToGenerateByLargeInterface),
-                unmodifiableMap(sealedInterfacesPermitsByLargeInterface),
-                detachedInterfacesToGenerateByLargeInterface
+                                                AnnotationIndex annotationIndex,
+                                                Map<Element, SegregationModel.Builder> segregationModelBuilders) {
+        var detachEvent = new HandlerPhaseEvent(detachHandler, DETACH, annotationIndex.detachElements().size());
+        var detachStatusReport = detachHandler.handleAnnotatedElements(
+                annotationIndex.detachElements(),
+                annotationIndex,
+                unmodifiableMap(segregationModelBuilders)
         );
+        detachEvent.commit(detachStatusReport);
         displayStatusReport(detachStatusReport, DETACH, DETACH_ALL);
     }
 
     /**
-     * Processes {@link Element} instances annotated with &#64;{@link org.jisel.annotations.AddTo} and populates the
-     * provided {@link Map}s with the collected information
+     * Processes {@link Element} instances annotated with &#64;{@link org.jisel.annotations.AddTo} and adds them to the permitted
+     * subtypes stored in the {@link SegregationModel.Builder} of each large interface
      *
-     * @param addToHandler                               {@link org.jisel.handlers.impl.AddToHandler} instance needed to
-     *                                                   process elements annotated with &#64;{@link org.jisel.annotations.AddTo}
-     * @param allAnnotatedAddToElements                  {@link Set} of {@link Element} instances annotated with &#64;{@link org.jisel.annotations.AddTo}
-     * @param sealedInterfacesToGenerateByLargeInterface {@link Map} containing information about the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a Set of Element instances as the value.
-     *                                                   The Element instances represent each one of the abstract methods to be
-     *                                                   added to the generated sealed interface corresponding to a profile.
-     * @param sealedInterfacesPermitsByLargeInterface    {@link Map} containing information about the subtypes permitted by
-     *                                                   each one of the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a List of profiles names as the value.
+     * @param addToHandler             {@link org.jisel.handlers.impl.AddToHandler} instance needed to
+     *                                 process elements annotated with &#64;{@link org.jisel.annotations.AddTo}
+     * @param annotationIndex          {@link AnnotationIndex} of the current round, providing the {@link Element}
+     *                                 instances annotated with &#64;{@link org.jisel.annotations.AddTo}
+     * @param segregationModelBuilders {@link Map} of the {@link SegregationModel.Builder} instances collecting the segregation
+     *                                 information of each one of the large interfaces to be segregated, by large interface
+     *                                 {@link Element} instance. To be populated and/or modified if needed
      */
     default void processAddToAnnotatedElements(AbstractSealedAddToHandler addToHandler,
-                                               Set<Element> allAnnotatedAddToElements,
-                                               Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                               Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
+                                               AnnotationIndex annotationIndex,
+                                               Map<Element, SegregationModel.Builder> segregationModelBuilders) {
         // process all child classes or interfaces annotated with @AddTo
+        var addToEvent = new HandlerPhaseEvent(addToHandler, ADD_TO, annotationIndex.addToElements().size());
         var addToStatusReport = addToHandler.handleAnnotatedElements(
-                unmodifiableSet(allAnnotatedAddToElements),
-                unmodifiableMap(sealedInterfacesToGenerateByLargeInterface),
-                sealedInterfacesPermitsByLargeInterface
+                annotationIndex.addToElements(),
+                annotationIndex,
+                unmodifiableMap(segregationModelBuilders)
         );
+        addToEvent.commit(addToStatusReport);
         displayStatusReport(addToStatusReport, ADD_TO);
     }
 
     /**
-     * At the end of all annotated elements processing, checks whether the permits {@link Map} has only 1 single entry (which is
-     * the top-level interface) with an empty children list. If so, modify the permits map by adding the generated final class.
+     * At the end of all annotated elements processing, checks whether the permits relations of a large interface have only 1
+     * single entry (which is the top-level interface) with an empty children list. If so, adds the generated final class to it.
      *
-     * @param sealedInterfacesPermitsByLargeInterface {@link Map} containing information about the subtypes permitted by
-     *                                                each one of the sealed interfaces to be generated
+     * @param segregationModelBuilders {@link Map} of the {@link SegregationModel.Builder} instances of the large interfaces to be segregated
      */
-    default void checkForPermitsMapWithSingleEntryPerLargeInterface(Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
-        sealedInterfacesPermitsByLargeInterface.entrySet().stream().forEach(
-                mapEntry -> {
-                    var largeInterfaceElementSimpleName = mapEntry.getKey().getSimpleName().toString();
-                    var permitsMap = mapEntry.getValue();
-                    if (permitsMap.size() == 1 && permitsMap.get(largeInterfaceElementSimpleName).isEmpty()) {
-                        permitsMap.put(largeInterfaceElementSimpleName, List.of(UNDERSCORE + largeInterfaceElementSimpleName + FINAL_CLASS_SUFFIX));
-                    }
-                }
-        );
+    default void checkForPermitsMapWithSingleEntryPerLargeInterface(Map<Element, SegregationModel.Builder> segregationModelBuilders) {
+        segregationModelBuilders.forEach((largeInterfaceElement, segregationModelBuilder) -> {
+            var largeInterfaceElementSimpleName = largeInterfaceElement.getSimpleName().toString();
+            var permitsMap = segregationModelBuilder.permitsMap();
+            if (permitsMap.size() == 1 && permitsMap.get(largeInterfaceElementSimpleName).isEmpty()) {
+                segregationModelBuilder.putPermits(largeInterfaceElementSimpleName, List.of(UNDERSCORE + largeInterfaceElementSimpleName + FINAL_CLASS_SUFFIX));
+            }
+        });
+    }
+
+    /**
+     * Once all annotated elements have been processed, freezes the {@link SegregationModel.Builder} of each large interface into
+     * a {@link SegregationModel}, which is the only input the source files generators work with
+     *
+     * @param segregationModelBuilders {@link Map} of the {@link SegregationModel.Builder} instances of the large interfaces to be segregated
+     * @return {@link List} of {@link SegregationModel} instances, 1 per large interface
+     */
+    default List<SegregationModel> buildSegregationModels(Map<Element, SegregationModel.Builder> segregationModelBuilders) {
+        var segregationModels = new ArrayList<SegregationModel>(segregationModelBuilders.size());
+        segregationModelBuilders.values().forEach(segregationModelBuilder -> segregationModels.add(segregationModelBuilder.build()));
+        return segregationModels;
     }
 
     private Map<Element, String> extractLargeInterfacesWithNoTopLevel(Map<Element, String> sealForStatusReport,
@@ -304,8 +315,8 @@ public sealed interface AnnotationProcessor permits JiselAnnotationProcessor {
     }
 
     private Map<Element, String> extractUnSealedInterfacesWithNoTopLevel(Map<Element, String> unSealStatusReport,
-                                                                         Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface) {
-        sealedInterfacesToGenerateByLargeInterface.keySet().forEach(unSealStatusReport::remove);
+                                                                         Map<Element, SegregationModel.Builder> segregationModelBuilders) {
+        segregationModelBuilders.keySet().forEach(unSealStatusReport::remove);
         unSealStatusReport.replaceAll((key, value) -> UNSEAL_REPORT_NO_TOPLEVEL_MSG);
         return unSealStatusReport;
     }
@@ -22,14 +22,24 @@
 package org.jisel;
 
 import com.google.auto.service.AutoService;
+import com.sun.source.util.Trees;
 import org.jisel.annotations.AddTo;
 import org.jisel.annotations.Detach;
 import org.jisel.annotations.DetachAll;
 import org.jisel.annotations.SealFor;
 import org.jisel.annotations.TopLevel;
 import org.jisel.annotations.UnSeal;
+import org.jisel.events.RoundEvent;
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.LargeInterfaceCost;
+import org.jisel.generators.ProcessingStats;
+import org.jisel.generators.SegregationModel;
+import org.jisel.generators.filegen.SourceFileGenerator;
 import org.jisel.generators.filegen.impl.InterfaceSourceFileGenerator;
+import org.jisel.handlers.AbstractSealedAddToHandler;
+import org.jisel.handlers.AbstractSealedDetachHandler;
 import org.jisel.handlers.AbstractSealedSealForHandler;
+import org.jisel.handlers.AnnotationIndex;
 import org.jisel.handlers.JiselAnnotationHandler;
 import org.jisel.handlers.impl.AddToHandler;
 import org.jisel.handlers.impl.DetachHandler;
@@ -38,24 +48,44 @@ import org.jisel.handlers.impl.TopLevelHandler;
 import org.jisel.handlers.impl.UnSealHandler;
 
 import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static org.jisel.generators.AppInfoGenerator.loadAppInfo;
+import static org.jisel.generators.ProcessingStats.ADDTO_PHASE;
+import static org.jisel.generators.ProcessingStats.ANNOTATED_ELEMENTS_PHASE;
+import static org.jisel.generators.ProcessingStats.DETACH_PHASE;
+import static org.jisel.generators.ProcessingStats.PERMITS_CHECK_PHASE;
+import static org.jisel.generators.ProcessingStats.SEGREGATION_MODELS_PHASE;
+import static org.jisel.generators.ProcessingStats.TOPLEVEL_SEALFOR_PHASE;
+import static org.jisel.generators.ProcessingStats.UNSEAL_PHASE;
+import static org.jisel.generators.ProcessingStats.largeInterfaceCostsSummary;
+import static org.jisel.generators.ProcessingStats.toMillis;
 import static org.jisel.generators.StringGenerator.NEW_LINE;
 import static org.jisel.generators.StringGenerator.ORG_JISEL_ADD_TO;
 import static org.jisel.generators.StringGenerator.ORG_JISEL_ADD_TOS;
@@ -74,109 +104,160 @@ import static org.jisel.generators.StringGenerator.ORG_JISEL_UNSEAL;
 @SupportedAnnotationTypes({ORG_JISEL_TOP_LEVEL, ORG_JISEL_ADD_TO, ORG_JISEL_SEAL_FOR, ORG_JISEL_SEAL_FORS, ORG_JISEL_ADD_TOS,
         ORG_JISEL_UNSEAL, ORG_JISEL_DETACH, ORG_JISEL_DETACHALL, ORG_JISEL_DETACHS})
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
+@SupportedOptions({AnnotationProcessor.JISEL_REPRODUCIBLE_OPTION, AnnotationProcessor.JISEL_FINGERPRINT_OPTION,
+        AnnotationProcessor.JISEL_PARALLELISM_OPTION, AnnotationProcessor.JISEL_STATS_OPTION, AnnotationProcessor.JISEL_STATS_FILE_OPTION,
+        AnnotationProcessor.JISEL_BUDGET_MS_OPTION, AnnotationProcessor.JISEL_BUDGET_ARTIFACTS_OPTION})
 @AutoService(Processor.class)
 public final class JiselAnnotationProcessor extends AbstractProcessor implements AnnotationProcessor {
 
+    // number of the most expensive large interfaces listed in the costs summary reported at the end of the processing
+    private static final int LARGE_INTERFACE_COSTS_SUMMARY_SIZE = 10;
+
+    // prefix of the parameters names synthesized by javac, followed by the parameter position
+    private static final String SYNTHESIZED_PARAMETER_NAME_PREFIX = "arg";
+
     private final Logger log = Logger.getLogger(JiselAnnotationProcessor.class.getName());
 
     private final JiselAnnotationHandler topLevelHandler;
     private final AbstractSealedSealForHandler sealForHandler;
     private final JiselAnnotationHandler unSealHandler;
+    private final AppInfo appInfo;
+
+    // the following 3 objects need the ProcessingEnvironment, they are created once in init()
+    private AbstractSealedAddToHandler addToHandler;
+    private AbstractSealedDetachHandler detachHandler;
+    private SourceFileGenerator interfaceSourceFileGenerator;
+
+    private final List<LargeInterfaceCost> largeInterfaceCosts = new ArrayList<>();
+
+    private int round;
+
+    private boolean statsEnabled;
+
+    private OptionalLong timeBudgetMillis;
+
+    private OptionalLong artifactsBudget;
+
+    // null when the javac trees are not available: the large interfaces read from class files cannot be told apart
+    private Trees trees;
 
     /**
-     * JiselAnnotationProcessor constructor. Initializes needed instances of {@link SealForHandler}, {@link AddToHandler},
-     * {@link TopLevelHandler}, {@link UnSealHandler} and {@link InterfaceSourceFileGenerator}
+     * JiselAnnotationProcessor constructor. Initializes needed instances of {@link SealForHandler}, {@link TopLevelHandler} and
+     * {@link UnSealHandler}, and loads the {@link AppInfo} once. The instances of {@link AddToHandler}, {@link DetachHandler} and
+     * {@link InterfaceSourceFileGenerator} are created once the {@link ProcessingEnvironment} is provided, and reused by all the rounds
      */
     public JiselAnnotationProcessor() {
         this.sealForHandler = new SealForHandler();
         this.topLevelHandler = new TopLevelHandler();
         this.unSealHandler = new UnSealHandler();
+        this.appInfo = loadAppInfo();
+    }
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.addToHandler = new AddToHandler(processingEnv);
+        this.detachHandler = new DetachHandler(processingEnv);
+        this.interfaceSourceFileGenerator = new InterfaceSourceFileGenerator(processingEnv, appInfo);
+        this.statsEnabled = Boolean.parseBoolean(processingEnv.getOptions().get(JISEL_STATS_OPTION));
+        this.timeBudgetMillis = readBudgetOption(JISEL_BUDGET_MS_OPTION);
+        this.artifactsBudget = readBudgetOption(JISEL_BUDGET_ARTIFACTS_OPTION);
+        this.trees = loadTrees(processingEnv);
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
 
-        // the following 3 objects must be instantiating only when processingEnv is != null
-        var addToHandler = new AddToHandler(processingEnv);
-        var detachHandler = new DetachHandler(processingEnv);
-        var interfaceSourceFileGenerator = new InterfaceSourceFileGenerator(processingEnv);
-
-        var allAnnotatedSealForElements = new HashSet<Element>();
-        var allAnnotatedTopLevelElements = new HashSet<Element>();
-        var allAnnotatedAddToElements = new HashSet<Element>();
-        var allAnnotatedUnSealElements = new HashSet<Element>();
-        var allAnnotatedDetachElements = new HashSet<Element>();
-
-        var sealedInterfacesToGenerateByLargeInterface = new HashMap<Element, Map<String, Set<Element>>>();
-        var sealedInterfacesPermitsByLargeInterface = new HashMap<Element, Map<String, List<String>>>();
-        var unSealValueByLargeInterface = new HashMap<Element, Boolean>();
-        var detachedInterfacesToGenerateByLargeInterface = new HashMap<Element, Map<String, Map<String, Object>>>();
-
-        populateAllAnnotatedElementsSets(
-                annotations,
-                roundEnv,
-                Map.of(
-                        ALL_ANNOTATED_TOPLEVEL_ELEMENTS, allAnnotatedTopLevelElements,
-                        ALL_ANNOTATED_SEALFOR_ELEMENTS, allAnnotatedSealForElements,
-                        ALL_ANNOTATED_ADDTO_ELEMENTS, allAnnotatedAddToElements,
-                        ALL_ANNOTATED_UNSEAL_ELEMENTS, allAnnotatedUnSealElements,
-                        ALL_ANNOTATED_DETACH_ELEMENTS, allAnnotatedDetachElements
-                )
-        );
+        round++;
+        // rounds without any Jisel annotation, including the final one, have nothing to handle nor to generate
+        if (annotations.isEmpty() || roundEnv.processingOver()) {
+            if (statsEnabled && roundEnv.processingOver() && !largeInterfaceCosts.isEmpty()) {
+                reportLargeInterfaceCosts();
+            }
+            return true;
+        }
+
+        var roundEvent = new RoundEvent(round, annotations.size());
+        // the budgets are checked against the costs recorded by the processing stats
+        var processingStats = new ProcessingStats(statsEnabled || timeBudgetMillis.isPresent() || artifactsBudget.isPresent());
+        var segregatedLargeInterfacesCount = 0;
+        var generatedFilesCount = 0;
+
+        var phaseStart = processingStats.start();
+        var annotationIndex = AnnotationIndex.of(annotations, roundEnv, processingEnv.getElementUtils());
+        processingStats.record(ANNOTATED_ELEMENTS_PHASE, phaseStart);
 
         // continue execution only if at least 1 element has been annotated with @TopLevel
-        if (!allAnnotatedTopLevelElements.isEmpty()) {
+        if (!annotationIndex.topLevelElements().isEmpty()) {
+
+            // large interfaces kept in round order, so that the warnings are reported in the same order from one build to another
+            var segregationModelBuilders = new LinkedHashMap<Element, SegregationModel.Builder>();
 
+            phaseStart = processingStats.start();
             processTopLevelAndSealForAnnotatedElements(
                     topLevelHandler,
                     sealForHandler,
-                    Map.of(
-                            ALL_ANNOTATED_TOPLEVEL_ELEMENTS, allAnnotatedTopLevelElements,
-                            ALL_ANNOTATED_SEALFOR_ELEMENTS, allAnnotatedSealForElements
-                    ),
-                    sealedInterfacesToGenerateByLargeInterface,
-                    sealedInterfacesPermitsByLargeInterface
+                    annotationIndex,
+                    segregationModelBuilders
             );
+            processingStats.record(TOPLEVEL_SEALFOR_PHASE, phaseStart);
+            segregationModelBuilders.keySet().forEach(this::checkParametersNames);
 
+            phaseStart = processingStats.start();
             processUnSealAnnotatedElements(
                     unSealHandler,
-                    allAnnotatedUnSealElements,
-                    unSealValueByLargeInterface,
-                    sealedInterfacesToGenerateByLargeInterface
+                    annotationIndex,
+                    segregationModelBuilders
             );
+            processingStats.record(UNSEAL_PHASE, phaseStart);
 
+            phaseStart = processingStats.start();
             processDetachAnnotatedElements(
                     detachHandler,
-                    allAnnotatedDetachElements,
-                    sealedInterfacesToGenerateByLargeInterface,
-                    sealedInterfacesPermitsByLargeInterface,
-                    detachedInterfacesToGenerateByLargeInterface
+                    annotationIndex,
+                    segregationModelBuilders
             );
+            processingStats.record(DETACH_PHASE, phaseStart);
 
+            phaseStart = processingStats.start();
             processAddToAnnotatedElements(
                     addToHandler,
-                    allAnnotatedAddToElements,
-                    sealedInterfacesToGenerateByLargeInterface,
-                    sealedInterfacesPermitsByLargeInterface
+                    annotationIndex,
+                    segregationModelBuilders
             );
+            processingStats.record(ADDTO_PHASE, phaseStart);
+
+            phaseStart = processingStats.start();
+            checkForPermitsMapWithSingleEntryPerLargeInterface(segregationModelBuilders);
+            processingStats.record(PERMITS_CHECK_PHASE, phaseStart);
 
-            checkForPermitsMapWithSingleEntryPerLargeInterface(sealedInterfacesPermitsByLargeInterface);
+            phaseStart = processingStats.start();
+            var segregationModels = buildSegregationModels(segregationModelBuilders);
+            processingStats.record(SEGREGATION_MODELS_PHASE, phaseStart);
+            segregatedLargeInterfacesCount = segregationModels.size();
 
             try {
-                var generatedFiles = interfaceSourceFileGenerator.createSourceFiles(
-                        sealedInterfacesToGenerateByLargeInterface,
-                        sealedInterfacesPermitsByLargeInterface,
-                        unSealValueByLargeInterface,
-                        detachedInterfacesToGenerateByLargeInterface
-                );
-                if (!generatedFiles.isEmpty()) {
-                    log.info(() -> format("%s:%n%s", FILE_GENERATION_SUCCESS, generatedFiles.stream().collect(joining(NEW_LINE))));
+                var sourceFiles = interfaceSourceFileGenerator.createSourceFiles(segregationModels, processingStats);
+                generatedFilesCount = sourceFiles.generatedFiles().size();
+                if (!sourceFiles.generatedFiles().isEmpty()) {
+                    log.info(() -> format("%s:%n%s", FILE_GENERATION_SUCCESS, sourceFiles.generatedFiles().stream().collect(joining(NEW_LINE))));
+                }
+                if (!sourceFiles.upToDateFiles().isEmpty()) {
+                    log.info(() -> format("%s:%n%s", FILE_GENERATION_UP_TO_DATE, sourceFiles.upToDateFiles().stream().collect(joining(NEW_LINE))));
                 }
             } catch (IOException e) {
                 log.log(Level.SEVERE, FILE_GENERATION_ERROR, e);
             }
         }
 
+        if (statsEnabled) {
+            reportProcessingStats(processingStats);
+        }
+        var roundLargeInterfaceCosts = processingStats.largeInterfaceCosts();
+        roundLargeInterfaceCosts.forEach(this::checkBudgets);
+        largeInterfaceCosts.addAll(roundLargeInterfaceCosts);
+        roundEvent.commit(segregatedLargeInterfacesCount, generatedFilesCount);
+
         return true;
     }
 
@@ -184,4 +265,118 @@ public final class JiselAnnotationProcessor extends AbstractProcessor implements
     public void notifyStatusReportDisplay(String statusReportText) {
         log.warning(statusReportText::toString);
     }
+
+    private void reportProcessingStats(ProcessingStats processingStats) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, processingStats.summary(round, false));
+        appendToStatsFile(processingStats.summary(round, true));
+    }
+
+    private void reportLargeInterfaceCosts() {
+        processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                largeInterfaceCostsSummary(largeInterfaceCosts, LARGE_INTERFACE_COSTS_SUMMARY_SIZE)
+        );
+        appendToStatsFile(largeInterfaceCostsSummary(largeInterfaceCosts, largeInterfaceCosts.size()));
+    }
+
+    private void appendToStatsFile(String text) {
+        var statsFile = processingEnv.getOptions().get(JISEL_STATS_FILE_OPTION);
+        if (statsFile != null) {
+            try {
+                Files.writeString(Path.of(statsFile), text, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (IOException | InvalidPathException e) {
+                log.log(Level.WARNING, format(STATS_FILE_WRITING_ERROR, statsFile), e);
+            }
+        }
+    }
+
+    private void checkBudgets(LargeInterfaceCost largeInterfaceCost) {
+        var largeInterfaceElement = processingEnv.getElementUtils().getTypeElement(largeInterfaceCost.largeInterface());
+        timeBudgetMillis.ifPresent(budget -> {
+            if (largeInterfaceCost.cumulativeNanos() > budget * 1_000_000L) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, format(
+                        TIME_BUDGET_EXCEEDED_MSG,
+                        largeInterfaceCost.largeInterface(),
+                        toMillis(largeInterfaceCost.cumulativeNanos()),
+                        budget,
+                        JISEL_BUDGET_MS_OPTION
+                ), largeInterfaceElement);
+            }
+        });
+        artifactsBudget.ifPresent(budget -> {
+            if (largeInterfaceCost.artifactsCount() > budget) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, format(
+                        ARTIFACTS_BUDGET_EXCEEDED_MSG,
+                        largeInterfaceCost.largeInterface(),
+                        largeInterfaceCost.artifactsCount(),
+                        budget,
+                        JISEL_BUDGET_ARTIFACTS_OPTION
+                ), largeInterfaceElement);
+            }
+        });
+    }
+
+    // javac names the parameters arg0, arg1,... when the class file of a large interface does not contain their names. Large
+    // interfaces read from sources have a tree path, their parameters names are the declared ones
+    private void checkParametersNames(Element largeInterfaceElement) {
+        if (trees == null || trees.getPath(largeInterfaceElement) != null) {
+            return;
+        }
+        var parametersLists = ElementFilter.methodsIn(largeInterfaceElement.getEnclosedElements()).stream()
+                .map(ExecutableElement::getParameters)
+                .filter(parameters -> !parameters.isEmpty())
+                .toList();
+        var synthesizedNames = !parametersLists.isEmpty() && parametersLists.stream().allMatch(parameters ->
+                IntStream.range(0, parameters.size()).allMatch(i -> parameters.get(i).getSimpleName().contentEquals(SYNTHESIZED_PARAMETER_NAME_PREFIX + i)));
+        if (synthesizedNames) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, format(
+                    SYNTHESIZED_PARAMETERS_NAMES_MSG,
+                    largeInterfaceElement,
+                    largeInterfaceElement.getSimpleName()
+            ), largeInterfaceElement);
+        }
+    }
+
+    // build tools may wrap the javac processing environment (ex: Gradle incremental compilation), which is then looked up
+    // among the fields of the wrapper
+    private static Trees loadTrees(ProcessingEnvironment processingEnvironment) {
+        try {
+            return Trees.instance(processingEnvironment);
+        } catch (IllegalArgumentException e) {
+            for (var field : processingEnvironment.getClass().getDeclaredFields()) {
+                if (ProcessingEnvironment.class.isAssignableFrom(field.getType())) {
+                    try {
+                        field.setAccessible(true);
+                        var wrappedProcessingEnvironment = (ProcessingEnvironment) field.get(processingEnvironment);
+                        if (wrappedProcessingEnvironment != null && wrappedProcessingEnvironment != processingEnvironment) {
+                            return loadTrees(wrappedProcessingEnvironment);
+                        }
+                    } catch (ReflectiveOperationException | RuntimeException inaccessibleField) {
+                        // handled below
+                    }
+                }
+            }
+            return null;
+        } catch (LinkageError e) {
+            // not running on javac
+            return null;
+        }
+    }
+
+    private OptionalLong readBudgetOption(String budgetOptionName) {
+        var budgetOptionValue = processingEnv.getOptions().get(budgetOptionName);
+        if (budgetOptionValue == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            var budgetValue = Long.parseLong(budgetOptionValue.strip());
+            if (budgetValue >= 1) {
+                return OptionalLong.of(budgetValue);
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        log.warning(() -> format(INVALID_BUDGET_OPTION_MSG, budgetOptionName, budgetOptionValue));
+        return OptionalLong.empty();
+    }
 }
\ No newline at end of file
@@ -38,7 +38,7 @@ import static org.jisel.generators.StringGenerator.EMPTY_STRING;
  * <b>largeInterface</b>: <u>MANDATORY</u> - <i>.class</i> representation of the large interface. That would be the <b>&#60;LargeInterfaceSimpleName&#62;</b> as seen in
  * the sealed interface name convention, followed by "<i>.class</i>".<br>
  */
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Target({ElementType.TYPE})
 @Repeatable(AddTo.AddTos.class)
 public @interface AddTo {
@@ -64,7 +64,7 @@ public @interface AddTo {
     /**
      * Internal annotation allowing &#64;AddTo to be repeatable
      */
-    @Retention(RetentionPolicy.SOURCE)
+    @Retention(RetentionPolicy.CLASS)
     @Target(ElementType.TYPE)
     @interface AddTos {
         /**
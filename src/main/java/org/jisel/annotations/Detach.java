@@ -37,7 +37,7 @@ import static org.jisel.generators.StringGenerator.EMPTY_STRING;
  * Flexibility is offered, allowing to choose a new name for the generated interface, specify which superInterfaces (along with generics) the generated interface should extend, and list qualified names of annotations (along with their attributes/values) to be added on top of the generated interface. <br>
  * All generated detached interfaces are stored in the created <i>detached</i> sub-package.<br>
  */
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Target(ElementType.TYPE)
 @Repeatable(Detach.Detachs.class)
 public @interface Detach {
@@ -97,7 +97,7 @@ public @interface Detach {
     /**
      * Internal annotation allowing &#64;Detach to be repeatable
      */
-    @Retention(RetentionPolicy.SOURCE)
+    @Retention(RetentionPolicy.CLASS)
     @Target(ElementType.TYPE)
     @interface Detachs {
         /**
@@ -33,7 +33,7 @@ import java.lang.annotation.Target;
  * Does not provide as much flexibility as the &#64;{@link Detach} annotation.<br>
  * All generated detached interfaces are stored in the created <i>detached.all</i> sub-package.
  */
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Target({ElementType.TYPE})
 public @interface DetachAll {
 }
\ No newline at end of file
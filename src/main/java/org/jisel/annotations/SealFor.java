@@ -36,7 +36,7 @@ import java.lang.annotation.Target;
  * <b>Sealed&#60;ProfileName&#62;&#60;LargeInterfaceSimpleName&#62;</b><br>
  * (<b>&#60;LargeInterfaceSimpleName&#62;</b> corresponds to the simplename of the interface being segregated).
  */
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Target({ElementType.METHOD})
 @Repeatable(SealFor.SealFors.class)
 public @interface SealFor {
@@ -52,7 +52,7 @@ public @interface SealFor {
     /**
      * Internal annotation allowing &#64;{@link SealFor} to be repeatable
      */
-    @Retention(RetentionPolicy.SOURCE)
+    @Retention(RetentionPolicy.CLASS)
     @Target(ElementType.METHOD)
     @interface SealFors {
         /**
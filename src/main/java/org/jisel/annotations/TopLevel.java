@@ -36,7 +36,7 @@ import java.lang.annotation.Target;
  * The generated sealed interface will contain all abstract methods annotated with &#64;TopLevel.<br><br>
  * Also, any other Jisel annotation combined with &#64;TopLevel on the same abstract method, will be ignored in the processing.
  */
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Target({ElementType.METHOD})
 public @interface TopLevel {
 }
\ No newline at end of file
@@ -34,7 +34,7 @@ import java.lang.annotation.Target;
  * Each one of the generated interfaces follows the naming convention: <b>&#60;ProfileName&#62;&#60;LargeInterfaceSimpleName&#62;</b><br>
  * (<b>&#60;LargeInterfaceSimpleName&#62;</b> is the simplename of the large interface being segregated).<br><br>
  */
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @Target({ElementType.TYPE})
 public @interface UnSeal {
 
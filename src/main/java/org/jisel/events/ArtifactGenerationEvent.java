@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event spanning the writing of a generated file through the {@link javax.annotation.processing.Filer}.<br>
+ * Unless the files content is rendered in parallel, the rendering of the content is part of the event
+ */
+@Name("org.jisel.ArtifactGeneration")
+@Label("Jisel Artifact Generation")
+@Category("Jisel")
+@Description("Rendering and writing of a file generated by Jisel")
+@StackTrace(false)
+public final class ArtifactGenerationEvent extends jdk.jfr.Event {
+
+    @Label("Large Interface")
+    private final String largeInterface;
+
+    @Label("Qualified Name")
+    private final String qualifiedName;
+
+    @Label("Kind")
+    @Description("sealed, unsealed, final, detached, report or fingerprint")
+    private final String kind;
+
+    @Label("Methods")
+    @Description("Number of abstract methods declared by the generated type")
+    private final int methodsCount;
+
+    @Label("Bytes Written")
+    @Description("Size of the generated file, encoded in UTF-8")
+    @DataAmount
+    private long bytesWritten;
+
+    /**
+     * ArtifactGenerationEvent constructor. Starts timing the generation of the file
+     *
+     * @param largeInterface qualified name of the large interface the file is generated for
+     * @param qualifiedName  qualified name of the generated type, or of the generated resource file
+     * @param kind           kind of the generated file
+     * @param methodsCount   number of abstract methods declared by the generated type
+     */
+    public ArtifactGenerationEvent(String largeInterface, String qualifiedName, String kind, int methodsCount) {
+        this.largeInterface = largeInterface;
+        this.qualifiedName = qualifiedName;
+        this.kind = kind;
+        this.methodsCount = methodsCount;
+        begin();
+    }
+
+    /**
+     * Ends timing the generation of the file and commits the event if it is enabled
+     *
+     * @param bytesWritten size of the generated file, encoded in UTF-8
+     */
+    public void commit(long bytesWritten) {
+        if (shouldCommit()) {
+            this.bytesWritten = bytesWritten;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jisel.handlers.JiselAnnotationHandler;
+
+import javax.lang.model.element.Element;
+import java.util.Map;
+
+/**
+ * JDK Flight Recorder event spanning the handling of the annotated elements by one {@link JiselAnnotationHandler}
+ */
+@Name("org.jisel.HandlerPhase")
+@Label("Jisel Handler Phase")
+@Category("Jisel")
+@Description("Handling of the elements annotated with a Jisel annotation")
+@StackTrace(false)
+public final class HandlerPhaseEvent extends jdk.jfr.Event {
+
+    @Label("Handler")
+    private final String handler;
+
+    @Label("Annotation")
+    private final String annotation;
+
+    @Label("Annotated Elements")
+    @Description("Number of elements handled")
+    private final int annotatedElementsCount;
+
+    @Label("Reported Elements")
+    @Description("Number of elements with a non blank status report")
+    private int reportedElementsCount;
+
+    /**
+     * HandlerPhaseEvent constructor. Starts timing the handler phase
+     *
+     * @param handler                {@link JiselAnnotationHandler} instance handling the annotated elements
+     * @param annotation             simple name of the handled annotation(s)
+     * @param annotatedElementsCount number of elements handled
+     */
+    public HandlerPhaseEvent(JiselAnnotationHandler handler, String annotation, int annotatedElementsCount) {
+        this.handler = handler.getClass().getSimpleName();
+        this.annotation = annotation;
+        this.annotatedElementsCount = annotatedElementsCount;
+        begin();
+    }
+
+    /**
+     * Ends timing the handler phase and commits the event if it is enabled
+     *
+     * @param statusReport status report returned by the handler
+     */
+    public void commit(Map<Element, String> statusReport) {
+        if (shouldCommit()) {
+            this.reportedElementsCount = (int) statusReport.values().stream().filter(report -> !report.isBlank()).count();
+            commit();
+        }
+    }
+}
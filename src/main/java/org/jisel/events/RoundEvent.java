@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event spanning a processing round of the Jisel annotation processor
+ */
+@Name("org.jisel.Round")
+@Label("Jisel Round")
+@Category("Jisel")
+@Description("Processing round of the Jisel annotation processor")
+@StackTrace(false)
+public final class RoundEvent extends jdk.jfr.Event {
+
+    @Label("Round")
+    private final int round;
+
+    @Label("Annotations")
+    @Description("Number of Jisel annotations present in the round")
+    private final int annotationsCount;
+
+    @Label("Large Interfaces")
+    @Description("Number of large interfaces segregated during the round")
+    private int largeInterfacesCount;
+
+    @Label("Generated Files")
+    @Description("Number of files generated, or found up to date, during the round")
+    private int generatedFilesCount;
+
+    /**
+     * RoundEvent constructor. Starts timing the round
+     *
+     * @param round            number of the processing round
+     * @param annotationsCount number of Jisel annotations present in the round
+     */
+    public RoundEvent(int round, int annotationsCount) {
+        this.round = round;
+        this.annotationsCount = annotationsCount;
+        begin();
+    }
+
+    /**
+     * Ends timing the round and commits the event if it is enabled
+     *
+     * @param largeInterfacesCount number of large interfaces segregated during the round
+     * @param generatedFilesCount  number of files generated, or found up to date, during the round
+     */
+    public void commit(int largeInterfacesCount, int generatedFilesCount) {
+        if (shouldCommit()) {
+            this.largeInterfacesCount = largeInterfacesCount;
+            this.generatedFilesCount = generatedFilesCount;
+            commit();
+        }
+    }
+}
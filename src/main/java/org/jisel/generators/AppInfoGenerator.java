@@ -27,8 +27,8 @@ import java.io.IOException;
 import java.util.Properties;
 
 /**
- * Exposes a bunch of String constants related to the app information (name, version, main class,...) along with a static
- * function allowing to read from a properties file
+ * Exposes a bunch of String constants related to the app information (name, version, main class,...) along with static
+ * functions allowing to read from a properties file and to load the {@link AppInfo}
  */
 public interface AppInfoGenerator {
 
@@ -53,7 +53,8 @@ public interface AppInfoGenerator {
     String JISEL_ANNOTATION_PROCESSOR_CLASSNAME = JiselAnnotationProcessor.class.getName();
 
     /**
-     * Reads value of the provided parameter name from the provided properties file name. If not found, the provided defaultValue is returned
+     * Reads value of the provided parameter name from the provided properties file name. If the file or the parameter are not found,
+     * the provided defaultValue is returned
      *
      * @param fileNameWithExt Properties filename with file extension. ex: "application.properties"
      * @param property        Name of the parameter within the properties file
@@ -62,12 +63,26 @@ public interface AppInfoGenerator {
      */
     static String getPropertyValueFromPropsFile(String fileNameWithExt, String property, String defaultValue) {
         var properties = new Properties();
-        var in = AppInfoGenerator.class.getClassLoader().getResourceAsStream(fileNameWithExt);
-        try {
+        try (var in = AppInfoGenerator.class.getClassLoader().getResourceAsStream(fileNameWithExt)) {
+            if (in == null) {
+                return defaultValue;
+            }
             properties.load(in);
         } catch (IOException e) {
             return defaultValue;
         }
-        return properties.getProperty(property);
+        return properties.getProperty(property, defaultValue);
+    }
+
+    /**
+     * Reads the app information from the app properties file
+     *
+     * @return an {@link AppInfo} instance holding the annotation processor class name and the app version
+     */
+    static AppInfo loadAppInfo() {
+        return new AppInfo(
+                JISEL_ANNOTATION_PROCESSOR_CLASSNAME,
+                getPropertyValueFromPropsFile(APPLICATION_PROPERTIES_FILENAME, INFO_APP_VERSION_PROPERTY_NAME, DEFAULT_APP_VERSION)
+        );
     }
 }
\ No newline at end of file
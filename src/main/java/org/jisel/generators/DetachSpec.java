@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.generators;
+
+import java.util.List;
+
+import static org.jisel.generators.StringGenerator.EMPTY_STRING;
+
+/**
+ * Immutable specification of a detached interface to generate, as provided through a &#64;{@link org.jisel.annotations.Detach}
+ * annotation. A &#64;{@link org.jisel.annotations.DetachAll} annotation is specified with the "(all)" keyword as profile and
+ * no other attribute
+ *
+ * @param profile                      stripped profile name
+ * @param rename                       stripped new name of the detached interface, empty if not provided
+ * @param superInterfaces              qualified names of the provided super interfaces
+ * @param firstSuperInterfaceGenerics  qualified names of the generic types of the first super interface
+ * @param secondSuperInterfaceGenerics qualified names of the generic types of the second super interface
+ * @param thirdSuperInterfaceGenerics  qualified names of the generic types of the third super interface
+ * @param applyAnnotations             annotations to apply on the detached interface, as written in the source code
+ */
+public record DetachSpec(String profile,
+                         String rename,
+                         List<String> superInterfaces,
+                         List<String> firstSuperInterfaceGenerics,
+                         List<String> secondSuperInterfaceGenerics,
+                         List<String> thirdSuperInterfaceGenerics,
+                         String applyAnnotations) {
+
+    /**
+     * DetachSpec constructor. Stores immutable copies of the provided lists
+     */
+    public DetachSpec {
+        superInterfaces = List.copyOf(superInterfaces);
+        firstSuperInterfaceGenerics = List.copyOf(firstSuperInterfaceGenerics);
+        secondSuperInterfaceGenerics = List.copyOf(secondSuperInterfaceGenerics);
+        thirdSuperInterfaceGenerics = List.copyOf(thirdSuperInterfaceGenerics);
+    }
+
+    /**
+     * Creates the specification of a detached interface only defined by its profile, with no other attribute
+     *
+     * @param profile profile name
+     * @return the {@link DetachSpec} instance of the provided profile
+     */
+    public static DetachSpec ofProfile(String profile) {
+        return new DetachSpec(profile, EMPTY_STRING, List.of(), List.of(), List.of(), List.of(), EMPTY_STRING);
+    }
+}
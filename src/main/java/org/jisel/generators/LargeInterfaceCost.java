@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.generators;
+
+/**
+ * Cost of the generation of the files of a large interface, as recorded by {@link ProcessingStats}
+ *
+ * @param largeInterface            qualified name of the large interface
+ * @param methodsCount              number of annotated abstract methods of the large interface
+ * @param profilesCount             number of generated sealed interfaces, including the top-level one and the intermediate ones
+ * @param intermediateProfilesCount number of generated intermediate parent interfaces, gathering the methods common to several profiles
+ * @param artifactsCount            number of files written for the large interface
+ * @param bytesWritten              size of the files written for the large interface, encoded in UTF-8
+ * @param cumulativeNanos           time spent checking the fingerprint, describing, rendering and writing the files of the
+ *                                  large interface, in nanoseconds. Each step is timed on the thread running it and the times
+ *                                  are summed, so with parallel rendering this is the time spent by all threads on the large
+ *                                  interface, not the wall-clock time between its first and last step
+ */
+public record LargeInterfaceCost(String largeInterface,
+                                 int methodsCount,
+                                 int profilesCount,
+                                 int intermediateProfilesCount,
+                                 int artifactsCount,
+                                 long bytesWritten,
+                                 long cumulativeNanos) {
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.generators;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.jisel.generators.StringGenerator.extractPackageName;
+
+/**
+ * Immutable, {@link javax.lang.model.element.Element}-free description of a large interface being segregated, holding all
+ * the information needed to generate its sealed, unsealed and detached interfaces, final class and report. Built on the javac
+ * thread, so that the content of the generated files can be rendered on any thread
+ *
+ * @param qualifiedName       qualified name of the large interface
+ * @param simpleName          simple name of the large interface
+ * @param existingAnnotations existing annotations of the large interface (excluding Jisel annotations), each one followed by a new line
+ * @param superInterfaces     {@link List} of the qualified names of the interfaces extended by the large interface
+ * @param allMethods          {@link List} of all the methods of the large interface, including the inherited ones
+ */
+public record LargeInterfaceDescriptor(String qualifiedName,
+                                       String simpleName,
+                                       String existingAnnotations,
+                                       List<String> superInterfaces,
+                                       List<MethodDescriptor> allMethods) {
+
+    /**
+     * LargeInterfaceDescriptor constructor. Stores immutable copies of the provided lists
+     */
+    public LargeInterfaceDescriptor {
+        superInterfaces = List.copyOf(superInterfaces);
+        allMethods = List.copyOf(allMethods);
+    }
+
+    /**
+     * Extracts the package name of the large interface
+     *
+     * @return the package name if any
+     */
+    public Optional<String> packageName() {
+        return extractPackageName(qualifiedName);
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.generators;
+
+/**
+ * Immutable, {@link javax.lang.model.element.Element}-free description of an abstract method of a large interface, holding
+ * all the information needed to generate its declaration. Built on the javac thread, so that the content of the generated
+ * files can be rendered on any thread
+ *
+ * @param signature           method name and parameters types, as returned by the method Element toString(). Used as a stable sort key
+ * @param existingAnnotations existing annotations of the method (excluding Jisel annotations), each one followed by a new line and a tab
+ * @param returnType          qualified name of the method return type
+ * @param nameAndParameters   method name and parameters definition, including the parameters annotations
+ * @param thrownExceptions    comma-separated list of the exceptions thrown by the method, empty if none
+ * @param defaultReturnValue  return statement providing a default value for the method return type
+ */
+public record MethodDescriptor(String signature,
+                               String existingAnnotations,
+                               String returnType,
+                               String nameAndParameters,
+                               String thrownExceptions,
+                               String defaultReturnValue) {
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.generators;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-round cache of the {@link MethodDescriptor} instances of the processed methods.<br>
+ * A same method is rendered in its sealed and unsealed interfaces, in every detached interface inheriting it and in the final
+ * class, and can be inherited by several large interfaces. Its return type, parameters, thrown exceptions and annotations are
+ * rendered once per round through javac's TypeMirror and AnnotationMirror toString() methods, then shared by all the generators.<br>
+ * Must only be used on the javac thread, and must not outlive the round it was created for, as {@link Element} instances are
+ * neither thread-safe nor guaranteed to be valid across rounds
+ */
+public final class MethodDescriptorCache implements Function<Element, MethodDescriptor> {
+
+    private final Function<Element, MethodDescriptor> methodDescriber;
+
+    private final Map<ExecutableElement, MethodDescriptor> methodDescriptors = new HashMap<>();
+
+    /**
+     * MethodDescriptorCache constructor
+     *
+     * @param methodDescriber {@link Function} rendering the {@link MethodDescriptor} of a method {@link Element} instance not
+     *                        described yet during the current round
+     */
+    public MethodDescriptorCache(Function<Element, MethodDescriptor> methodDescriber) {
+        this.methodDescriber = methodDescriber;
+    }
+
+    /**
+     * Returns the {@link MethodDescriptor} of the provided method {@link Element} instance, rendering it only the first time the
+     * method is requested during the current round
+     *
+     * @param methodElement the provided method {@link Element} instance
+     * @return the {@link MethodDescriptor} instance of the provided method
+     */
+    @Override
+    public MethodDescriptor apply(Element methodElement) {
+        return methodDescriptors.computeIfAbsent((ExecutableElement) methodElement, methodDescriber);
+    }
+}
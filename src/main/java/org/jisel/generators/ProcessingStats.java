@@ -0,0 +1,326 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.generators;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Per-round timings of the processing phases and costs of the generated large interfaces, collected when the
+ * {@link org.jisel.AnnotationProcessor#JISEL_STATS_OPTION} option is enabled or when a generation budget is set.<br>
+ * Phases are timed on the javac thread, except the rendering of the files content which runs on the rendering threads when
+ * parallel rendering is enabled. When disabled, no clock is read and nothing is recorded
+ */
+public final class ProcessingStats {
+
+    /**
+     * Indexing of the elements annotated with the Jisel annotations, along with the attributes values of their annotations
+     */
+    public static final String ANNOTATED_ELEMENTS_PHASE = "annotation index";
+
+    /**
+     * Processing of the elements annotated with &#64;{@link org.jisel.annotations.TopLevel} and &#64;{@link org.jisel.annotations.SealFor}
+     */
+    public static final String TOPLEVEL_SEALFOR_PHASE = "@TopLevel/@SealFor";
+
+    /**
+     * Processing of the elements annotated with &#64;{@link org.jisel.annotations.UnSeal}
+     */
+    public static final String UNSEAL_PHASE = "@UnSeal";
+
+    /**
+     * Processing of the elements annotated with &#64;{@link org.jisel.annotations.Detach} and &#64;{@link org.jisel.annotations.DetachAll}
+     */
+    public static final String DETACH_PHASE = "@Detach/@DetachAll";
+
+    /**
+     * Processing of the elements annotated with &#64;{@link org.jisel.annotations.AddTo}
+     */
+    public static final String ADDTO_PHASE = "@AddTo";
+
+    /**
+     * Completion of the permits maps with a single entry
+     */
+    public static final String PERMITS_CHECK_PHASE = "permits check";
+
+    /**
+     * Freezing of the collected information into {@link SegregationModel} instances
+     */
+    public static final String SEGREGATION_MODELS_PHASE = "segregation models";
+
+    /**
+     * Computation of the large interfaces fingerprints and lookup of the previously generated files
+     */
+    public static final String FINGERPRINT_PHASE = "fingerprint";
+
+    /**
+     * Description of the large interfaces and of their files to generate, on the javac thread
+     */
+    public static final String DESCRIBE_PHASE = "describe";
+
+    /**
+     * Rendering of the content of a generated file. When rendered sequentially, the content is streamed into the
+     * {@link javax.annotation.processing.Filer} writer, so this also includes the buffered writes
+     */
+    public static final String RENDER_PHASE = "render";
+
+    /**
+     * Creation, writing and closing of a generated file through the {@link javax.annotation.processing.Filer}
+     */
+    public static final String WRITE_PHASE = "write";
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final boolean enabled;
+
+    private final Map<String, long[]> nanosAndCountByPhase = new LinkedHashMap<>();
+
+    private final Map<String, Map<String, Long>> nanosByPhaseByArtifact = new LinkedHashMap<>();
+
+    private final Map<String, LargeInterfaceCostAccumulator> costByLargeInterface = new LinkedHashMap<>();
+
+    /**
+     * ProcessingStats constructor
+     *
+     * @param enabled whether the timings must be recorded
+     */
+    public ProcessingStats(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Whether the timings are recorded
+     *
+     * @return true if the timings are recorded, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts timing a phase
+     *
+     * @return the current value of the clock, in nanoseconds, or 0 if the timings are not recorded
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Returns the time elapsed since the provided start
+     *
+     * @param startNanos value returned by {@link #start()}
+     * @return the elapsed time in nanoseconds, or 0 if the timings are not recorded
+     */
+    public long elapsedSince(long startNanos) {
+        return enabled ? System.nanoTime() - startNanos : 0L;
+    }
+
+    /**
+     * Adds the time elapsed since the provided start to the provided phase
+     *
+     * @param phase      name of the timed phase
+     * @param startNanos value returned by {@link #start()} when the phase started
+     */
+    public void record(String phase, long startNanos) {
+        if (enabled) {
+            add(phase, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Adds the time elapsed since the provided start to the provided phase and to the cost of the provided large interface
+     *
+     * @param phase          name of the timed phase
+     * @param largeInterface qualified name of the large interface the phase was run for
+     * @param startNanos     value returned by {@link #start()} when the phase started
+     */
+    public void record(String phase, String largeInterface, long startNanos) {
+        if (enabled) {
+            var nanos = System.nanoTime() - startNanos;
+            synchronized (this) {
+                add(phase, nanos);
+                costAccumulator(largeInterface).cumulativeNanos += nanos;
+            }
+        }
+    }
+
+    /**
+     * Registers a large interface about to be generated, along with the size of its {@link SegregationModel}
+     *
+     * @param largeInterface   qualified name of the large interface
+     * @param segregationModel {@link SegregationModel} instance of the large interface
+     */
+    public synchronized void recordLargeInterface(String largeInterface, SegregationModel segregationModel) {
+        if (enabled) {
+            var costAccumulator = costAccumulator(largeInterface);
+            costAccumulator.methodsCount = segregationModel.methodsCount();
+            costAccumulator.profilesCount = segregationModel.profilesCount();
+            costAccumulator.intermediateProfilesCount = segregationModel.intermediateProfilesCount();
+        }
+    }
+
+    /**
+     * Adds the provided time spent on the provided generated file to the provided phase and to the cost of its large interface.
+     * May be called from any thread
+     *
+     * @param largeInterface qualified name of the large interface the file is generated for
+     * @param qualifiedName  qualified name of the generated file
+     * @param phase          name of the timed phase
+     * @param nanos          time spent, in nanoseconds
+     */
+    public void recordArtifact(String largeInterface, String qualifiedName, String phase, long nanos) {
+        if (enabled) {
+            synchronized (this) {
+                add(phase, nanos);
+                nanosByPhaseByArtifact.computeIfAbsent(qualifiedName, name -> new LinkedHashMap<>()).merge(phase, nanos, Long::sum);
+                costAccumulator(largeInterface).cumulativeNanos += nanos;
+            }
+        }
+    }
+
+    /**
+     * Adds a written file to the cost of its large interface
+     *
+     * @param largeInterface qualified name of the large interface the file was generated for
+     * @param bytesWritten   size of the written file, encoded in UTF-8
+     */
+    public synchronized void recordArtifactWritten(String largeInterface, long bytesWritten) {
+        if (enabled) {
+            var costAccumulator = costAccumulator(largeInterface);
+            costAccumulator.artifactsCount++;
+            costAccumulator.bytesWritten += bytesWritten;
+        }
+    }
+
+    /**
+     * Returns the costs of the large interfaces generated during the round, in generation order
+     *
+     * @return {@link List} of the {@link LargeInterfaceCost} instances of the large interfaces generated during the round
+     */
+    public synchronized List<LargeInterfaceCost> largeInterfaceCosts() {
+        return costByLargeInterface.entrySet().stream()
+                .map(mapEntry -> mapEntry.getValue().toLargeInterfaceCost(mapEntry.getKey()))
+                .toList();
+    }
+
+    /**
+     * Returns the summary of the recorded phases, followed by the timings of every generated file if requested
+     *
+     * @param round            number of the processing round the timings were recorded for
+     * @param includeArtifacts whether the timings of every generated file must be included
+     * @return the summary text
+     */
+    public synchronized String summary(int round, boolean includeArtifacts) {
+        var output = new StringBuilder(format(
+                "Jisel processing stats - round %d (%d generated files):%n",
+                round,
+                nanosByPhaseByArtifact.size()
+        ));
+        nanosAndCountByPhase.forEach((phase, nanosAndCount) -> output.append('\t').append(phase).append(": ")
+                .append(toMillis(nanosAndCount[0])).append(" ms")
+                .append(nanosAndCount[1] > 1 ? format(" (%d times)", nanosAndCount[1]) : "")
+                .append(System.lineSeparator()));
+        if (includeArtifacts) {
+            nanosByPhaseByArtifact.forEach((qualifiedName, nanosByPhase) -> {
+                output.append("\t\t").append(qualifiedName).append(':');
+                nanosByPhase.forEach((phase, nanos) -> output.append(' ').append(phase).append(' ').append(toMillis(nanos)).append(" ms"));
+                output.append(System.lineSeparator());
+            });
+        }
+        return output.toString();
+    }
+
+    /**
+     * Returns the summary of the provided large interfaces costs, the most expensive large interfaces first
+     *
+     * @param largeInterfaceCosts {@link List} of the {@link LargeInterfaceCost} instances to summarize
+     * @param limit               maximum number of large interfaces to include in the summary
+     * @return the summary text
+     */
+    public static String largeInterfaceCostsSummary(List<LargeInterfaceCost> largeInterfaceCosts, int limit) {
+        var output = new StringBuilder(format(
+                "Jisel large interfaces costs - %d most expensive of %d:%n",
+                Math.min(limit, largeInterfaceCosts.size()),
+                largeInterfaceCosts.size()
+        ));
+        largeInterfaceCosts.stream()
+                .sorted(Comparator.comparingLong(LargeInterfaceCost::cumulativeNanos).reversed().thenComparing(LargeInterfaceCost::largeInterface))
+                .limit(limit)
+                .forEach(largeInterfaceCost -> output.append(format(
+                        "\t%s: %s ms cumulative, %d files, %d bytes, %d methods, %d profiles (%d intermediate)%n",
+                        largeInterfaceCost.largeInterface(),
+                        toMillis(largeInterfaceCost.cumulativeNanos()),
+                        largeInterfaceCost.artifactsCount(),
+                        largeInterfaceCost.bytesWritten(),
+                        largeInterfaceCost.methodsCount(),
+                        largeInterfaceCost.profilesCount(),
+                        largeInterfaceCost.intermediateProfilesCount()
+                )));
+        return output.toString();
+    }
+
+    /**
+     * Converts the provided duration to milliseconds, formatted with 3 decimals
+     *
+     * @param nanos duration in nanoseconds
+     * @return the formatted duration in milliseconds
+     */
+    public static String toMillis(long nanos) {
+        return format(Locale.ROOT, "%.3f", nanos / NANOS_PER_MILLI);
+    }
+
+    private LargeInterfaceCostAccumulator costAccumulator(String largeInterface) {
+        return costByLargeInterface.computeIfAbsent(largeInterface, name -> new LargeInterfaceCostAccumulator());
+    }
+
+    private synchronized void add(String phase, long nanos) {
+        var nanosAndCount = nanosAndCountByPhase.computeIfAbsent(phase, name -> new long[2]);
+        nanosAndCount[0] += nanos;
+        nanosAndCount[1]++;
+    }
+
+    private static final class LargeInterfaceCostAccumulator {
+
+        private int methodsCount;
+
+        private int profilesCount;
+
+        private int intermediateProfilesCount;
+
+        private int artifactsCount;
+
+        private long bytesWritten;
+
+        private long cumulativeNanos;
+
+        private LargeInterfaceCost toLargeInterfaceCost(String largeInterface) {
+            return new LargeInterfaceCost(largeInterface, methodsCount, profilesCount, intermediateProfilesCount, artifactsCount,
+                    bytesWritten, cumulativeNanos);
+        }
+    }
+}
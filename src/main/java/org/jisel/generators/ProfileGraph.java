@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.generators;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Immutable index of the permits hierarchy of a large interface, built once from its permits map (profile name as the key and
+ * the {@link List} of its children names as the value).<br>
+ * Provides constant time lookups of the children and parents of a profile, along with the precomputed set of leaves (children
+ * which are not parents themselves), instead of scanning the whole permits map for each processed profile.<br>
+ * Does not hold any {@link javax.lang.model.element.Element} instance, so it can be shared by generators rendering files
+ * content on any thread
+ */
+public final class ProfileGraph {
+
+    private final Map<String, List<String>> childrenByProfile;
+
+    private final Map<String, List<String>> parentsByProfile;
+
+    private final Set<String> leaves;
+
+    private ProfileGraph(Map<String, List<String>> childrenByProfile, Map<String, List<String>> parentsByProfile, Set<String> leaves) {
+        this.childrenByProfile = childrenByProfile;
+        this.parentsByProfile = parentsByProfile;
+        this.leaves = leaves;
+    }
+
+    /**
+     * Builds the {@link ProfileGraph} of the provided permits map. Later changes to the permits map are not reflected in the
+     * returned instance
+     *
+     * @param permitsMap {@link Map} containing information about the subtypes permitted by each one of the sealed interfaces
+     *                   to be generated: profile name as the key and the {@link List} of its children names as the value
+     * @return the {@link ProfileGraph} instance of the provided permits map
+     */
+    public static ProfileGraph of(Map<String, List<String>> permitsMap) {
+        var childrenByProfile = new HashMap<String, List<String>>();
+        var parentsSetByProfile = new HashMap<String, Set<String>>();
+        var leaves = new LinkedHashSet<String>();
+        permitsMap.forEach((profile, childrenList) -> {
+            // children order is kept as provided, the generated code and report sort them
+            childrenByProfile.put(profile, List.copyOf(childrenList));
+            childrenList.forEach(child -> parentsSetByProfile.computeIfAbsent(child, key -> new LinkedHashSet<>()).add(profile));
+        });
+        var parentsByProfile = new HashMap<String, List<String>>();
+        parentsSetByProfile.forEach((child, parentsSet) -> {
+            parentsByProfile.put(child, List.copyOf(parentsSet));
+            if (!permitsMap.containsKey(child)) {
+                leaves.add(child);
+            }
+        });
+        return new ProfileGraph(
+                Collections.unmodifiableMap(childrenByProfile),
+                Collections.unmodifiableMap(parentsByProfile),
+                Collections.unmodifiableSet(leaves)
+        );
+    }
+
+    /**
+     * Builds the {@link ProfileGraph} of the permits relations of the provided {@link SegregationModel}, straight from its int
+     * adjacency arrays
+     *
+     * @param segregationModel {@link SegregationModel} instance of the large interface being segregated
+     * @return the {@link ProfileGraph} instance of the permits relations of the provided {@link SegregationModel}
+     */
+    public static ProfileGraph of(SegregationModel segregationModel) {
+        var namesCount = segregationModel.namesCount();
+        var childrenByProfile = new HashMap<String, List<String>>();
+        var parentsSetsById = new ArrayList<Set<String>>(Collections.nCopies(namesCount, null));
+        var isParent = new boolean[namesCount];
+        for (var parentId : segregationModel.parentIds()) {
+            var profile = segregationModel.name(parentId);
+            isParent[parentId] = true;
+            var childrenIds = segregationModel.childrenIds(parentId);
+            var childrenList = new ArrayList<String>(childrenIds.length);
+            for (var childId : childrenIds) {
+                childrenList.add(segregationModel.name(childId));
+                if (parentsSetsById.get(childId) == null) {
+                    parentsSetsById.set(childId, new LinkedHashSet<>());
+                }
+                parentsSetsById.get(childId).add(profile);
+            }
+            childrenByProfile.put(profile, Collections.unmodifiableList(childrenList));
+        }
+        var parentsByProfile = new HashMap<String, List<String>>();
+        var leaves = new LinkedHashSet<String>();
+        for (int id = 0; id < namesCount; id++) {
+            var parentsSet = parentsSetsById.get(id);
+            if (parentsSet != null) {
+                parentsByProfile.put(segregationModel.name(id), List.copyOf(parentsSet));
+                if (!isParent[id]) {
+                    leaves.add(segregationModel.name(id));
+                }
+            }
+        }
+        return new ProfileGraph(
+                Collections.unmodifiableMap(childrenByProfile),
+                Collections.unmodifiableMap(parentsByProfile),
+                Collections.unmodifiableSet(leaves)
+        );
+    }
+
+    /**
+     * Removes from the provided permits map all the redundant parent/child relations: a child is removed from the children list
+     * of a parent if it can also be reached from that parent through another one of its children. The minimal set of relations
+     * preserving the whole hierarchy (the transitive reduction) is kept, so the generated interfaces do not permit or extend
+     * interfaces they already inherit from through another parent.<br>
+     * The profiles are indexed by int and the profiles reachable from each profile are stored in {@link BitSet} instances, computed
+     * from the children to the parents, so both the reachability computation and the redundancy checks are word operations.<br>
+     * The children order of the remaining relations is kept. Modified children lists are replaced with mutable lists
+     *
+     * @param permitsMap {@link Map} containing information about the subtypes permitted by each one of the sealed interfaces
+     *                   to be generated: profile name as the key and the {@link List} of its children names as the value
+     */
+    public static void reduceTransitively(Map<String, List<String>> permitsMap) {
+        var indexByProfile = new HashMap<String, Integer>();
+        var profiles = new ArrayList<String>();
+        Consumer<String> indexProfile = profile -> indexByProfile.computeIfAbsent(profile, key -> {
+            profiles.add(key);
+            return profiles.size() - 1;
+        });
+        permitsMap.forEach((profile, childrenList) -> {
+            indexProfile.accept(profile);
+            childrenList.forEach(indexProfile);
+        });
+        var profilesCount = profiles.size();
+        var childrenIds = new int[profilesCount][];
+        for (int id = 0; id < profilesCount; id++) {
+            childrenIds[id] = permitsMap.getOrDefault(profiles.get(id), List.of()).stream().mapToInt(indexByProfile::get).toArray();
+        }
+        var reachableIds = computeReachableIds(childrenIds);
+        var reducedChildrenByProfile = new HashMap<String, List<String>>();
+        permitsMap.forEach((profile, childrenList) -> {
+            var profileId = indexByProfile.get(profile).intValue();
+            // all profiles reachable through the children, ignoring the children part of a cycle going back to the parent
+            var reachableThroughChildren = new BitSet(profilesCount);
+            for (var childId : childrenIds[profileId]) {
+                if (!reachableIds[childId].get(profileId)) {
+                    reachableThroughChildren.or(reachableIds[childId]);
+                }
+            }
+            var reducedChildrenList = new ArrayList<String>(childrenList.size());
+            for (var childId : childrenIds[profileId]) {
+                if (!reachableThroughChildren.get(childId) || !isReachableThroughAnotherChild(childId, profileId, childrenIds, reachableIds)) {
+                    reducedChildrenList.add(profiles.get(childId));
+                }
+            }
+            if (reducedChildrenList.size() != childrenList.size()) {
+                reducedChildrenByProfile.put(profile, reducedChildrenList);
+            }
+        });
+        permitsMap.putAll(reducedChildrenByProfile);
+    }
+
+    // ids of all the profiles reachable from each profile, computed in children first order. Cyclic relations, if any, require
+    // additional passes until no more reachable profile is found
+    private static BitSet[] computeReachableIds(int[][] childrenIds) {
+        var profilesCount = childrenIds.length;
+        var reachableIds = new BitSet[profilesCount];
+        for (int id = 0; id < profilesCount; id++) {
+            reachableIds[id] = new BitSet(profilesCount);
+        }
+        var childrenFirstOrder = childrenFirstOrder(childrenIds);
+        var updated = true;
+        while (updated) {
+            updated = false;
+            for (var id : childrenFirstOrder) {
+                var reachableIdsCount = reachableIds[id].cardinality();
+                for (var childId : childrenIds[id]) {
+                    reachableIds[id].set(childId);
+                    reachableIds[id].or(reachableIds[childId]);
+                }
+                updated |= reachableIds[id].cardinality() != reachableIdsCount;
+            }
+        }
+        return reachableIds;
+    }
+
+    // iterative depth-first post-order traversal, so each profile comes after all its children (except with cyclic relations)
+    private static int[] childrenFirstOrder(int[][] childrenIds) {
+        var profilesCount = childrenIds.length;
+        var order = new int[profilesCount];
+        var orderSize = 0;
+        var visited = new boolean[profilesCount];
+        var nextChildIndexes = new int[profilesCount];
+        var stack = new ArrayDeque<Integer>();
+        for (int rootId = 0; rootId < profilesCount; rootId++) {
+            if (visited[rootId]) {
+                continue;
+            }
+            visited[rootId] = true;
+            stack.push(rootId);
+            while (!stack.isEmpty()) {
+                var id = stack.peek().intValue();
+                if (nextChildIndexes[id] < childrenIds[id].length) {
+                    var childId = childrenIds[id][nextChildIndexes[id]++];
+                    if (!visited[childId]) {
+                        visited[childId] = true;
+                        stack.push(childId);
+                    }
+                } else {
+                    order[orderSize++] = stack.pop();
+                }
+            }
+        }
+        return order;
+    }
+
+    // only called for the children reachable through the children of their parent: needed to check the reaching child is not
+    // the child itself, which can only happen with cyclic relations
+    private static boolean isReachableThroughAnotherChild(int childId, int profileId, int[][] childrenIds, BitSet[] reachableIds) {
+        if (!reachableIds[childId].get(childId)) {
+            return true;
+        }
+        for (var otherChildId : childrenIds[profileId]) {
+            if (otherChildId != childId && !reachableIds[otherChildId].get(profileId) && reachableIds[otherChildId].get(childId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the children of the provided profile, in the order they were provided in the permits map
+     *
+     * @param profile name of the profile
+     * @return {@link List} of the children names of the provided profile, empty if none
+     */
+    public List<String> children(String profile) {
+        return childrenByProfile.getOrDefault(profile, List.of());
+    }
+
+    /**
+     * Returns the parents of the provided profile or child
+     *
+     * @param profile name of the profile or child
+     * @return {@link List} of the parents names of the provided profile or child, empty if none
+     */
+    public List<String> parents(String profile) {
+        return parentsByProfile.getOrDefault(profile, List.of());
+    }
+
+    /**
+     * Returns the leaves of the permits hierarchy: the children which are not parents themselves
+     *
+     * @return unmodifiable {@link Set} of the leaves names
+     */
+    public Set<String> leaves() {
+        return leaves;
+    }
+}
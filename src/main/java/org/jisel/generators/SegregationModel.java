@@ -0,0 +1,536 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.generators;
+
+import javax.lang.model.element.Element;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+import static org.jisel.generators.ProfileGraph.reduceTransitively;
+import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
+import static org.jisel.generators.StringGenerator.DUPLICATE_DETACH_KEY_MSG;
+import static org.jisel.generators.StringGenerator.JISEL_KEYWORD_TOPLEVEL;
+import static org.jisel.generators.StringGenerator.JISEL_KEYWORD_TOPLEVEL_REPLACEMENT;
+import static org.jisel.generators.codegen.PermitsGenerator.addFinalClassToPermitsMap;
+
+/**
+ * Compact description of the segregation of a large interface, frozen from the {@link Builder} filled by the annotations handlers
+ * once all its Jisel annotations have been handled, and consumed by the files generators.<br>
+ * The abstract methods are indexed by int, and each profile only stores the int ids of its methods. The profiles and the other
+ * permitted subtypes (classes, interfaces or records annotated with &#64;{@link org.jisel.annotations.AddTo}, and the generated
+ * final class) are indexed by int as well, the ids of the profiles coming first, and the permits relations are stored as int
+ * adjacency arrays. The &#64;{@link org.jisel.annotations.Detach} attributes are stored as {@link DetachSpec} records.<br>
+ * Holds {@link Element} instances, so must only be used on the javac thread
+ */
+public final class SegregationModel {
+
+    private static final int[] NO_IDS = new int[0];
+
+    private final Element largeInterfaceElement;
+
+    private final boolean unSeal;
+
+    private final String[] names;
+
+    private final int profilesCount;
+
+    private final Map<String, Integer> idByName;
+
+    private final Element[] methods;
+
+    private final int[][] methodIdsByProfileId;
+
+    private final int[] parentIds;
+
+    private final int[][] childrenIdsById;
+
+    private final List<DetachSpec> detachSpecs;
+
+    // ids of all the abstract methods of each profile, including the parents ones. Computed on first use
+    private BitSet[] allMethodIdsById;
+
+    private SegregationModel(Element largeInterfaceElement, boolean unSeal, String[] names, int profilesCount, Map<String, Integer> idByName,
+                             Element[] methods, int[][] methodIdsByProfileId, int[] parentIds, int[][] childrenIdsById,
+                             List<DetachSpec> detachSpecs) {
+        this.largeInterfaceElement = largeInterfaceElement;
+        this.unSeal = unSeal;
+        this.names = names;
+        this.profilesCount = profilesCount;
+        this.idByName = idByName;
+        this.methods = methods;
+        this.methodIdsByProfileId = methodIdsByProfileId;
+        this.parentIds = parentIds;
+        this.childrenIdsById = childrenIdsById;
+        this.detachSpecs = detachSpecs;
+    }
+
+    /**
+     * Creates the {@link SegregationModel.Builder} of a large interface, to be filled by the annotations handlers
+     *
+     * @param largeInterfaceElement {@link Element} instance of the large interface being segregated
+     * @return a new empty {@link SegregationModel.Builder} instance
+     */
+    public static Builder builder(Element largeInterfaceElement) {
+        return new Builder(largeInterfaceElement);
+    }
+
+    private static void indexName(String name, Map<String, Integer> idByName, List<String> names) {
+        idByName.computeIfAbsent(name, key -> {
+            names.add(key);
+            return names.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the {@link Element} instance of the large interface being segregated
+     *
+     * @return the {@link Element} instance of the large interface
+     */
+    public Element largeInterfaceElement() {
+        return largeInterfaceElement;
+    }
+
+    /**
+     * Indicates whether the unsealed interfaces are generated
+     *
+     * @return true if the unsealed interfaces are generated
+     */
+    public boolean unSeal() {
+        return unSeal;
+    }
+
+    /**
+     * Returns the number of profiles, whose ids range from 0 (included) to the returned value (excluded)
+     *
+     * @return the number of profiles
+     */
+    public int profilesCount() {
+        return profilesCount;
+    }
+
+    /**
+     * Returns the number of intermediate parent profiles, created to gather the methods common to several profiles and named
+     * after those profiles, comma separated
+     *
+     * @return the number of intermediate parent profiles
+     */
+    public int intermediateProfilesCount() {
+        var intermediateProfilesCount = 0;
+        for (int profileId = 0; profileId < profilesCount; profileId++) {
+            if (names[profileId].contains(COMMA_SEPARATOR)) {
+                intermediateProfilesCount++;
+            }
+        }
+        return intermediateProfilesCount;
+    }
+
+    /**
+     * Returns the number of distinct abstract methods of all the profiles
+     *
+     * @return the number of distinct abstract methods
+     */
+    public int methodsCount() {
+        return methods.length;
+    }
+
+    /**
+     * Returns the name of the profile or permitted subtype with the provided id
+     *
+     * @param id id of the profile or permitted subtype
+     * @return name of the profile, or simple or qualified name of the permitted subtype
+     */
+    public String name(int id) {
+        return names[id];
+    }
+
+    /**
+     * Indicates whether the provided name is the name of one of the profiles
+     *
+     * @param name name to check
+     * @return true if the provided name is the name of one of the profiles, false if it is the name of another permitted subtype
+     */
+    public boolean isProfile(String name) {
+        var id = idByName.get(name);
+        return id != null && id.intValue() < profilesCount;
+    }
+
+    /**
+     * Returns the abstract methods of the sealed interface generated for the provided profile, excluding the parents ones
+     *
+     * @param profileId id of the profile
+     * @return {@link List} of the abstract methods {@link Element} instances
+     */
+    public List<Element> methods(int profileId) {
+        return Arrays.stream(methodIdsByProfileId[profileId]).mapToObj(methodId -> methods[methodId]).toList();
+    }
+
+    /**
+     * Finds all the abstract methods of the interface generated for the provided profile, including all the parents and
+     * super-parents ones. The profiles hierarchy is traversed only once, on the first call: the methods ids of each profile are
+     * computed from the already computed methods ids of its parents profiles
+     *
+     * @param profile name of the profile. Must be one of the profiles defined with the &#64;{@link org.jisel.annotations.SealFor}
+     *                annotation, or one of the keywords designating the top-level profile
+     * @return {@link List} of the abstract methods {@link Element} instances, empty if the profile is not found
+     */
+    public List<Element> allAbstractMethods(String profile) {
+        var profileId = idByName.get(
+                JISEL_KEYWORD_TOPLEVEL.equalsIgnoreCase(profile) || JISEL_KEYWORD_TOPLEVEL_REPLACEMENT.equalsIgnoreCase(profile)
+                        ? largeInterfaceElement.getSimpleName().toString()
+                        : profile
+        );
+        if (profileId == null || profileId.intValue() >= profilesCount) {
+            return List.of();
+        }
+        if (allMethodIdsById == null) {
+            allMethodIdsById = collectAllMethodIds();
+        }
+        return allMethodIdsById[profileId.intValue()].stream().mapToObj(methodId -> methods[methodId]).toList();
+    }
+
+    private BitSet[] collectAllMethodIds() {
+        // parents ids of each profile, in the permits map order
+        var parentsCountById = new int[names.length];
+        for (var parentId : parentIds) {
+            for (var childId : childrenIdsById[parentId]) {
+                parentsCountById[childId]++;
+            }
+        }
+        var parentIdsById = new int[names.length][];
+        for (int id = 0; id < names.length; id++) {
+            parentIdsById[id] = new int[parentsCountById[id]];
+            parentsCountById[id] = 0;
+        }
+        for (var parentId : parentIds) {
+            for (var childId : childrenIdsById[parentId]) {
+                parentIdsById[childId][parentsCountById[childId]++] = parentId;
+            }
+        }
+        var allMethodIds = new BitSet[names.length];
+        var beingVisited = new boolean[names.length];
+        for (int profileId = 0; profileId < profilesCount; profileId++) {
+            collectAllMethodIds(profileId, parentIdsById, allMethodIds, beingVisited);
+        }
+        return allMethodIds;
+    }
+
+    // memoized depth-first traversal of the profiles hierarchy, from the provided profile up to the top-level profile
+    private BitSet collectAllMethodIds(int id, int[][] parentIdsById, BitSet[] allMethodIds, boolean[] beingVisited) {
+        if (allMethodIds[id] != null) {
+            return allMethodIds[id];
+        }
+        var methodIds = new BitSet(methods.length);
+        if (id < profilesCount) {
+            for (var methodId : methodIdsByProfileId[id]) {
+                methodIds.set(methodId);
+            }
+        }
+        beingVisited[id] = true;
+        for (var parentId : parentIdsById[id]) {
+            if (!beingVisited[parentId]) { // guards against cyclic relationships
+                methodIds.or(collectAllMethodIds(parentId, parentIdsById, allMethodIds, beingVisited));
+            }
+        }
+        beingVisited[id] = false;
+        allMethodIds[id] = methodIds;
+        return methodIds;
+    }
+
+    /**
+     * Returns the specifications of the detached interfaces to generate
+     *
+     * @return unmodifiable {@link List} of the {@link DetachSpec} instances, empty if none
+     */
+    public List<DetachSpec> detachSpecs() {
+        return detachSpecs;
+    }
+
+    /**
+     * Returns the abstract method with the provided id
+     *
+     * @param methodId id of the abstract method, ranging from 0 (included) to {@link #methodsCount()} (excluded)
+     * @return the abstract method {@link Element} instance
+     */
+    public Element method(int methodId) {
+        return methods[methodId];
+    }
+
+    // following accessors expose the internal arrays, which must not be modified by the callers
+
+    /**
+     * Returns the ids of the abstract methods of the sealed interface generated for the provided profile, excluding the parents ones
+     *
+     * @param profileId id of the profile
+     * @return array of the abstract methods ids. Must not be modified
+     */
+    public int[] methodIds(int profileId) {
+        return methodIdsByProfileId[profileId];
+    }
+
+    /**
+     * Returns the ids of the profiles permitting subtypes, in the order their permits relations were built
+     *
+     * @return array of the parents ids. Must not be modified
+     */
+    public int[] parentIds() {
+        return parentIds;
+    }
+
+    /**
+     * Returns the ids of the subtypes permitted by the profile with the provided id
+     *
+     * @param id id of the profile
+     * @return array of the permitted subtypes ids, empty if none. Must not be modified
+     */
+    public int[] childrenIds(int id) {
+        return childrenIdsById[id];
+    }
+
+    int namesCount() {
+        return names.length;
+    }
+
+    /**
+     * Collects the information about the segregation of a single large interface while its Jisel annotations are handled, then
+     * freezes it into a {@link SegregationModel}.<br>
+     * The abstract methods are indexed by int as soon as they are added, and the methods of each profile are stored as a
+     * {@link BitSet} of their ids. The permits lists are kept mutable, so children can be appended one at a time.<br>
+     * Not thread-safe, meant to be used on the javac thread while handling the annotated elements of a round
+     */
+    public static final class Builder {
+
+        private final Element largeInterfaceElement;
+
+        private final Map<Element, Integer> methodIdByElement = new HashMap<>();
+
+        private final List<Element> methods = new ArrayList<>();
+
+        private final Map<String, BitSet> methodIdsByProfile = new LinkedHashMap<>();
+
+        private final Map<String, List<String>> childrenByParent = new LinkedHashMap<>();
+
+        private final Map<String, List<String>> unmodifiableChildrenByParent = Collections.unmodifiableMap(childrenByParent);
+
+        private final Map<String, DetachSpec> detachSpecsByKey = new LinkedHashMap<>();
+
+        private boolean unSeal;
+
+        private Builder(Element largeInterfaceElement) {
+            this.largeInterfaceElement = largeInterfaceElement;
+        }
+
+        /**
+         * Returns the {@link Element} instance of the large interface being segregated
+         *
+         * @return the {@link Element} instance of the large interface
+         */
+        public Element largeInterfaceElement() {
+            return largeInterfaceElement;
+        }
+
+        /**
+         * Returns the names of the profiles added so far, in the order they were first added
+         *
+         * @return unmodifiable {@link Set} view of the profiles names
+         */
+        public Set<String> profiles() {
+            return Collections.unmodifiableSet(methodIdsByProfile.keySet());
+        }
+
+        /**
+         * Indicates whether the provided profile has been added
+         *
+         * @param profile name of the profile
+         * @return true if the profile has been added
+         */
+        public boolean hasProfile(String profile) {
+            return methodIdsByProfile.containsKey(profile);
+        }
+
+        /**
+         * Indicates whether the provided profile has been added without any abstract method
+         *
+         * @param profile name of the profile
+         * @return true if the profile has been added and has no abstract method
+         */
+        public boolean hasProfileWithoutMethods(String profile) {
+            var methodIds = methodIdsByProfile.get(profile);
+            return methodIds != null && methodIds.isEmpty();
+        }
+
+        /**
+         * Indicates whether the provided abstract method belongs to the provided profile
+         *
+         * @param profile name of the profile
+         * @param method  abstract method {@link Element} instance
+         * @return true if the profile has been added and contains the abstract method
+         */
+        public boolean hasProfileMethod(String profile, Element method) {
+            var methodIds = methodIdsByProfile.get(profile);
+            var methodId = methodIdByElement.get(method);
+            return methodIds != null && methodId != null && methodIds.get(methodId);
+        }
+
+        /**
+         * Adds a profile along with its abstract methods, replacing the methods of the profile if it was already added
+         *
+         * @param profile name of the profile
+         * @param methods abstract methods {@link Element} instances of the sealed interface generated for the profile, excluding
+         *                the parents ones
+         */
+        public void putProfile(String profile, Collection<? extends Element> methods) {
+            var methodIds = new BitSet();
+            methods.forEach(method -> methodIds.set(methodIdByElement.computeIfAbsent(method, key -> {
+                this.methods.add(key);
+                return this.methods.size() - 1;
+            })));
+            methodIdsByProfile.put(profile, methodIds);
+        }
+
+        /**
+         * Moves the abstract methods of an intermediate parent profile to one of its profiles, which takes its place in the
+         * profiles hierarchy. The intermediate parent profile is removed
+         *
+         * @param profile             name of the profile taking the place of the intermediate parent profile
+         * @param intermediateProfile name of the intermediate parent profile
+         */
+        public void promoteProfile(String profile, String intermediateProfile) {
+            methodIdsByProfile.put(profile, methodIdsByProfile.remove(intermediateProfile));
+        }
+
+        /**
+         * Returns the subtypes permitted by each one of the sealed interfaces to generate: profile name as the key and the
+         * {@link List} of its children names as the value
+         *
+         * @return unmodifiable {@link Map} view of the permits relations. The children lists must not be modified
+         */
+        public Map<String, List<String>> permitsMap() {
+            return unmodifiableChildrenByParent;
+        }
+
+        /**
+         * Sets the subtypes permitted by the provided profile, replacing the previously set ones if any
+         *
+         * @param profile  name of the profile
+         * @param children names of the permitted subtypes
+         */
+        public void putPermits(String profile, List<String> children) {
+            childrenByParent.put(profile, new ArrayList<>(children));
+        }
+
+        /**
+         * Appends a subtype to the ones permitted by the provided profile, in amortized constant time
+         *
+         * @param profile name of the profile
+         * @param child   name of the permitted subtype
+         */
+        public void addPermittedSubtype(String profile, String child) {
+            childrenByParent.computeIfAbsent(profile, key -> new ArrayList<>()).add(child);
+        }
+
+        /**
+         * Removes all the redundant parent/child relations from the permits relations.
+         * See {@link ProfileGraph#reduceTransitively(Map)}
+         */
+        public void reducePermitsTransitively() {
+            reduceTransitively(childrenByParent);
+        }
+
+        /**
+         * Sets whether the unsealed interfaces are generated
+         *
+         * @param unSeal true if the unsealed interfaces are generated
+         */
+        public void unSeal(boolean unSeal) {
+            this.unSeal = unSeal;
+        }
+
+        /**
+         * Adds the specification of a detached interface to generate
+         *
+         * @param key        key unique to the detached interface
+         * @param detachSpec {@link DetachSpec} instance of the detached interface
+         * @throws IllegalStateException if a detached interface was already added with the same key
+         */
+        public void putDetachSpec(String key, DetachSpec detachSpec) {
+            var existingDetachSpec = detachSpecsByKey.putIfAbsent(key, detachSpec);
+            if (existingDetachSpec != null) {
+                throw new IllegalStateException(format(DUPLICATE_DETACH_KEY_MSG, key, existingDetachSpec, detachSpec));
+            }
+        }
+
+        /**
+         * Freezes the collected information into a {@link SegregationModel}, straight from the methods ids and the permits lists.<br>
+         * The generated final class is first added to the permitted subtypes of the childless profiles, so the builder is meant
+         * to be built once, at the end of the round
+         *
+         * @return the {@link SegregationModel} instance of the large interface
+         */
+        public SegregationModel build() {
+            addFinalClassToPermitsMap(childrenByParent, largeInterfaceElement.getSimpleName().toString());
+            var idByName = new HashMap<String, Integer>();
+            var names = new ArrayList<String>();
+            methodIdsByProfile.keySet().forEach(profile -> indexName(profile, idByName, names));
+            var profilesCount = names.size();
+            childrenByParent.forEach((parent, children) -> {
+                indexName(parent, idByName, names);
+                children.forEach(child -> indexName(child, idByName, names));
+            });
+            var parentIds = new int[childrenByParent.size()];
+            var childrenIdsById = new int[names.size()][];
+            Arrays.fill(childrenIdsById, NO_IDS);
+            var parentIndex = 0;
+            for (var permits : childrenByParent.entrySet()) {
+                var parentId = idByName.get(permits.getKey()).intValue();
+                parentIds[parentIndex++] = parentId;
+                childrenIdsById[parentId] = permits.getValue().stream().mapToInt(idByName::get).toArray();
+            }
+            // only the methods still belonging to a profile are kept, renumbered in the profiles order
+            var frozenMethods = new ArrayList<Element>();
+            var frozenMethodIds = new int[methods.size()];
+            Arrays.fill(frozenMethodIds, -1);
+            var methodIdsByProfileId = new int[profilesCount][];
+            var profileId = 0;
+            for (var methodIds : methodIdsByProfile.values()) {
+                methodIdsByProfileId[profileId++] = methodIds.stream().map(methodId -> {
+                    if (frozenMethodIds[methodId] < 0) {
+                        frozenMethodIds[methodId] = frozenMethods.size();
+                        frozenMethods.add(methods.get(methodId));
+                    }
+                    return frozenMethodIds[methodId];
+                }).toArray();
+            }
+            return new SegregationModel(largeInterfaceElement, unSeal, names.toArray(String[]::new), profilesCount, idByName,
+                    frozenMethods.toArray(Element[]::new), methodIdsByProfileId, parentIds, childrenIdsById,
+                    List.copyOf(detachSpecsByKey.values()));
+        }
+    }
+}
@@ -31,7 +31,6 @@ import org.jisel.annotations.UnSeal;
 import javax.lang.model.element.Element;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.UnaryOperator;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
@@ -111,21 +110,11 @@ public interface StringGenerator {
      */
     String SUP_SIGN = ">";
 
-    /**
-     * Placeholder string to be later replaced with another string
-     */
-    String TMP_PLACEHOLDER = UNDERSCORE + UNDERSCORE;
-
     /**
      * "\""
      */
     String DOUBLE_QUOTES = "\"";
 
-    /**
-     * "\""
-     */
-    String ESCAPED_DOUBLE_QUOTES = "\\\"";
-
     /**
      * "Sealed"
      */
@@ -157,9 +146,9 @@ public interface StringGenerator {
     String CLASS = "class";
 
     /**
-     * ".class"
+     * "public"
      */
-    String DOT_CLASS = DOT + CLASS;
+    String PUBLIC = "public";
 
     /**
      * "public interface"
@@ -192,14 +181,14 @@ public interface StringGenerator {
     String PERMITS = "permits";
 
     /**
-     * "\n"
+     * "throws"
      */
-    String NEW_LINE = format("%n");
+    String THROWS = "throws";
 
     /**
-     * "\\\\n" (escaped "\n")
+     * "\n"
      */
-    String ESCAPED_NEW_LINE = "\\\\n";
+    String NEW_LINE = format("%n");
 
     /**
      * "\t"
@@ -281,32 +270,11 @@ public interface StringGenerator {
      */
     String PROFILES = "profiles";
 
-    /**
-     * Regex expression to read any attribute value provided within ""
-     */
-    String ANNOTATION_STRING_VALUE_REGEX = "\"([^\"]*)\"";
-
-    /**
-     * Regex expression to read any attribute value provided within {}
-     */
-    String ANNOTATION_ARRAY_VALUE_REGEX = "\\{(.*?)\\}";
-
     /**
      * "largeInterface"
      */
     String LARGE_INTERFACE = "largeInterface";
 
-    /**
-     * Regex expression to read the string value of the "largeInterface" attribute
-     */
-    String LARGE_INTERFACE_ATTRIBUTE_REGEX = "largeInterface=" + ANNOTATION_STRING_VALUE_REGEX;
-
-    /**
-     * Regex expression to read attributes information provided using the {@link AddTo} annotation.<br>
-     * Sample value to be parsed by the regex: @org.jisel.annotations.AddTo(profiles={"ActiveWorker"}, largeInterface=Sociable.class)
-     */
-    String ADD_TO_REGEX = "AddTo\\((.*?)\\)";
-
     /**
      * "profile" attribute used in @Detach annotation
      */
@@ -342,11 +310,6 @@ public interface StringGenerator {
      */
     String DETACH_APPLYANNOTATIONS = "applyAnnotations";
 
-    /**
-     * Map key used to store the collection of abstract methods for the detached interface
-     */
-    String DETACH_METHODS = "methods";
-
     /**
      * Fully qualified name of the {@link SealFor} annotation
      */
@@ -421,6 +384,12 @@ public interface StringGenerator {
      */
     String DETACH_REPORT_PROFILES_NOT_FOUND_MSG = "1 or many provided profiles are not found in the @SealFor mappings. ";
 
+    /**
+     * Message of the error thrown during compilation when the same combination of profile and rename attributes is provided
+     * through 2 different &#64;Detach annotations of a large interface
+     */
+    String DUPLICATE_DETACH_KEY_MSG = "Duplicate key %s (attempted merging values %s and %s)";
+
     /**
      * Keyword used internally by Jisel to indicate that @DetachAll was used on a large interface
      */
@@ -431,38 +400,33 @@ public interface StringGenerator {
      */
     String JISEL_KEYWORD_TOPLEVEL = "(toplevel)";
 
-    /**
-     * Regex expression to identify the use of (toplevel) case-insensitive
-     */
-    String JISEL_KEYWORD_TOPLEVEL_CI_REGEX = "(?i)(toplevel)";
-
     /**
      * Keyword used intenally by Jisel during annotation information parsing to replace "(toplevel)"
      */
     String JISEL_KEYWORD_TOPLEVEL_REPLACEMENT = "_toplevel_";
 
     /**
-     * Replace all double occurences of whitespace ("  ") into a single whitespace (" ")
+     * Constructs a string based on the provided profile and a large interface {@link Element} instance, according to the naming convention:<br>
+     * <b>Sealed&#60;ProfileName&#62;&#60;LargeInterfaceSimpleName&#62;</b><br><br>
      *
-     * @param text contains double occurrences of whitespace
-     * @return the provided text with all double occurrences of whitespace replaced with a single occurence
+     * @param profile          name of the profile
+     * @param interfaceElement {@link Element} instance of the large interface to be segregated
+     * @return a string following Jisel sealed interface naming convention
      */
-    static String removeDoubleSpaceOccurrences(String text) {
-        return text.replace(WHITESPACE + WHITESPACE, WHITESPACE);
+    static String sealedInterfaceNameConvention(String profile, Element interfaceElement) {
+        return sealedInterfaceNameConvention(profile, interfaceElement.getSimpleName().toString());
     }
 
     /**
-     * Constructs a string based on the provided profile and a large interface {@link Element} instance, according to the naming convention:<br>
+     * Constructs a string based on the provided profile and large interface simple name, according to the naming convention:<br>
      * <b>Sealed&#60;ProfileName&#62;&#60;LargeInterfaceSimpleName&#62;</b><br><br>
      *
-     * @param profile          name of the profile
-     * @param interfaceElement {@link Element} instance of the large interface to be segregated
+     * @param profile                  name of the profile
+     * @param largeInterfaceSimpleName simple name of the large interface to be segregated
      * @return a string following Jisel sealed interface naming convention
      */
-    static String sealedInterfaceNameConvention(String profile, Element interfaceElement) {
-        var nameSuffixFunc = profile.equals(interfaceElement.getSimpleName().toString())
-                ? EMPTY_STRING
-                : interfaceElement.getSimpleName().toString();
+    static String sealedInterfaceNameConvention(String profile, String largeInterfaceSimpleName) {
+        var nameSuffix = profile.equals(largeInterfaceSimpleName) ? EMPTY_STRING : largeInterfaceSimpleName;
         // any profile name starting w _ (final classes names) or containing a dot (classes annotated with @Addto) is returned as is
         return profile.startsWith(UNDERSCORE) || profile.contains(DOT)
                 ? profile
@@ -470,7 +434,7 @@ public interface StringGenerator {
                 "%s%s%s",
                 SEALED_PREFIX,
                 profile,
-                nameSuffixFunc
+                nameSuffix
         );
     }
 
@@ -483,46 +447,33 @@ public interface StringGenerator {
      * @return a string following Jisel sealed interface naming convention
      */
     static String unSealedInterfaceNameConvention(String profile, Element interfaceElement) {
-        return sealedInterfaceNameConvention(profile, interfaceElement).substring(SEALED_PREFIX.length());
+        return unSealedInterfaceNameConvention(profile, interfaceElement.getSimpleName().toString());
     }
 
     /**
-     * Constructs a string based on the provided profiles and a large interface {@link Element} instance, according to the naming convention:<br>
-     * <b>Sealed&#60;ProfileName&#62;&#60;LargeInterfaceSimpleName&#62;</b><br><br>
+     * Constructs a string based on the provided profile and large interface simple name, according to the naming convention:<br>
+     * <b>&#60;ProfileName&#62;&#60;LargeInterfaceSimpleName&#62;</b><br><br>
      *
-     * @param profiles         {@link List} of profiles names
-     * @param interfaceElement {@link Element} instance of the large interface to be segregated
-     * @return a List of string literals following Jisel sealed interface naming convention
+     * @param profile                  name of the profile
+     * @param largeInterfaceSimpleName simple name of the large interface to be segregated
+     * @return a string following Jisel sealed interface naming convention
      */
-    static List<String> sealedInterfaceNameConventionForList(List<String> profiles, Element interfaceElement) {
-        UnaryOperator<String> nameSuffixFunc = profile ->
-                profile.equals(interfaceElement.getSimpleName().toString())
-                        ? EMPTY_STRING
-                        : interfaceElement.getSimpleName().toString();
-        return profiles.stream()
-                .map(profile ->
-                        profile.startsWith(UNDERSCORE) || profile.contains(DOT)
-                                ? profile
-                                : format(
-                                "%s%s%s",
-                                SEALED_PREFIX,
-                                profile,
-                                nameSuffixFunc.apply(profile)
-                        ))
-                .toList();
+    static String unSealedInterfaceNameConvention(String profile, String largeInterfaceSimpleName) {
+        return sealedInterfaceNameConvention(profile, largeInterfaceSimpleName).substring(SEALED_PREFIX.length());
     }
 
     /**
-     * Constructs a string made of the qualified name of the class without the latest occurrence of ".class". <br>
-     * If the provided name doesn't end with ".class", it is returned as is
+     * Constructs a string based on the provided profiles and large interface simple name, according to the naming convention:<br>
+     * <b>Sealed&#60;ProfileName&#62;&#60;LargeInterfaceSimpleName&#62;</b><br><br>
      *
-     * @param qualifiedName qualified name of the class or interface
-     * @return qualified name of the class without the latest occurrence of ".class"
+     * @param profiles                 {@link List} of profiles names
+     * @param largeInterfaceSimpleName simple name of the large interface to be segregated
+     * @return a List of string literals following Jisel sealed interface naming convention
      */
-    static String removeDotClass(String qualifiedName) {
-        return qualifiedName.contains(DOT_CLASS)
-                ? qualifiedName.substring(0, qualifiedName.lastIndexOf(DOT_CLASS))
-                : qualifiedName;
+    static List<String> sealedInterfaceNameConventionForList(List<String> profiles, String largeInterfaceSimpleName) {
+        return profiles.stream()
+                .map(profile -> sealedInterfaceNameConvention(profile, largeInterfaceSimpleName))
+                .toList();
     }
 
     /**
@@ -567,22 +518,4 @@ public interface StringGenerator {
         var keywordsArray = new String[]{JISEL_KEYWORD_ALL, JISEL_KEYWORD_TOPLEVEL, JISEL_KEYWORD_TOPLEVEL_REPLACEMENT};
         return stream(keywordsArray).anyMatch(keyword -> keyword.equalsIgnoreCase(profile));
     }
-
-    /**
-     * Removes strings from the beginning and end of the provided string
-     *
-     * @param providedString      the string to remove trailing strings from
-     * @param leftTrailingString  string to be removed from the beginning of the provided string
-     * @param rightTrailingString string to be removed from the end of the provided string
-     * @return the provided string without the left and right trailing strings
-     */
-    static String removeTrailingStrings(String providedString, String leftTrailingString, String rightTrailingString) {
-        UnaryOperator<String> removeLQuoteOp = string -> string.startsWith(leftTrailingString) ? string.substring(1) : string;
-        UnaryOperator<String> removeRQuoteOp = string -> string.endsWith(rightTrailingString) ? string.substring(0, string.strip().length() - 1) : string;
-        var strippedString = providedString.strip();
-        if (!strippedString.isBlank()) {
-            return removeLQuoteOp.andThen(removeRQuoteOp).apply(strippedString);
-        }
-        return strippedString;
-    }
 }
\ No newline at end of file
@@ -21,19 +21,17 @@
  */
 package org.jisel.generators.codegen;
 
-import org.jisel.generators.UnescapeJavaString;
+import org.jisel.generators.LargeInterfaceDescriptor;
 import org.jisel.generators.codegen.impl.AnnotationsGeneratorImpl;
 
 import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
-import static java.lang.String.format;
-import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
 import static org.jisel.generators.StringGenerator.EMPTY_STRING;
-import static org.jisel.generators.StringGenerator.ESCAPED_NEW_LINE;
 import static org.jisel.generators.StringGenerator.JISEL_ANNOTATIONS_PACKAGE;
 import static org.jisel.generators.StringGenerator.NEW_LINE;
 
@@ -43,39 +41,36 @@ import static org.jisel.generators.StringGenerator.NEW_LINE;
 public sealed interface AnnotationsGenerator extends CodeGenerator permits AnnotationsGeneratorImpl {
 
     /**
-     * Generates existing annotations of the provided {@link Element} instance and appends them to the provided {@link StringBuilder} instance
+     * Generates existing annotations of the provided large interface and writes them to the provided {@link PrintWriter} instance
      *
-     * @param classOrInterfaceContent StringBuilder object containing the code of the interface or class being generated
-     * @param element                 {@link Element} instance of the interface, class, method or parameter to generate the existing annotations for
+     * @param classOrInterfaceContent PrintWriter object receiving the code of the interface or class being generated
+     * @param largeInterface          {@link LargeInterfaceDescriptor} instance of the large interface to generate the existing annotations for
      */
-    void generateExistingAnnotations(StringBuilder classOrInterfaceContent, Element element);
+    void generateExistingAnnotations(PrintWriter classOrInterfaceContent, LargeInterfaceDescriptor largeInterface);
 
     /**
      * Generates the {@link javax.annotation.processing.Generated} annotation section at the top of the generated interfaces or
      * classes along with the attributes: value, date and comments
      *
-     * @param classOrInterfaceContent      StringBuilder object containing the code of the interface or class being generated
+     * @param classOrInterfaceContent      PrintWriter object receiving the code of the interface or class being generated
      * @param annotationProcessorClassname Qualified name of the Java annotation processor, displayed as the "value" attribute within
      *                                     the &#64;{@link javax.annotation.processing.Generated} annotation
      * @param appVersion                   Current version of the app, displayed as part of the "comments" attribute within the
      *                                     &#64;{@link javax.annotation.processing.Generated} annotation
+     * @param reproducible                 if true, the "date" attribute is omitted so that the generated content only depends on
+     *                                     the processed sources
      */
-    default void generateJavaxGeneratedAnnotation(StringBuilder classOrInterfaceContent, String annotationProcessorClassname, String appVersion) {
-        generateCode(
-                classOrInterfaceContent,
-                List.of(
-                        format("""
-                                        @javax.annotation.processing.Generated(
-                                            value = "%s",
-                                            date = "%s",
-                                            comments = "version: %s"
-                                        )
-                                        """,
-                                annotationProcessorClassname,
-                                ZonedDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME),
-                                appVersion
-                        )
-                ));
+    default void generateJavaxGeneratedAnnotation(PrintWriter classOrInterfaceContent,
+                                                  String annotationProcessorClassname,
+                                                  String appVersion,
+                                                  boolean reproducible) {
+        classOrInterfaceContent.append("@javax.annotation.processing.Generated(\n")
+                .append("  value = \"").append(annotationProcessorClassname).append("\",\n");
+        if (!reproducible) {
+            classOrInterfaceContent.append("  date = \"").append(ZonedDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)).append("\",\n");
+        }
+        classOrInterfaceContent.append("  comments = \"version: ").append(appVersion).append("\"\n")
+                .append(")\n");
     }
 
     /**
@@ -96,26 +91,26 @@ public sealed interface AnnotationsGenerator extends CodeGenerator permits Annot
 
     /**
      * Cleans up the annotations provided through the 'applyAnnotations' attribute of the &#64;{@link org.jisel.annotations.Detach}
-     * annotation and appends the result to the provided {@link StringBuilder} instance
+     * annotation and writes the result to the provided {@link PrintWriter} instance
      *
-     * @param classOrInterfaceContent  StringBuilder object containing the code of the interface or class being generated
+     * @param classOrInterfaceContent  PrintWriter object receiving the code of the interface or class being generated
      * @param applyAnnotationsRawValue String containing the provided 'applyAnnotations' attribute value
      */
-    default void applyAnnotations(StringBuilder classOrInterfaceContent, String applyAnnotationsRawValue) {
+    default void applyAnnotations(PrintWriter classOrInterfaceContent, String applyAnnotationsRawValue) {
         var strippedApplyAnnotationsRawValue = applyAnnotationsRawValue.strip();
         if (!strippedApplyAnnotationsRawValue.isBlank()) {
             generateCode(
                     classOrInterfaceContent,
-                    stream(strippedApplyAnnotationsRawValue.split(ESCAPED_NEW_LINE))
+                    strippedApplyAnnotationsRawValue.lines()
                             .map(String::strip)
-                            .map(UnescapeJavaString::unescapeJavaString)
+                            .filter(line -> !line.isBlank())
                             .toList()
             );
         }
     }
 
     @Override
-    default void generateCode(StringBuilder classOrInterfaceContent, List<String> params) {
-        classOrInterfaceContent.append(params.stream().collect(joining(NEW_LINE)));
+    default void generateCode(PrintWriter classOrInterfaceContent, List<String> params) {
+        CodeGenerator.appendJoined(classOrInterfaceContent, params, NEW_LINE);
     }
 }
\ No newline at end of file
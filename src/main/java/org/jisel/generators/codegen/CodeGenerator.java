@@ -21,6 +21,7 @@
  */
 package org.jisel.generators.codegen;
 
+import java.io.PrintWriter;
 import java.util.List;
 
 /**
@@ -29,10 +30,28 @@ import java.util.List;
 public sealed interface CodeGenerator permits AnnotationsGenerator, DeclarationGenerator, ExtendsGenerator, MethodsGenerator, PermitsGenerator {
 
     /**
-     * Generates the piece of code requested, based on the parameters provided in the params object and appends it to the provided classOrInterfaceContent param
+     * Generates the piece of code requested, based on the parameters provided in the params object and writes it to the provided classOrInterfaceContent param
      *
-     * @param classOrInterfaceContent StringBuilder object containing the code of the interface or class being generated
+     * @param classOrInterfaceContent PrintWriter object receiving the code of the interface or class being generated
      * @param params                  Expected parameters to be used in the code generation process
      */
-    void generateCode(StringBuilder classOrInterfaceContent, List<String> params);
+    void generateCode(PrintWriter classOrInterfaceContent, List<String> params);
+
+    /**
+     * Writes the provided values separated by the provided separator, without building the joined String
+     *
+     * @param classOrInterfaceContent PrintWriter object receiving the code of the interface or class being generated
+     * @param values                  values to write
+     * @param separator               String written between 2 consecutive values
+     */
+    static void appendJoined(PrintWriter classOrInterfaceContent, Iterable<String> values, String separator) {
+        var first = true;
+        for (var value : values) {
+            if (!first) {
+                classOrInterfaceContent.append(separator);
+            }
+            classOrInterfaceContent.append(value);
+            first = false;
+        }
+    }
 }
\ No newline at end of file
@@ -21,13 +21,12 @@
  */
 package org.jisel.generators.codegen;
 
+import org.jisel.generators.LargeInterfaceDescriptor;
 import org.jisel.generators.codegen.impl.DeclarationGeneratorImpl;
 
-import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.util.List;
 
-import static java.lang.String.format;
-import static java.util.stream.Collectors.joining;
 import static org.jisel.generators.StringGenerator.WHITESPACE;
 
 /**
@@ -38,18 +37,15 @@ public sealed interface DeclarationGenerator extends CodeGenerator permits Decla
     /**
      * Generates the interface or class declaration section
      *
-     * @param interfaceContent      {@link StringBuilder} object containing the interface or class code being generated
-     * @param profile               name of the profile whose interface is being generated
-     * @param largeInterfaceElement {@link Element} instance of the large interface being segregated
-     * @param unSeal                indicates whether the interface declaration should include "sealed"
+     * @param interfaceContent {@link PrintWriter} object receiving the interface or class code being generated
+     * @param profile          name of the profile whose interface is being generated
+     * @param largeInterface   {@link LargeInterfaceDescriptor} instance of the large interface being segregated
+     * @param unSeal           indicates whether the interface declaration should include "sealed"
      */
-    void generateModifiersAndName(StringBuilder interfaceContent, String profile, Element largeInterfaceElement, boolean unSeal);
+    void generateModifiersAndName(PrintWriter interfaceContent, String profile, LargeInterfaceDescriptor largeInterface, boolean unSeal);
 
     @Override
-    default void generateCode(StringBuilder classOrInterfaceContent, List<String> params) {
-        classOrInterfaceContent.append(format(
-                "%s",
-                params.stream().collect(joining(WHITESPACE))
-        ));
+    default void generateCode(PrintWriter classOrInterfaceContent, List<String> params) {
+        CodeGenerator.appendJoined(classOrInterfaceContent, params, WHITESPACE);
     }
 }
\ No newline at end of file
@@ -21,19 +21,17 @@
  */
 package org.jisel.generators.codegen;
 
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.ProfileGraph;
 import org.jisel.generators.codegen.impl.ExtendsGeneratorImpl;
 
-import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
-import static java.util.stream.Collectors.joining;
-import static org.jisel.generators.StringGenerator.CLASS;
 import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
 import static org.jisel.generators.StringGenerator.EXTENDS;
 import static org.jisel.generators.StringGenerator.IMPLEMENTS;
-import static org.jisel.generators.StringGenerator.INTERFACE;
 import static org.jisel.generators.StringGenerator.WHITESPACE;
 
 /**
@@ -44,45 +42,53 @@ public sealed interface ExtendsGenerator extends CodeGenerator permits ExtendsGe
 
     /**
      * Generates the extends/implements clause of the interface/class being generated, along with the list of parent interfaces, based on
-     * a provided {@link Map} containing parents/subtypes information (the permits Map) and the name of the profile for which the
-     * sealed interface will be generated
+     * a provided {@link ProfileGraph} indexing parents/subtypes information (the permits Map) and the name of the profile for which
+     * the sealed interface will be generated
      *
-     * @param sealedInterfaceContent {@link StringBuilder} object containing the sealed interface code being generated
-     * @param permitsMap             {@link Map} containing parents/subtypes information. The Map key is the profile name whose generated
-     *                               sealed interface will be a parent interface, while the value is the list of profiles names whose
-     *                               sealed interfaces will be generated as subtypes
+     * @param sealedInterfaceContent {@link PrintWriter} object receiving the sealed interface code being generated
+     * @param profileGraph           {@link ProfileGraph} instance indexing the parents/subtypes information of the permits Map. The
+     *                               permits Map key is the profile name whose generated sealed interface will be a parent interface,
+     *                               while the value is the list of profiles names whose sealed interfaces will be generated as subtypes
      * @param processedProfile       name of the profile whose sealed interface is being generated
-     * @param largeInterfaceElement  {@link Element} instance of the large interface being segregated
+     * @param largeInterface         {@link LargeInterfaceDescriptor} instance of the large interface being segregated
+     * @param unSeal                 indicates whether the parent interfaces are the unsealed ones
      */
-    void generateExtendsClauseFromPermitsMapAndProcessedProfile(StringBuilder sealedInterfaceContent,
-                                                                Map<String, List<String>> permitsMap,
-                                                                String processedProfile,
-                                                                Element largeInterfaceElement,
-                                                                boolean unSeal);
+    void generateExtendsClauseFromProfileGraphAndProcessedProfile(PrintWriter sealedInterfaceContent,
+                                                                  ProfileGraph profileGraph,
+                                                                  String processedProfile,
+                                                                  LargeInterfaceDescriptor largeInterface,
+                                                                  boolean unSeal);
 
     /**
      * Generates the extends clause of the interface being generated, along with the list of parent interfaces with
      * their corresponding provided generic classes
      *
-     * @param sealedInterfaceContent  {@link StringBuilder} object containing the sealed interface code being generated
+     * @param sealedInterfaceContent  {@link PrintWriter} object receiving the sealed interface code being generated
      * @param superInterfaces         provided {@link List} of superInterfaces to display besides the "extends" clause
      * @param superInterfacesGenerics {@link Map} providing {@link List} of qualified names of interfaces or classes to
      *                                display as generics for each one of the provided superInterfaces
      */
-    void generateExtendsClauseFromSuperInterfacesList(StringBuilder sealedInterfaceContent,
+    void generateExtendsClauseFromSuperInterfacesList(PrintWriter sealedInterfaceContent,
                                                       List<String> superInterfaces,
                                                       Map<String, List<String>> superInterfacesGenerics);
 
-    private boolean isInterface(String classOrInterfaceContent) {
-        return classOrInterfaceContent.contains(INTERFACE + WHITESPACE) && !classOrInterfaceContent.contains(CLASS + WHITESPACE);
+    /**
+     * Generates the "implements" clause of the class being generated, along with the list of the implemented interfaces
+     *
+     * @param classContent {@link PrintWriter} object receiving the class code being generated
+     * @param params       names of the implemented interfaces
+     */
+    default void generateImplementsClause(PrintWriter classContent, List<String> params) {
+        generateParentsClause(classContent, IMPLEMENTS, params);
+    }
+
+    private void generateParentsClause(PrintWriter classOrInterfaceContent, String keyword, List<String> params) {
+        classOrInterfaceContent.append(WHITESPACE).append(keyword).append(WHITESPACE);
+        CodeGenerator.appendJoined(classOrInterfaceContent, params, COMMA_SEPARATOR + WHITESPACE);
     }
 
     @Override
-    default void generateCode(StringBuilder classOrInterfaceContent, List<String> params) {
-        classOrInterfaceContent.append(format(
-                " %s %s ",
-                isInterface(classOrInterfaceContent.toString()) ? EXTENDS : IMPLEMENTS,
-                params.stream().collect(joining(COMMA_SEPARATOR + WHITESPACE))
-        ));
+    default void generateCode(PrintWriter classOrInterfaceContent, List<String> params) {
+        generateParentsClause(classOrInterfaceContent, EXTENDS, params);
     }
 }
\ No newline at end of file
@@ -21,19 +21,24 @@
  */
 package org.jisel.generators.codegen;
 
+import org.jisel.generators.MethodDescriptor;
 import org.jisel.generators.codegen.impl.MethodsGeneratorImpl;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.type.ExecutableType;
+import java.io.PrintWriter;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 
-import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static org.jisel.generators.StringGenerator.CLOSING_PARENTHESIS;
 import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
 import static org.jisel.generators.StringGenerator.FALSE;
+import static org.jisel.generators.StringGenerator.NEW_LINE;
+import static org.jisel.generators.StringGenerator.OPENING_PARENTHESIS;
 import static org.jisel.generators.StringGenerator.RETURN;
+import static org.jisel.generators.StringGenerator.TAB;
 import static org.jisel.generators.StringGenerator.WHITESPACE;
 import static org.jisel.generators.codegen.AnnotationsGenerator.buildExistingAnnotations;
 
@@ -58,22 +63,45 @@ public sealed interface MethodsGenerator extends CodeGenerator permits MethodsGe
      */
     String DEFAULT_NULL_VALUE = "null";
 
+    /**
+     * Indentation of each generated method
+     */
+    char METHOD_INDENTATION = '\t';
+
     /**
      * Generates a list of abstracts methods definitions and appends it to the interface code being generated
      *
-     * @param sealedInterfaceContent {@link StringBuilder} object containing the sealed interface code being generated
-     * @param methodsSet             {@link Set} of {@link Element} instances representing each one of the abstract methods to generate
+     * @param sealedInterfaceContent {@link PrintWriter} object receiving the sealed interface code being generated
+     * @param methods                {@link Collection} of {@link MethodDescriptor} instances representing each one of the abstract methods to generate
      */
-    void generateAbstractMethodsFromElementsSet(StringBuilder sealedInterfaceContent, Set<Element> methodsSet);
+    void generateAbstractMethods(PrintWriter sealedInterfaceContent, Collection<MethodDescriptor> methods);
 
     /**
      * Mainly used for a final class generation.<br>
      * Generates a list of concrete methods definitions (signature and body), and appends it to the final class being generated
      *
-     * @param sealedInterfaceContent {@link StringBuilder} object containing the sealed interface code being generated
-     * @param methodsSet             {@link Set} of {@link Element} instances representing each one of the abstract methods to generate
+     * @param sealedInterfaceContent {@link PrintWriter} object receiving the sealed interface code being generated
+     * @param methods                {@link Collection} of {@link MethodDescriptor} instances representing each one of the abstract methods to generate
+     */
+    void generateEmptyConcreteMethods(PrintWriter sealedInterfaceContent, Collection<MethodDescriptor> methods);
+
+    /**
+     * Extracts from the provided method {@link Element} instance all the information needed to generate its declaration.<br>
+     * Must be called on the javac thread, as {@link Element} instances are not thread-safe
+     *
+     * @param methodElement the provided method {@link Element} instance
+     * @return the {@link MethodDescriptor} instance of the provided method
      */
-    void generateEmptyConcreteMethodsFromElementsSet(StringBuilder sealedInterfaceContent, Set<Element> methodsSet);
+    default MethodDescriptor describeMethod(Element methodElement) {
+        return new MethodDescriptor(
+                methodElement.toString(),
+                buildExistingAnnotations(methodElement, NEW_LINE + TAB),
+                generateReturnType(methodElement),
+                generateMethodNameAndParameters(methodElement),
+                generateThrownExceptions(methodElement),
+                generateDefaultReturnValueForMethod(methodElement)
+        );
+    }
 
     /**
      * Returns a string representing the qualified name of a method return type
@@ -97,17 +125,18 @@ public sealed interface MethodsGenerator extends CodeGenerator permits MethodsGe
         if (parametersList.isEmpty()) {
             return methodElement.toString(); // if has no args, output as is
         }
-        return format("%s(%s)",
-                methodElement.getSimpleName(),
-                parametersList.stream()
-                        .map(variableElement -> format(
-                                "%s%s %s",
-                                buildExistingAnnotations(variableElement, WHITESPACE),
-                                variableElement.asType().toString(),
-                                variableElement.getSimpleName().toString()
-                        ))
-                        .collect(joining(COMMA_SEPARATOR + WHITESPACE))
-        );
+        var methodNameAndParameters = new StringBuilder().append(methodElement.getSimpleName()).append(OPENING_PARENTHESIS);
+        for (int index = 0; index < parametersList.size(); index++) {
+            var variableElement = parametersList.get(index);
+            if (index > 0) {
+                methodNameAndParameters.append(COMMA_SEPARATOR).append(WHITESPACE);
+            }
+            methodNameAndParameters.append(buildExistingAnnotations(variableElement, WHITESPACE))
+                    .append(variableElement.asType())
+                    .append(WHITESPACE)
+                    .append(variableElement.getSimpleName());
+        }
+        return methodNameAndParameters.append(CLOSING_PARENTHESIS).toString();
     }
 
     /**
@@ -138,7 +167,7 @@ public sealed interface MethodsGenerator extends CodeGenerator permits MethodsGe
     }
 
     @Override
-    default void generateCode(StringBuilder classOrInterfaceContent, List<String> params) {
-        params.forEach(methodDefinition -> classOrInterfaceContent.append(format("\t%s%n", methodDefinition)));
+    default void generateCode(PrintWriter classOrInterfaceContent, List<String> params) {
+        params.forEach(methodDefinition -> classOrInterfaceContent.append(METHOD_INDENTATION).append(methodDefinition).append(NEW_LINE));
     }
 }
\ No newline at end of file
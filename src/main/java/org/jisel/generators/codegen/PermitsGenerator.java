@@ -21,16 +21,15 @@
  */
 package org.jisel.generators.codegen;
 
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.ProfileGraph;
 import org.jisel.generators.codegen.impl.PermitsGeneratorImpl;
 
-import javax.lang.model.element.Element;
-import java.util.Collection;
+import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
 
-import static java.lang.String.format;
 import static java.util.Arrays.asList;
-import static java.util.stream.Collectors.joining;
 import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
 import static org.jisel.generators.StringGenerator.DOT;
 import static org.jisel.generators.StringGenerator.FINAL_CLASS_SUFFIX;
@@ -46,37 +45,35 @@ public sealed interface PermitsGenerator extends CodeGenerator permits PermitsGe
 
     /**
      * Generates the "permits" clause of a sealed interface being generated, along with the list of parent interfaces, based on
-     * a provided {@link Map} containing parents/subtypes information (the permits Map) and the name of the profile for which the
-     * sealed interface will be generated
+     * a provided {@link ProfileGraph} indexing parents/subtypes information (the permits Map) and the name of the profile for which
+     * the sealed interface will be generated
      *
-     * @param sealedInterfaceContent {@link StringBuilder} object containing the sealed interface code being generated
-     * @param permitsMap             {@link Map} containing parents/subtypes information. The Map key is the profile name whose generated
-     *                               sealed interface will be a parent interface, while the value is the list of profiles names whose
-     *                               sealed interfaces will be generated as subtypes
+     * @param sealedInterfaceContent {@link PrintWriter} object receiving the sealed interface code being generated
+     * @param profileGraph           {@link ProfileGraph} instance indexing the parents/subtypes information of the permits Map. The
+     *                               permits Map key is the profile name whose generated sealed interface will be a parent interface,
+     *                               while the value is the list of profiles names whose sealed interfaces will be generated as subtypes
      * @param processedProfile       name of the profile whose sealed interface is being generated
-     * @param largeInterfaceElement  {@link Element} instance of the large interface being segregated
+     * @param largeInterface         {@link LargeInterfaceDescriptor} instance of the large interface being segregated
      */
-    void generatePermitsClauseFromPermitsMapAndProcessedProfile(StringBuilder sealedInterfaceContent,
-                                                                Map<String, List<String>> permitsMap,
-                                                                String processedProfile,
-                                                                Element largeInterfaceElement);
+    void generatePermitsClauseFromProfileGraphAndProcessedProfile(PrintWriter sealedInterfaceContent,
+                                                                  ProfileGraph profileGraph,
+                                                                  String processedProfile,
+                                                                  LargeInterfaceDescriptor largeInterface);
 
     /**
      * Adds a generated final class to the {@link Map} containing parents/subtypes information, only for the sealed interfaces at the
      * lowest-level of the generated hierarchy (also known as childless interfaces).<br>
-     * Practice proper to Jisel only to avoid compilation errors for sealed interfaces not having any existing subtypes
+     * Practice proper to Jisel only to avoid compilation errors for sealed interfaces not having any existing subtypes.<br>
+     * Modifies the provided {@link Map}, so must be called before the content of the generated files gets rendered
      *
-     * @param permitsMap            {@link Map} containing parents/subtypes information. The Map key is the profile name whose generated
-     *                              sealed interface will be a parent interface, while the value is the list of profiles names whose
-     *                              sealed interfaces will be generated as subtypes
-     * @param largeInterfaceElement {@link Element} instance of the large interface being segregated
+     * @param permitsMap               {@link Map} containing parents/subtypes information. The Map key is the profile name whose generated
+     *                                 sealed interface will be a parent interface, while the value is the list of profiles names whose
+     *                                 sealed interfaces will be generated as subtypes
+     * @param largeInterfaceSimpleName simple name of the large interface being segregated
      */
-    default void addFinalClassToPermitsMap(Map<String, List<String>> permitsMap, Element largeInterfaceElement) {
-        var finalClassName = UNDERSCORE + largeInterfaceElement.getSimpleName().toString() + FINAL_CLASS_SUFFIX;
-        var childlessProfiles = permitsMap.values().stream()
-                .flatMap(Collection::stream)
-                .distinct()
-                .filter(childProfileName -> permitsMap.keySet().stream().noneMatch(parentProfile -> parentProfile.equals(childProfileName)))
+    static void addFinalClassToPermitsMap(Map<String, List<String>> permitsMap, String largeInterfaceSimpleName) {
+        var finalClassName = UNDERSCORE + largeInterfaceSimpleName + FINAL_CLASS_SUFFIX;
+        var childlessProfiles = ProfileGraph.of(permitsMap).leaves().stream()
                 .filter(childProfileName -> !finalClassName.equals(childProfileName)) // if finalClassName found remove it from the new list
                 .filter(childProfileName -> !childProfileName.contains(DOT)) // also skip all qualifiedname classes added by @AddTo
                 .toList();
@@ -84,12 +81,8 @@ public sealed interface PermitsGenerator extends CodeGenerator permits PermitsGe
     }
 
     @Override
-    default void generateCode(StringBuilder classOrInterfaceContent, List<String> params) {
-        classOrInterfaceContent.append(format(
-                " %s %s ",
-                PERMITS,
-                params.stream()
-                        .collect(joining(COMMA_SEPARATOR + WHITESPACE))
-        ));
+    default void generateCode(PrintWriter classOrInterfaceContent, List<String> params) {
+        classOrInterfaceContent.append(WHITESPACE).append(PERMITS).append(WHITESPACE);
+        CodeGenerator.appendJoined(classOrInterfaceContent, params, COMMA_SEPARATOR + WHITESPACE);
     }
 }
\ No newline at end of file
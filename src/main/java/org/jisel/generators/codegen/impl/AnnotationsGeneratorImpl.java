@@ -21,20 +21,19 @@
  */
 package org.jisel.generators.codegen.impl;
 
+import org.jisel.generators.LargeInterfaceDescriptor;
 import org.jisel.generators.codegen.AnnotationsGenerator;
 
-import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.util.List;
 
-import static org.jisel.generators.StringGenerator.NEW_LINE;
-
 /**
  * Class dedicated to generating annotations
  */
 public final class AnnotationsGeneratorImpl implements AnnotationsGenerator {
 
     @Override
-    public void generateExistingAnnotations(StringBuilder classOrInterfaceContent, Element element) {
-        generateCode(classOrInterfaceContent, List.of(AnnotationsGenerator.buildExistingAnnotations(element, NEW_LINE)));
+    public void generateExistingAnnotations(PrintWriter classOrInterfaceContent, LargeInterfaceDescriptor largeInterface) {
+        generateCode(classOrInterfaceContent, List.of(largeInterface.existingAnnotations()));
     }
 }
\ No newline at end of file
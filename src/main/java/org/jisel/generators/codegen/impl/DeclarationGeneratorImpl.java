@@ -21,9 +21,10 @@
  */
 package org.jisel.generators.codegen.impl;
 
+import org.jisel.generators.LargeInterfaceDescriptor;
 import org.jisel.generators.codegen.DeclarationGenerator;
 
-import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.util.List;
 
 import static org.jisel.generators.StringGenerator.PUBLIC_INTERFACE;
@@ -36,14 +37,14 @@ import static org.jisel.generators.StringGenerator.unSealedInterfaceNameConventi
  */
 public final class DeclarationGeneratorImpl implements DeclarationGenerator {
     @Override
-    public void generateModifiersAndName(StringBuilder interfaceContent, String profile, Element largeInterfaceElement, boolean unSeal) {
+    public void generateModifiersAndName(PrintWriter interfaceContent, String profile, LargeInterfaceDescriptor largeInterface, boolean unSeal) {
         generateCode(
                 interfaceContent,
                 List.of(
                         unSeal ? PUBLIC_INTERFACE
                                 : PUBLIC_SEALED_INTERFACE,
-                        unSeal ? unSealedInterfaceNameConvention(profile, largeInterfaceElement)
-                                : sealedInterfaceNameConvention(profile, largeInterfaceElement)
+                        unSeal ? unSealedInterfaceNameConvention(profile, largeInterface.simpleName())
+                                : sealedInterfaceNameConvention(profile, largeInterface.simpleName())
                 )
         );
     }
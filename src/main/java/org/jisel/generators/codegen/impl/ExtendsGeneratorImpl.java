@@ -21,22 +21,21 @@
  */
 package org.jisel.generators.codegen.impl;
 
-import org.jisel.generators.StringGenerator;
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.ProfileGraph;
 import org.jisel.generators.codegen.ExtendsGenerator;
 
-import javax.annotation.processing.ProcessingEnvironment;
-import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
-import static java.util.stream.Collectors.joining;
 import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
 import static org.jisel.generators.StringGenerator.EMPTY_STRING;
+import static org.jisel.generators.StringGenerator.FINAL_CLASS_SUFFIX;
 import static org.jisel.generators.StringGenerator.INF_SIGN;
-import static org.jisel.generators.StringGenerator.JAVA_LANG_OBJECT;
 import static org.jisel.generators.StringGenerator.SUP_SIGN;
-import static org.jisel.generators.StringGenerator.removeDotClass;
+import static org.jisel.generators.StringGenerator.UNDERSCORE;
+import static org.jisel.generators.StringGenerator.WHITESPACE;
 import static org.jisel.generators.StringGenerator.sealedInterfaceNameConvention;
 import static org.jisel.generators.StringGenerator.unSealedInterfaceNameConvention;
 
@@ -45,53 +44,43 @@ import static org.jisel.generators.StringGenerator.unSealedInterfaceNameConventi
  */
 public final class ExtendsGeneratorImpl implements ExtendsGenerator {
 
-    private final ProcessingEnvironment processingEnvironment;
-
-    /**
-     * Injects needed instance of {@link ProcessingEnvironment}
-     *
-     * @param processingEnvironment {@link ProcessingEnvironment} instance needed to perform low-level operations on {@link Element} instances
-     */
-    public ExtendsGeneratorImpl(ProcessingEnvironment processingEnvironment) {
-        this.processingEnvironment = processingEnvironment;
-    }
-
     @Override
-    public void generateExtendsClauseFromPermitsMapAndProcessedProfile(StringBuilder sealedInterfaceContent,
-                                                                       Map<String, List<String>> permitsMap,
-                                                                       String processedProfile,
-                                                                       Element largeInterfaceElement,
-                                                                       boolean unSeal) {
-        Optional.ofNullable(permitsMap).ifPresent(nonNullPermitsMap -> {
-            var parentList = nonNullPermitsMap.entrySet().stream()
-                    .filter(permitsMapEntry -> permitsMapEntry.getValue().contains(processedProfile))
-                    .map(permitsMapEntry -> unSeal ? unSealedInterfaceNameConvention(permitsMapEntry.getKey(), largeInterfaceElement)
-                            : sealedInterfaceNameConvention(permitsMapEntry.getKey(), largeInterfaceElement))
-                    .toList();
-            if (!parentList.isEmpty()) {
-                generateCode(sealedInterfaceContent, parentList);
-            } else {
-                // only for largeInterface sealed interface generation, add interfaces it extends if any
-                var superInterfacesList = processingEnvironment.getTypeUtils().directSupertypes(largeInterfaceElement.asType()).stream()
-                        .map(Object::toString)
-                        .filter(superType -> !superType.contains(JAVA_LANG_OBJECT))
-                        .toList();
-                if (largeInterfaceElement.getSimpleName().toString().equals(processedProfile) && !superInterfacesList.isEmpty()) {
-                    generateCode(sealedInterfaceContent, superInterfacesList);
-                }
+    public void generateExtendsClauseFromProfileGraphAndProcessedProfile(PrintWriter sealedInterfaceContent,
+                                                                         ProfileGraph profileGraph,
+                                                                         String processedProfile,
+                                                                         LargeInterfaceDescriptor largeInterface,
+                                                                         boolean unSeal) {
+        var parentList = profileGraph.parents(processedProfile).stream()
+                .map(parentProfile -> unSeal ? unSealedInterfaceNameConvention(parentProfile, largeInterface.simpleName())
+                        : sealedInterfaceNameConvention(parentProfile, largeInterface.simpleName()))
+                .sorted()
+                .toList();
+        if (!parentList.isEmpty() && isFinalClass(processedProfile, largeInterface)) {
+            generateImplementsClause(sealedInterfaceContent, parentList);
+        } else if (!parentList.isEmpty()) {
+            generateCode(sealedInterfaceContent, parentList);
+        } else {
+            // only for largeInterface sealed interface generation, add interfaces it extends if any
+            if (largeInterface.simpleName().equals(processedProfile) && !largeInterface.superInterfaces().isEmpty()) {
+                generateCode(sealedInterfaceContent, largeInterface.superInterfaces());
             }
-        });
+        }
+    }
+
+    // the convenience final class is the only generated class, all other generated types are interfaces
+    private boolean isFinalClass(String processedProfile, LargeInterfaceDescriptor largeInterface) {
+        return (UNDERSCORE + largeInterface.simpleName() + FINAL_CLASS_SUFFIX).equals(processedProfile);
     }
 
     @Override
-    public void generateExtendsClauseFromSuperInterfacesList(StringBuilder sealedInterfaceContent,
+    public void generateExtendsClauseFromSuperInterfacesList(PrintWriter sealedInterfaceContent,
                                                              List<String> superInterfaces,
                                                              Map<String, List<String>> superInterfacesGenerics) {
         var superInterfacesWithGenericsList = superInterfaces.stream()
                 .map(supIntrf ->
-                        removeDotClass(supIntrf) + (
+                        supIntrf + (
                                 superInterfacesGenerics.containsKey(supIntrf) && !superInterfacesGenerics.get(supIntrf).isEmpty()
-                                        ? INF_SIGN + superInterfacesGenerics.get(supIntrf).stream().map(StringGenerator::removeDotClass).collect(joining(COMMA_SEPARATOR)) + SUP_SIGN
+                                        ? INF_SIGN + String.join(COMMA_SEPARATOR + WHITESPACE, superInterfacesGenerics.get(supIntrf)) + SUP_SIGN
                                         : EMPTY_STRING
                         )
                 )
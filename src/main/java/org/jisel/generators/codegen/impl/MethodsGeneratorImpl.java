@@ -21,20 +21,20 @@
  */
 package org.jisel.generators.codegen.impl;
 
+import org.jisel.generators.MethodDescriptor;
 import org.jisel.generators.codegen.MethodsGenerator;
 
-import javax.lang.model.element.Element;
-import java.util.Set;
+import java.io.PrintWriter;
+import java.util.Collection;
 
-import static java.lang.String.format;
+import static java.util.Comparator.comparing;
 import static org.jisel.generators.StringGenerator.CLOSING_CURLY_BRACE;
-import static org.jisel.generators.StringGenerator.EMPTY_STRING;
 import static org.jisel.generators.StringGenerator.NEW_LINE;
 import static org.jisel.generators.StringGenerator.OPENING_CURLY_BRACE;
+import static org.jisel.generators.StringGenerator.PUBLIC;
 import static org.jisel.generators.StringGenerator.SEMICOLON;
-import static org.jisel.generators.StringGenerator.TAB;
+import static org.jisel.generators.StringGenerator.THROWS;
 import static org.jisel.generators.StringGenerator.WHITESPACE;
-import static org.jisel.generators.codegen.AnnotationsGenerator.buildExistingAnnotations;
 
 /**
  * Generates the list of methods of an interface or a class being generated
@@ -42,42 +42,37 @@ import static org.jisel.generators.codegen.AnnotationsGenerator.buildExistingAnn
 public final class MethodsGeneratorImpl implements MethodsGenerator {
 
     @Override
-    public void generateAbstractMethodsFromElementsSet(StringBuilder sealedInterfaceContent, Set<Element> methodsSet) {
-        generateCode(
-                sealedInterfaceContent,
-                methodsSet.stream()
-                        .map(element -> {
-                            var thrownExceptions = generateThrownExceptions(element);
-                            var existingAnnotations = buildExistingAnnotations(element, NEW_LINE + TAB);
-                            return format(
-                                    "%s%s %s%s",
-                                    existingAnnotations.isEmpty() ? EMPTY_STRING : existingAnnotations,
-                                    generateReturnType(element),
-                                    generateMethodNameAndParameters(element),
-                                    thrownExceptions.isEmpty() ? SEMICOLON : format(" throws %s", thrownExceptions + SEMICOLON)
-                            );
-                        })
-                        .toList()
-        );
+    public void generateAbstractMethods(PrintWriter sealedInterfaceContent, Collection<MethodDescriptor> methods) {
+        methods.stream().sorted(comparing(MethodDescriptor::signature)).forEach(method -> {
+            sealedInterfaceContent.append(METHOD_INDENTATION)
+                    .append(method.existingAnnotations())
+                    .append(method.returnType())
+                    .append(WHITESPACE)
+                    .append(method.nameAndParameters());
+            if (!method.thrownExceptions().isEmpty()) {
+                sealedInterfaceContent.append(WHITESPACE).append(THROWS).append(WHITESPACE).append(method.thrownExceptions());
+            }
+            sealedInterfaceContent.append(SEMICOLON).append(NEW_LINE);
+        });
     }
 
     @Override
-    public void generateEmptyConcreteMethodsFromElementsSet(StringBuilder sealedInterfaceContent, Set<Element> methodsSet) {
-        generateCode(
-                sealedInterfaceContent,
-                methodsSet.stream()
-                        .map(methodElement -> format(
-                                "public %s %s %s",
-                                generateReturnType(methodElement),
-                                generateMethodNameAndParameters(methodElement),
-                                generateThrownExceptions(methodElement).isEmpty()
-                                        ? OPENING_CURLY_BRACE + generateDefaultReturnValueForMethod(methodElement) + SEMICOLON + CLOSING_CURLY_BRACE
-                                        : format("throws %s",
-                                        generateThrownExceptions(methodElement) + WHITESPACE + OPENING_CURLY_BRACE
-                                                + generateDefaultReturnValueForMethod(methodElement) + SEMICOLON + CLOSING_CURLY_BRACE
-                                )
-                        ))
-                        .toList()
-        );
+    public void generateEmptyConcreteMethods(PrintWriter sealedInterfaceContent, Collection<MethodDescriptor> methods) {
+        methods.stream().sorted(comparing(MethodDescriptor::signature)).forEach(method -> {
+            sealedInterfaceContent.append(METHOD_INDENTATION)
+                    .append(PUBLIC).append(WHITESPACE)
+                    .append(method.returnType())
+                    .append(WHITESPACE)
+                    .append(method.nameAndParameters())
+                    .append(WHITESPACE);
+            if (!method.thrownExceptions().isEmpty()) {
+                sealedInterfaceContent.append(THROWS).append(WHITESPACE).append(method.thrownExceptions()).append(WHITESPACE);
+            }
+            sealedInterfaceContent.append(OPENING_CURLY_BRACE)
+                    .append(method.defaultReturnValue())
+                    .append(SEMICOLON)
+                    .append(CLOSING_CURLY_BRACE)
+                    .append(NEW_LINE);
+        });
     }
-}
\ No newline at end of file
+}
@@ -21,12 +21,11 @@
  */
 package org.jisel.generators.codegen.impl;
 
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.ProfileGraph;
 import org.jisel.generators.codegen.PermitsGenerator;
 
-import javax.lang.model.element.Element;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.io.PrintWriter;
 
 import static org.jisel.generators.StringGenerator.sealedInterfaceNameConventionForList;
 
@@ -36,16 +35,13 @@ import static org.jisel.generators.StringGenerator.sealedInterfaceNameConvention
  */
 public final class PermitsGeneratorImpl implements PermitsGenerator {
     @Override
-    public void generatePermitsClauseFromPermitsMapAndProcessedProfile(StringBuilder sealedInterfaceContent,
-                                                                       Map<String, List<String>> permitsMap,
-                                                                       String processedProfile,
-                                                                       Element largeInterfaceElement) {
-        addFinalClassToPermitsMap(permitsMap, largeInterfaceElement);
-        var permitsMapOpt = Optional.ofNullable(permitsMap);
-        if (permitsMapOpt.isPresent() && !permitsMapOpt.get().isEmpty()) {
-            Optional.ofNullable(permitsMapOpt.get().get(processedProfile)).ifPresent(
-                    childrenList -> generateCode(sealedInterfaceContent, sealedInterfaceNameConventionForList(childrenList, largeInterfaceElement))
-            );
+    public void generatePermitsClauseFromProfileGraphAndProcessedProfile(PrintWriter sealedInterfaceContent,
+                                                                         ProfileGraph profileGraph,
+                                                                         String processedProfile,
+                                                                         LargeInterfaceDescriptor largeInterface) {
+        var childrenList = profileGraph.children(processedProfile);
+        if (!childrenList.isEmpty()) {
+            generateCode(sealedInterfaceContent, sealedInterfaceNameConventionForList(childrenList, largeInterface.simpleName()).stream().sorted().toList());
         }
     }
 }
\ No newline at end of file
@@ -21,13 +21,18 @@
  */
 package org.jisel.generators.contentgen;
 
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.DetachSpec;
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.MethodDescriptor;
+import org.jisel.generators.ProfileGraph;
 import org.jisel.generators.contentgen.impl.DetachedInterfaceSourceContentGenerator;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Exposes contract to fulfill by classes generating content of detached interfaces
@@ -36,32 +41,37 @@ public abstract sealed class AbstractSealedDetachedInterfaceSourceContentGenerat
         permits DetachedInterfaceSourceContentGenerator {
 
     /**
-     * Passes through the received {@link ProcessingEnvironment} instance to the super constructor
+     * Passes through the received {@link ProcessingEnvironment} and {@link AppInfo} instances to the super constructor
      *
      * @param processingEnvironment {@link ProcessingEnvironment} instance needed for performing low-level operations on {@link Element} instances
+     * @param appInfo               {@link AppInfo} instance holding the app information displayed in the generated files
      */
-    protected AbstractSealedDetachedInterfaceSourceContentGenerator(ProcessingEnvironment processingEnvironment) {
-        super(processingEnvironment);
+    protected AbstractSealedDetachedInterfaceSourceContentGenerator(ProcessingEnvironment processingEnvironment, AppInfo appInfo) {
+        super(processingEnvironment, appInfo);
     }
 
     /**
-     * Generates the detached interface String content
+     * Generates the detached interface content and writes it to the provided {@link PrintWriter} instance
      *
+     * @param output                         {@link PrintWriter} instance receiving the generated content
      * @param detachedInterfaceQualifiedName qualified name of the detached interface being generated
-     * @param detachAttribs                  {@link Map} storing all attributes passed through the &#64;{@link org.jisel.annotations.Detach} annotation
-     *                                       additionally to the abstract methods of the detached interface being generated
-     * @param largeInterfaceElement          {@link Element} instance of the large interface to process
-     * @return the detached interface String content
+     * @param detachSpec                     {@link DetachSpec} instance storing all attributes passed through the
+     *                                       &#64;{@link org.jisel.annotations.Detach} annotation
+     * @param methods                        abstract methods ({@link MethodDescriptor} instances) of the detached interface being generated
+     * @param largeInterface                 {@link LargeInterfaceDescriptor} instance of the large interface to process
      */
-    public abstract String generateDetachedInterfaceSourceContent(String detachedInterfaceQualifiedName,
-                                                                  Map<String, Object> detachAttribs,
-                                                                  Element largeInterfaceElement);
+    public abstract void generateDetachedInterfaceSourceContent(PrintWriter output,
+                                                                String detachedInterfaceQualifiedName,
+                                                                DetachSpec detachSpec,
+                                                                List<MethodDescriptor> methods,
+                                                                LargeInterfaceDescriptor largeInterface);
 
     @Override
-    public String generateSourceContent(Element largeInterfaceElement,
-                                        boolean unSeal,
-                                        Map.Entry<String, Set<Element>> sealedInterfaceToGenerate,
-                                        Map<String, List<String>> sealedInterfacesPermitsMap) {
-        throw new UnsupportedOperationException("Call generateDetachedInterfaceSourceContent(String, Map<String, Object>, Element) method instead");
+    public void generateSourceContent(PrintWriter output,
+                                      LargeInterfaceDescriptor largeInterface,
+                                      boolean unSeal,
+                                      Map.Entry<String, List<MethodDescriptor>> sealedInterfaceToGenerate,
+                                      ProfileGraph profileGraph) {
+        throw new UnsupportedOperationException("Call generateDetachedInterfaceSourceContent(PrintWriter, String, DetachSpec, List<MethodDescriptor>, LargeInterfaceDescriptor) method instead");
     }
 }
\ No newline at end of file
@@ -21,14 +21,17 @@
  */
 package org.jisel.generators.contentgen;
 
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.MethodDescriptor;
+import org.jisel.generators.ProfileGraph;
 import org.jisel.generators.contentgen.impl.ReportContentGenerator;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
@@ -81,85 +84,87 @@ public abstract sealed class AbstractSealedReportContentGenerator extends Abstra
     private static final String CHILDREN_NAMES_SEPARATOR = "%n\t\t";
 
     /**
-     * Passes through the received {@link ProcessingEnvironment} instance to the super constructor
+     * Passes through the received {@link ProcessingEnvironment} and {@link AppInfo} instances to the super constructor
      *
      * @param processingEnvironment {@link ProcessingEnvironment} instance needed for performing low-level operations on {@link Element} instances
+     * @param appInfo               {@link AppInfo} instance holding the app information displayed in the generated files
      */
-    protected AbstractSealedReportContentGenerator(ProcessingEnvironment processingEnvironment) {
-        super(processingEnvironment);
+    protected AbstractSealedReportContentGenerator(ProcessingEnvironment processingEnvironment, AppInfo appInfo) {
+        super(processingEnvironment, appInfo);
     }
 
     /**
-     * Generates Jisel Generation Report file String content
+     * Generates Jisel Generation Report file content and writes it to the provided {@link PrintWriter} instance
      *
-     * @param largeInterfaceElement       {@link Element} instance of the large interface to process
+     * @param output                      {@link PrintWriter} instance receiving the generated content
+     * @param largeInterface              {@link LargeInterfaceDescriptor} instance of the large interface to process
      * @param unSeal                      indicates whether the generate report content should include unsealed interfaces
      * @param sealedInterfacesToGenerate  {@link Map} containing information about the generated sealed interfaces
-     * @param sealedInterfacesPermitsMap  {@link Map} containing information about the subtypes permitted by each one of the
+     * @param profileGraph                {@link ProfileGraph} indexing the subtypes permitted by each one of the
      *                                    sealed interfaces to be generated
      * @param generatedDetachedInterfaces {@link Map} containing information about the generated detached interfaces
-     * @return Jisel Generation Report file String content
      */
-    public abstract String generateReportContent(Element largeInterfaceElement,
-                                                 boolean unSeal,
-                                                 Map<String, Set<Element>> sealedInterfacesToGenerate,
-                                                 Map<String, List<String>> sealedInterfacesPermitsMap,
-                                                 List<String> generatedDetachedInterfaces);
+    public abstract void generateReportContent(PrintWriter output,
+                                               LargeInterfaceDescriptor largeInterface,
+                                               boolean unSeal,
+                                               Map<String, List<MethodDescriptor>> sealedInterfacesToGenerate,
+                                               ProfileGraph profileGraph,
+                                               List<String> generatedDetachedInterfaces);
 
     /**
      * Generates content for the 'Generated Sealed Interfaces' section of the report file
      *
-     * @param largeInterfaceElement         {@link Element} instance of the large interface to process
+     * @param reportContent                 {@link PrintWriter} instance receiving the report content
+     * @param largeInterface                {@link LargeInterfaceDescriptor} instance of the large interface to process
      * @param sealedInterfacesToGenerateMap {@link Map} containing information about the generated sealed interfaces
-     * @param sealedInterfacesPermitsMap    {@link Map} containing information about the subtypes permitted by each one of the
+     * @param profileGraph                  {@link ProfileGraph} indexing the subtypes permitted by each one of the
      *                                      sealed interfaces to be generated
-     * @return String content for the 'Generated Sealed Interfaces' section of the report file
      */
-    protected String generateSealedInterfacesReportContent(Element largeInterfaceElement,
-                                                           Map<String, Set<Element>> sealedInterfacesToGenerateMap,
-                                                           Map<String, List<String>> sealedInterfacesPermitsMap) {
-        var reportContent = new StringBuilder();
+    protected void generateSealedInterfacesReportContent(PrintWriter reportContent,
+                                                         LargeInterfaceDescriptor largeInterface,
+                                                         Map<String, List<MethodDescriptor>> sealedInterfacesToGenerateMap,
+                                                         ProfileGraph profileGraph) {
         reportContent.append(format(HEADER_TITLE_FORMAT, GENERATED_SEALED_INTERFACES_HEADER));
-        sealedInterfacesToGenerateMap.keySet().forEach(profile -> {
-            var sealedInterfaceName = sealedInterfaceNameConvention(profile, largeInterfaceElement);
+        sealedInterfacesToGenerateMap.keySet().stream().sorted().forEach(profile -> {
+            var sealedInterfaceName = sealedInterfaceNameConvention(profile, largeInterface.simpleName());
             reportContent.append(format(GENERATED_INTERFACE_NAME_DISPLAY_FORMAT, sealedInterfaceName));
-            var sealedInterfaceChildrenOpt = Optional.ofNullable(sealedInterfacesPermitsMap.get(profile));
-            if (sealedInterfaceChildrenOpt.isPresent() && !sealedInterfaceChildrenOpt.get().isEmpty()) {
+            var sealedInterfaceChildren = profileGraph.children(profile);
+            if (!sealedInterfaceChildren.isEmpty()) {
                 reportContent.append(format(CHILDREN_HEADER_TITLE_FORMAT, CHILDREN_HEADER));
-                if (!sealedInterfaceChildrenOpt.get().isEmpty()) {
+                if (!sealedInterfaceChildren.isEmpty()) {
                     reportContent.append(format(
                             CHILD_INTERFACE_NAME_FORMAT,
-                            sealedInterfaceChildrenOpt.get().stream()
-                                    .map(childName -> sealedInterfaceNameConvention(childName, largeInterfaceElement))
+                            sealedInterfaceChildren.stream()
+                                    .map(childName -> sealedInterfaceNameConvention(childName, largeInterface.simpleName()))
+                                    .sorted()
                                     .collect(joining(format(CHILDREN_NAMES_SEPARATOR)))
                     ));
                 }
             }
         });
         reportContent.append(NEW_LINE);
-        return reportContent.toString();
     }
 
     /**
      * Generates content for the 'Generated UnSealed Interfaces' section of the report file
      *
-     * @param largeInterfaceElement         {@link Element} instance of the large interface to process
+     * @param reportContent                 {@link PrintWriter} instance receiving the report content
+     * @param largeInterface                {@link LargeInterfaceDescriptor} instance of the large interface to process
      * @param sealedInterfacesToGenerateMap {@link Map} containing information about the generated sealed interfaces
-     * @param sealedInterfacesPermitsMap    {@link Map} containing information about the subtypes permitted by each one of the
+     * @param profileGraph                  {@link ProfileGraph} indexing the subtypes permitted by each one of the
      *                                      sealed interfaces to be generated
-     * @return String content for the 'Generated Unsealed Interfaces' section of the report file
      */
-    protected String generateUnSealedInterfacesReportContent(Element largeInterfaceElement,
-                                                             Map<String, Set<Element>> sealedInterfacesToGenerateMap,
-                                                             Map<String, List<String>> sealedInterfacesPermitsMap) {
-        var reportContent = new StringBuilder();
+    protected void generateUnSealedInterfacesReportContent(PrintWriter reportContent,
+                                                           LargeInterfaceDescriptor largeInterface,
+                                                           Map<String, List<MethodDescriptor>> sealedInterfacesToGenerateMap,
+                                                           ProfileGraph profileGraph) {
         reportContent.append(format(HEADER_TITLE_FORMAT, GENERATED_UNSEALED_INTERFACES_HEADER));
-        sealedInterfacesToGenerateMap.keySet().forEach(profile -> {
-            var interfaceName = unSealedInterfaceNameConvention(profile, largeInterfaceElement);
+        sealedInterfacesToGenerateMap.keySet().stream().sorted().forEach(profile -> {
+            var interfaceName = unSealedInterfaceNameConvention(profile, largeInterface.simpleName());
             reportContent.append(format(GENERATED_INTERFACE_NAME_DISPLAY_FORMAT, interfaceName));
-            var interfaceChildrenOpt = Optional.ofNullable(sealedInterfacesPermitsMap.get(profile));
-            if (interfaceChildrenOpt.isPresent() && !interfaceChildrenOpt.get().isEmpty()) {
-                var childrenListOutput = interfaceChildrenOpt.get().stream()
+            var interfaceChildren = profileGraph.children(profile);
+            if (!interfaceChildren.isEmpty()) {
+                var childrenListOutput = interfaceChildren.stream()
                         .filter(childName -> !childName.startsWith(UNDERSCORE) && !childName.endsWith(FINAL_CLASS_SUFFIX))
                         .filter(childName -> !childName.contains(DOT))
                         .toList();
@@ -168,35 +173,34 @@ public abstract sealed class AbstractSealedReportContentGenerator extends Abstra
                     reportContent.append(format(
                             CHILD_INTERFACE_NAME_FORMAT,
                             childrenListOutput.stream()
-                                    .map(childName -> unSealedInterfaceNameConvention(childName, largeInterfaceElement))
+                                    .map(childName -> unSealedInterfaceNameConvention(childName, largeInterface.simpleName()))
+                                    .sorted()
                                     .collect(joining(format(CHILDREN_NAMES_SEPARATOR)))
                     ));
                 }
             }
         });
         reportContent.append(NEW_LINE);
-        return reportContent.toString();
     }
 
     /**
      * Generates content for the 'Generated Detached Interfaces' section of the report file
      *
+     * @param reportContent               {@link PrintWriter} instance receiving the report content
      * @param generatedDetachedInterfaces {@link List} of generated detached interfaces
-     * @return String content for the 'Generated Detached Interfaces' section of the report file
      */
-    protected String generateDetachedInterfacesReportContent(List<String> generatedDetachedInterfaces) {
-        var reportContent = new StringBuilder();
+    protected void generateDetachedInterfacesReportContent(PrintWriter reportContent, List<String> generatedDetachedInterfaces) {
         reportContent.append(format(HEADER_TITLE_FORMAT, GENERATED_DETACHED_INTERFACES_HEADER));
-        generatedDetachedInterfaces.stream().forEach(qualifiedName -> reportContent.append(format(GENERATED_INTERFACE_NAME_DISPLAY_FORMAT, qualifiedName)));
+        generatedDetachedInterfaces.stream().sorted().forEach(qualifiedName -> reportContent.append(format(GENERATED_INTERFACE_NAME_DISPLAY_FORMAT, qualifiedName)));
         reportContent.append(NEW_LINE);
-        return reportContent.toString();
     }
 
     @Override
-    public String generateSourceContent(Element largeInterfaceElement,
-                                        boolean unSeal,
-                                        Map.Entry<String, Set<Element>> sealedInterfaceToGenerate,
-                                        Map<String, List<String>> sealedInterfacesPermitsMap) {
-        return generateReportContent(largeInterfaceElement, unSeal, Map.ofEntries(sealedInterfaceToGenerate), sealedInterfacesPermitsMap, List.of());
+    public void generateSourceContent(PrintWriter output,
+                                      LargeInterfaceDescriptor largeInterface,
+                                      boolean unSeal,
+                                      Map.Entry<String, List<MethodDescriptor>> sealedInterfaceToGenerate,
+                                      ProfileGraph profileGraph) {
+        generateReportContent(output, largeInterface, unSeal, Map.ofEntries(sealedInterfaceToGenerate), profileGraph, List.of());
     }
 }
\ No newline at end of file
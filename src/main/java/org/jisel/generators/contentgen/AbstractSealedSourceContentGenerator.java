@@ -21,6 +21,7 @@
  */
 package org.jisel.generators.contentgen;
 
+import org.jisel.generators.AppInfo;
 import org.jisel.generators.codegen.AnnotationsGenerator;
 import org.jisel.generators.codegen.DeclarationGenerator;
 import org.jisel.generators.codegen.ExtendsGenerator;
@@ -35,12 +36,9 @@ import org.jisel.generators.contentgen.impl.FinalClassSourceContentGenerator;
 import org.jisel.generators.contentgen.impl.InterfaceSourceContentGenerator;
 
 import javax.annotation.processing.ProcessingEnvironment;
+import java.io.PrintWriter;
 
-import static org.jisel.generators.AppInfoGenerator.APPLICATION_PROPERTIES_FILENAME;
-import static org.jisel.generators.AppInfoGenerator.DEFAULT_APP_VERSION;
-import static org.jisel.generators.AppInfoGenerator.INFO_APP_VERSION_PROPERTY_NAME;
-import static org.jisel.generators.AppInfoGenerator.JISEL_ANNOTATION_PROCESSOR_CLASSNAME;
-import static org.jisel.generators.AppInfoGenerator.getPropertyValueFromPropsFile;
+import static org.jisel.AnnotationProcessor.JISEL_REPRODUCIBLE_OPTION;
 
 /**
  * Encapsulates objects needed by classes implementing {@link SourceContentGenerator}
@@ -54,6 +52,16 @@ public abstract sealed class AbstractSealedSourceContentGenerator implements Sou
      */
     protected final ProcessingEnvironment processingEnvironment;
 
+    /**
+     * {@link AppInfo} instance holding the app information displayed in the generated files
+     */
+    protected final AppInfo appInfo;
+
+    /**
+     * Indicates whether the {@link org.jisel.AnnotationProcessor#JISEL_REPRODUCIBLE_OPTION} option was enabled
+     */
+    protected final boolean reproducible;
+
     /**
      * {@link AnnotationsGenerator} instance needed to generate annotations
      */
@@ -83,11 +91,14 @@ public abstract sealed class AbstractSealedSourceContentGenerator implements Sou
      * Creates instances of objects needed by classes implementing {@link SourceContentGenerator}
      *
      * @param processingEnvironment {@link ProcessingEnvironment} instance needed for source content generation
+     * @param appInfo               {@link AppInfo} instance holding the app information displayed in the generated files
      */
-    protected AbstractSealedSourceContentGenerator(ProcessingEnvironment processingEnvironment) {
+    protected AbstractSealedSourceContentGenerator(ProcessingEnvironment processingEnvironment, AppInfo appInfo) {
         this.processingEnvironment = processingEnvironment;
+        this.appInfo = appInfo;
+        this.reproducible = Boolean.parseBoolean(processingEnvironment.getOptions().get(JISEL_REPRODUCIBLE_OPTION));
         this.annotationsGenerator = new AnnotationsGeneratorImpl();
-        this.extendsGenerator = new ExtendsGeneratorImpl(this.processingEnvironment);
+        this.extendsGenerator = new ExtendsGeneratorImpl();
         this.permitsGenerator = new PermitsGeneratorImpl();
         this.methodsGenerator = new MethodsGeneratorImpl();
         this.declarationGenerator = new DeclarationGeneratorImpl();
@@ -96,13 +107,14 @@ public abstract sealed class AbstractSealedSourceContentGenerator implements Sou
     /**
      * Convenience method sparing its callers from providing all params to {@link AnnotationsGenerator}.generateJavaxGeneratedAnnotation method
      *
-     * @param classOrInterfaceContent StringBuilder object containing the code of the interface or class being generated
+     * @param classOrInterfaceContent PrintWriter object receiving the code of the interface or class being generated
      */
-    protected void buildJavaxGeneratedAnnotation(StringBuilder classOrInterfaceContent) {
+    protected void buildJavaxGeneratedAnnotation(PrintWriter classOrInterfaceContent) {
         annotationsGenerator.generateJavaxGeneratedAnnotation(
                 classOrInterfaceContent,
-                JISEL_ANNOTATION_PROCESSOR_CLASSNAME,
-                getPropertyValueFromPropsFile(APPLICATION_PROPERTIES_FILENAME, INFO_APP_VERSION_PROPERTY_NAME, DEFAULT_APP_VERSION)
+                appInfo.annotationProcessorClassname(),
+                appInfo.version(),
+                reproducible
         );
     }
 }
\ No newline at end of file
@@ -21,15 +21,14 @@
  */
 package org.jisel.generators.contentgen;
 
-import javax.lang.model.element.Element;
-import java.util.HashSet;
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.MethodDescriptor;
+import org.jisel.generators.ProfileGraph;
+
+import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
-import java.util.function.Function;
 
 import static org.jisel.generators.StringGenerator.JISEL_KEYWORD_TOPLEVEL;
 import static org.jisel.generators.StringGenerator.JISEL_KEYWORD_TOPLEVEL_REPLACEMENT;
@@ -48,93 +47,28 @@ public sealed interface SourceContentGenerator permits AbstractSealedSourceConte
     /**
      * Function returning the name of the detached interface being generated if the provided profile is "(toplevel)"
      */
-    BiFunction<String, Element, String> DETACHED_TOP_LEVEL_INTERFACE_NAME_FUNC = (profile, largeInterfaceElement) ->
+    BinaryOperator<String> DETACHED_TOP_LEVEL_INTERFACE_NAME_FUNC = (profile, largeInterfaceSimpleName) ->
             JISEL_KEYWORD_TOPLEVEL.equalsIgnoreCase(profile) || JISEL_KEYWORD_TOPLEVEL_REPLACEMENT.equalsIgnoreCase(profile)
-                    ? largeInterfaceElement.getSimpleName().toString()
+                    ? largeInterfaceSimpleName
                     : profile;
 
     /**
-     * Generates the string content of a class or interface
+     * Generates the content of a class or interface and writes it to the provided {@link PrintWriter} instance.<br>
+     * Only relies on immutable descriptors, so can be called from any thread
      *
-     * @param largeInterfaceElement      {@link Element} instance of the large interface being segregated
+     * @param output                     {@link PrintWriter} instance receiving the generated content
+     * @param largeInterface             {@link LargeInterfaceDescriptor} instance of the large interface being segregated
      * @param unSeal                     if 'true', indicates that additionally to generating the sealed interfaces' hierarchy,
      *                                   also generate the classic (non-sealed) interfaces hierarchy.<br>
      *                                   If 'false', only generate the sealed interfaces' hierarchy
      * @param sealedInterfaceToGenerate  {@link Map.Entry} instance containing information about the sealed interface to generate
-     *                                   (profile as key and value is a Set of abstract methods {@link Element} instances)
-     * @param sealedInterfacesPermitsMap {@link Map} containing information about the subtypes permitted by each one of the
+     *                                   (profile as key and value is a List of abstract methods {@link MethodDescriptor} instances)
+     * @param profileGraph               {@link ProfileGraph} indexing the subtypes permitted by each one of the
      *                                   sealed interfaces to be generated
-     * @return the requested class or interface string content
-     */
-    String generateSourceContent(Element largeInterfaceElement,
-                                 boolean unSeal,
-                                 Map.Entry<String, Set<Element>> sealedInterfaceToGenerate,
-                                 Map<String, List<String>> sealedInterfacesPermitsMap);
-
-    /**
-     * Finds all abstract methods of the interface generated for the provided profile.<br>
-     * All parent and super-parent methods are also included
-     *
-     * @param profile                                    name of the profile. Must be one of the profiles defined with the
-     *                                                   &#64;{@link org.jisel.annotations.SealFor} annotation
-     * @param sealedInterfacesToGenerateByLargeInterface {@link Map} containing information about the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the {@link Element} instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a Set of Element instances as the value.
-     *                                                   The Element instances represent each one of the abstract methods to be
-     *                                                   added to the generated sealed interface corresponding to a profile.
-     * @param sealedInterfacesPermitsByLargeInterface    {@link Map} containing information about the subtypes permitted by each one of the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a List of profiles names as the value.
-     * @param largeInterfaceElement                      {@link Element} instance of the large interface being segregated
-     * @return a {@link Set} of method {@link Element} instances
      */
-    static Set<Element> findAllAbstractMethodsForProfile(String profile,
-                                                         Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                         Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface,
-                                                         Element largeInterfaceElement) {
-        var methodsElementSet = new HashSet<Element>();
-        if (JISEL_KEYWORD_TOPLEVEL.equalsIgnoreCase(profile)
-                || JISEL_KEYWORD_TOPLEVEL_REPLACEMENT.equalsIgnoreCase(profile)
-                || largeInterfaceElement.getSimpleName().toString().equals(profile)) {
-            methodsElementSet.addAll(
-                    sealedInterfacesToGenerateByLargeInterface.get(largeInterfaceElement).get(largeInterfaceElement.getSimpleName().toString())
-            );
-        } else {
-            methodsElementSet.addAll(sealedInterfacesToGenerateByLargeInterface.get(largeInterfaceElement).get(profile));
-            addMethodsFromParentProfiles(
-                    profile,
-                    methodsElementSet,
-                    largeInterfaceElement,
-                    sealedInterfacesToGenerateByLargeInterface,
-                    sealedInterfacesPermitsByLargeInterface
-            );
-        }
-        return methodsElementSet;
-    }
-
-    // recursive search for abstract methods for the provided profile
-    private static void addMethodsFromParentProfiles(String processedProfile,
-                                                     Set<Element> methodsElementSet,
-                                                     Element largeInterfaceElement,
-                                                     Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                     Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
-        Function<String, Optional<Map.Entry<String, List<String>>>> findProfileAsChild = profile ->
-                sealedInterfacesPermitsByLargeInterface.get(largeInterfaceElement).entrySet().stream()
-                        .filter(mapEntry -> mapEntry.getValue().contains(profile))
-                        .findFirst();
-        var profileOpt = findProfileAsChild.apply(processedProfile);
-        if (profileOpt.isPresent()) {
-            var parentProfile = profileOpt.get().getKey();
-            methodsElementSet.addAll(sealedInterfacesToGenerateByLargeInterface.get(largeInterfaceElement).get(parentProfile));
-            addMethodsFromParentProfiles(
-                    parentProfile,
-                    methodsElementSet,
-                    largeInterfaceElement,
-                    sealedInterfacesToGenerateByLargeInterface,
-                    sealedInterfacesPermitsByLargeInterface
-            );
-        }
-    }
-}
\ No newline at end of file
+    void generateSourceContent(PrintWriter output,
+                               LargeInterfaceDescriptor largeInterface,
+                               boolean unSeal,
+                               Map.Entry<String, List<MethodDescriptor>> sealedInterfaceToGenerate,
+                               ProfileGraph profileGraph);
+}
@@ -21,27 +21,19 @@
  */
 package org.jisel.generators.contentgen.impl;
 
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.DetachSpec;
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.MethodDescriptor;
 import org.jisel.generators.contentgen.AbstractSealedDetachedInterfaceSourceContentGenerator;
 
 import javax.annotation.processing.ProcessingEnvironment;
-import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 import java.util.function.BiFunction;
 
-import static java.lang.String.format;
-import static java.util.Arrays.asList;
 import static org.jisel.generators.StringGenerator.CLOSING_CURLY_BRACE;
-import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
-import static org.jisel.generators.StringGenerator.DETACH_APPLYANNOTATIONS;
-import static org.jisel.generators.StringGenerator.DETACH_FIRST_SUPERINTERFACE_GENERICS;
-import static org.jisel.generators.StringGenerator.DETACH_METHODS;
-import static org.jisel.generators.StringGenerator.DETACH_PROFILE;
-import static org.jisel.generators.StringGenerator.DETACH_SECOND_SUPERINTERFACE_GENERICS;
-import static org.jisel.generators.StringGenerator.DETACH_SUPERINTERFACES;
-import static org.jisel.generators.StringGenerator.DETACH_THIRD_SUPERINTERFACE_GENERICS;
 import static org.jisel.generators.StringGenerator.EMPTY_STRING;
 import static org.jisel.generators.StringGenerator.JISEL_KEYWORD_TOPLEVEL;
 import static org.jisel.generators.StringGenerator.JISEL_KEYWORD_TOPLEVEL_REPLACEMENT;
@@ -49,9 +41,10 @@ import static org.jisel.generators.StringGenerator.NEW_LINE;
 import static org.jisel.generators.StringGenerator.OPENING_CURLY_BRACE;
 import static org.jisel.generators.StringGenerator.PACKAGE;
 import static org.jisel.generators.StringGenerator.PUBLIC_INTERFACE;
+import static org.jisel.generators.StringGenerator.SEMICOLON;
+import static org.jisel.generators.StringGenerator.WHITESPACE;
 import static org.jisel.generators.StringGenerator.extractPackageName;
 import static org.jisel.generators.StringGenerator.extractSimpleName;
-import static org.jisel.generators.StringGenerator.removeDoubleSpaceOccurrences;
 
 /**
  * Generates the String content of a detached interface
@@ -59,83 +52,65 @@ import static org.jisel.generators.StringGenerator.removeDoubleSpaceOccurrences;
 public final class DetachedInterfaceSourceContentGenerator extends AbstractSealedDetachedInterfaceSourceContentGenerator {
 
     /**
-     * Passes through the received {@link ProcessingEnvironment} instance to the super constructor
+     * Passes through the received {@link ProcessingEnvironment} and {@link AppInfo} instances to the super constructor
      *
      * @param processingEnvironment {@link ProcessingEnvironment} instance needed for report content generation
+     * @param appInfo               {@link AppInfo} instance holding the app information displayed in the generated files
      */
-    public DetachedInterfaceSourceContentGenerator(ProcessingEnvironment processingEnvironment) {
-        super(processingEnvironment);
+    public DetachedInterfaceSourceContentGenerator(ProcessingEnvironment processingEnvironment, AppInfo appInfo) {
+        super(processingEnvironment, appInfo);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public String generateDetachedInterfaceSourceContent(String detachedInterfaceQualifiedName,
-                                                         Map<String, Object> detachAttribs,
-                                                         Element largeInterfaceElement) {
-        var profile = detachAttribs.get(DETACH_PROFILE).toString();
-        var superInterfacesRawValue = Optional.ofNullable(detachAttribs.get(DETACH_SUPERINTERFACES)).orElse(EMPTY_STRING).toString();
-        var firstSuperInterfaceGenericsRawValue = Optional.ofNullable(detachAttribs.get(DETACH_FIRST_SUPERINTERFACE_GENERICS)).orElse(EMPTY_STRING).toString();
-        var secondSuperInterfaceGenericsRawValue = Optional.ofNullable(detachAttribs.get(DETACH_SECOND_SUPERINTERFACE_GENERICS)).orElse(EMPTY_STRING).toString();
-        var thirdSuperInterfaceGenericsRawValue = Optional.ofNullable(detachAttribs.get(DETACH_THIRD_SUPERINTERFACE_GENERICS)).orElse(EMPTY_STRING).toString();
-        var applyAnnotationsRawValue = Optional.ofNullable(detachAttribs.get(DETACH_APPLYANNOTATIONS)).orElse(EMPTY_STRING).toString();
-        var methods = (Set<Element>) Optional.ofNullable(detachAttribs.get(DETACH_METHODS)).orElse(Set.<Element>of());
-        //
-        var interfaceContent = new StringBuilder();
+    public void generateDetachedInterfaceSourceContent(PrintWriter interfaceContent,
+                                                       String detachedInterfaceQualifiedName,
+                                                       DetachSpec detachSpec,
+                                                       List<MethodDescriptor> methods,
+                                                       LargeInterfaceDescriptor largeInterface) {
+        var profile = detachSpec.profile();
+        var superInterfaces = detachSpec.superInterfaces();
+        var applyAnnotationsRawValue = detachSpec.applyAnnotations();
         // package name
         extractPackageName(detachedInterfaceQualifiedName).ifPresent(
-                packageName -> interfaceContent.append(format("%s %s", PACKAGE, packageName))
+                packageName -> interfaceContent.append(PACKAGE).append(WHITESPACE).append(packageName)
         );
-        interfaceContent.append(format(";%n%n"));
+        interfaceContent.append(SEMICOLON).append(NEW_LINE).append(NEW_LINE);
         // javaxgenerated
         buildJavaxGeneratedAnnotation(interfaceContent);
         // existing annotations
         if (JISEL_KEYWORD_TOPLEVEL.equalsIgnoreCase(profile)
                 || JISEL_KEYWORD_TOPLEVEL_REPLACEMENT.equalsIgnoreCase(profile)
-                || largeInterfaceElement.getSimpleName().toString().equals(profile)) {
-            annotationsGenerator.generateExistingAnnotations(interfaceContent, largeInterfaceElement);
+                || largeInterface.simpleName().equals(profile)) {
+            annotationsGenerator.generateExistingAnnotations(interfaceContent, largeInterface);
         }
         // apply provided annotations raw string values
         if (!applyAnnotationsRawValue.isBlank()) {
             // applyAnnotationsRawValue sample value:
-            //  @Deprecated\n        @SuppressWarnings({\"unused\"})\n        @RequestMapping(value = \"/ex/foos/{fooid}/bar/{barid}\", method = GET)\n
+            //  @Deprecated
+            //  @SuppressWarnings({"unused"})
+            //  @RequestMapping(value = "/ex/foos/{fooid}/bar/{barid}", method = GET)
             annotationsGenerator.applyAnnotations(interfaceContent, applyAnnotationsRawValue);
             interfaceContent.append(NEW_LINE);
         }
         // declaration: public interface
-        interfaceContent.append(format(
-                "%s %s ",
-                PUBLIC_INTERFACE,
-                extractSimpleName(detachedInterfaceQualifiedName).orElse(EMPTY_STRING)
-        ));
+        interfaceContent.append(PUBLIC_INTERFACE).append(WHITESPACE).append(extractSimpleName(detachedInterfaceQualifiedName).orElse(EMPTY_STRING));
         // list of extends
-        if (!superInterfacesRawValue.isBlank()) {
-            var superInterfacesArray = superInterfacesRawValue.split(COMMA_SEPARATOR);
-            BiFunction<String[], Integer, String> elementAtIndex = (array, index) -> index < array.length ? array[index] : index.toString();
+        if (!superInterfaces.isEmpty()) {
+            BiFunction<List<String>, Integer, String> elementAtIndex = (list, index) -> index < list.size() ? list.get(index) : index.toString();
             extendsGenerator.generateExtendsClauseFromSuperInterfacesList(
                     interfaceContent,
-                    asList(superInterfacesArray),
+                    superInterfaces,
                     Map.of(
-                            elementAtIndex.apply(superInterfacesArray, 0),
-                            firstSuperInterfaceGenericsRawValue.isBlank()
-                                    ? List.of()
-                                    : asList(firstSuperInterfaceGenericsRawValue.split(COMMA_SEPARATOR)),
-                            elementAtIndex.apply(superInterfacesArray, 1),
-                            secondSuperInterfaceGenericsRawValue.isBlank()
-                                    ? List.of()
-                                    : asList(secondSuperInterfaceGenericsRawValue.split(COMMA_SEPARATOR)),
-                            elementAtIndex.apply(superInterfacesArray, 2),
-                            thirdSuperInterfaceGenericsRawValue.isBlank()
-                                    ? List.of()
-                                    : asList(thirdSuperInterfaceGenericsRawValue.split(COMMA_SEPARATOR))
+                            elementAtIndex.apply(superInterfaces, 0), detachSpec.firstSuperInterfaceGenerics(),
+                            elementAtIndex.apply(superInterfaces, 1), detachSpec.secondSuperInterfaceGenerics(),
+                            elementAtIndex.apply(superInterfaces, 2), detachSpec.thirdSuperInterfaceGenerics()
                     )
             );
         }
-        interfaceContent.append(format(" %s%n ", OPENING_CURLY_BRACE)); // opening bracket after permits list
+        interfaceContent.append(WHITESPACE).append(OPENING_CURLY_BRACE).append(NEW_LINE).append(WHITESPACE); // opening bracket after permits list
         // list of methods
-        methodsGenerator.generateAbstractMethodsFromElementsSet(interfaceContent, methods);
+        methodsGenerator.generateAbstractMethods(interfaceContent, methods);
         // closing bracket
         interfaceContent.append(CLOSING_CURLY_BRACE);
-        //
-        return removeDoubleSpaceOccurrences(interfaceContent.toString());
     }
 }
\ No newline at end of file
@@ -21,28 +21,28 @@
  */
 package org.jisel.generators.contentgen.impl;
 
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.MethodDescriptor;
+import org.jisel.generators.ProfileGraph;
 import org.jisel.generators.contentgen.AbstractSealedSourceContentGenerator;
 
 import javax.annotation.processing.ProcessingEnvironment;
-import javax.lang.model.element.Element;
-import javax.lang.model.element.ElementKind;
-import javax.lang.model.element.TypeElement;
+import java.io.PrintWriter;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-import static java.lang.String.format;
-import static java.util.Arrays.asList;
-import static java.util.stream.Collectors.toSet;
 import static org.jisel.generators.StringGenerator.CLOSING_CURLY_BRACE;
 import static org.jisel.generators.StringGenerator.FINAL_CLASS_SUFFIX;
+import static org.jisel.generators.StringGenerator.NEW_LINE;
 import static org.jisel.generators.StringGenerator.OPENING_CURLY_BRACE;
 import static org.jisel.generators.StringGenerator.OPENING_PARENTHESIS;
 import static org.jisel.generators.StringGenerator.PACKAGE;
 import static org.jisel.generators.StringGenerator.PUBLIC_FINAL_CLASS;
+import static org.jisel.generators.StringGenerator.SEMICOLON;
 import static org.jisel.generators.StringGenerator.UNDERSCORE;
-import static org.jisel.generators.StringGenerator.generatePackageName;
-import static org.jisel.generators.StringGenerator.removeDoubleSpaceOccurrences;
+import static org.jisel.generators.StringGenerator.WHITESPACE;
 
 /**
  * Generates content for a final class.<br>
@@ -57,53 +57,64 @@ public final class FinalClassSourceContentGenerator extends AbstractSealedSource
     private static final String[] METHODS_TO_EXCLUDE = {"getClass", "wait", "notifyAll", "hashCode", "equals", "notify", "toString"};
 
     /**
-     * Passes through the received {@link ProcessingEnvironment} instance to the super constructor
+     * Signature prefixes of the methods to exclude, computed once instead of once per processed method
+     */
+    private static final List<String> EXCLUDED_SIGNATURE_PREFIXES = Arrays.stream(METHODS_TO_EXCLUDE)
+            .map(excludedMeth -> excludedMeth + OPENING_PARENTHESIS)
+            .toList();
+
+    /**
+     * Passes through the received {@link ProcessingEnvironment} and {@link AppInfo} instances to the super constructor
      *
      * @param processingEnvironment {@link ProcessingEnvironment} instance needed for report content generation
+     * @param appInfo               {@link AppInfo} instance holding the app information displayed in the generated files
      */
-    public FinalClassSourceContentGenerator(ProcessingEnvironment processingEnvironment) {
-        super(processingEnvironment);
+    public FinalClassSourceContentGenerator(ProcessingEnvironment processingEnvironment, AppInfo appInfo) {
+        super(processingEnvironment, appInfo);
     }
 
     @Override
-    public String generateSourceContent(Element largeInterfaceElement,
-                                        boolean unSeal,
-                                        Map.Entry<String, Set<Element>> sealedInterfaceToGenerate,
-                                        Map<String, List<String>> sealedInterfacesPermitsMap) {
-        var finalClassName = UNDERSCORE + largeInterfaceElement.getSimpleName().toString() + FINAL_CLASS_SUFFIX;
-        var finalClassContent = new StringBuilder();
+    public void generateSourceContent(PrintWriter finalClassContent,
+                                      LargeInterfaceDescriptor largeInterface,
+                                      boolean unSeal,
+                                      Map.Entry<String, List<MethodDescriptor>> sealedInterfaceToGenerate,
+                                      ProfileGraph profileGraph) {
+        var finalClassName = UNDERSCORE + largeInterface.simpleName() + FINAL_CLASS_SUFFIX;
         // package name
-        generatePackageName(largeInterfaceElement).ifPresent(name -> finalClassContent.append(format("%s %s;%n%n", PACKAGE, name)));
+        largeInterface.packageName().ifPresent(
+                name -> finalClassContent.append(PACKAGE).append(WHITESPACE).append(name).append(SEMICOLON).append(NEW_LINE).append(NEW_LINE)
+        );
         // javaxgenerated
         buildJavaxGeneratedAnnotation(finalClassContent);
         // public final class
-        finalClassContent.append(format(
-                "%s %s ",
-                PUBLIC_FINAL_CLASS,
-                finalClassName
-        ));
+        finalClassContent.append(PUBLIC_FINAL_CLASS).append(WHITESPACE).append(finalClassName);
         // list of extends
-        extendsGenerator.generateExtendsClauseFromPermitsMapAndProcessedProfile(
+        extendsGenerator.generateExtendsClauseFromProfileGraphAndProcessedProfile(
                 finalClassContent,
-                sealedInterfacesPermitsMap,
+                profileGraph,
                 finalClassName,
-                largeInterfaceElement,
+                largeInterface,
                 false // unSeal = false. Final classes are generated only while building a sealed hierarchy
         );
         // opening bracket after permits list
-        finalClassContent.append(format(" %s%n ", OPENING_CURLY_BRACE));
+        finalClassContent.append(WHITESPACE).append(OPENING_CURLY_BRACE).append(NEW_LINE).append(WHITESPACE);
         // list of methods
-        methodsGenerator.generateEmptyConcreteMethodsFromElementsSet(
+        methodsGenerator.generateEmptyConcreteMethods(
                 finalClassContent,
-                processingEnvironment.getElementUtils().getAllMembers((TypeElement) largeInterfaceElement).stream()
-                        .filter(element -> ElementKind.METHOD.equals(element.getKind()))
-                        .filter(element -> asList(METHODS_TO_EXCLUDE).stream()
-                                .noneMatch(excludedMeth -> element.toString().contains(excludedMeth + OPENING_PARENTHESIS)))
-                        .collect(toSet())
+                largeInterface.allMethods().stream()
+                        .filter(method -> !isExcluded(method))
+                        .toList()
         );
         // closing bracket
         finalClassContent.append(CLOSING_CURLY_BRACE);
-        //
-        return removeDoubleSpaceOccurrences(finalClassContent.toString());
+    }
+
+    private static boolean isExcluded(MethodDescriptor method) {
+        for (var excludedSignaturePrefix : EXCLUDED_SIGNATURE_PREFIXES) {
+            if (method.signature().contains(excludedSignaturePrefix)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
\ No newline at end of file
@@ -21,22 +21,26 @@
  */
 package org.jisel.generators.contentgen.impl;
 
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.MethodDescriptor;
+import org.jisel.generators.ProfileGraph;
 import org.jisel.generators.contentgen.AbstractSealedSourceContentGenerator;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-import static java.lang.String.format;
 import static org.jisel.generators.StringGenerator.CLOSING_CURLY_BRACE;
 import static org.jisel.generators.StringGenerator.DOT;
+import static org.jisel.generators.StringGenerator.NEW_LINE;
 import static org.jisel.generators.StringGenerator.OPENING_CURLY_BRACE;
 import static org.jisel.generators.StringGenerator.PACKAGE;
+import static org.jisel.generators.StringGenerator.SEMICOLON;
 import static org.jisel.generators.StringGenerator.UNSEALED;
-import static org.jisel.generators.StringGenerator.generatePackageName;
-import static org.jisel.generators.StringGenerator.removeDoubleSpaceOccurrences;
+import static org.jisel.generators.StringGenerator.WHITESPACE;
 
 /**
  * Generates the content of an interface
@@ -44,60 +48,59 @@ import static org.jisel.generators.StringGenerator.removeDoubleSpaceOccurrences;
 public final class InterfaceSourceContentGenerator extends AbstractSealedSourceContentGenerator {
 
     /**
-     * Passes through the received {@link ProcessingEnvironment} instance to the super constructor
+     * Passes through the received {@link ProcessingEnvironment} and {@link AppInfo} instances to the super constructor
      *
      * @param processingEnvironment {@link ProcessingEnvironment} instance needed for performing low-level operations on {@link Element} instances
+     * @param appInfo               {@link AppInfo} instance holding the app information displayed in the generated files
      */
-    public InterfaceSourceContentGenerator(ProcessingEnvironment processingEnvironment) {
-        super(processingEnvironment);
+    public InterfaceSourceContentGenerator(ProcessingEnvironment processingEnvironment, AppInfo appInfo) {
+        super(processingEnvironment, appInfo);
     }
 
     @Override
-    public String generateSourceContent(Element largeInterfaceElement,
-                                        boolean unSeal,
-                                        Map.Entry<String, Set<Element>> sealedInterfaceToGenerate,
-                                        Map<String, List<String>> sealedInterfacesPermitsMap) {
+    public void generateSourceContent(PrintWriter interfaceContent,
+                                      LargeInterfaceDescriptor largeInterface,
+                                      boolean unSeal,
+                                      Map.Entry<String, List<MethodDescriptor>> sealedInterfaceToGenerate,
+                                      ProfileGraph profileGraph) {
         var profile = sealedInterfaceToGenerate.getKey();
-        var interfaceContent = new StringBuilder();
         // package name
-        generatePackageName(largeInterfaceElement).ifPresent(
-                packageName -> interfaceContent.append(format("%s %s", PACKAGE, packageName))
+        largeInterface.packageName().ifPresent(
+                packageName -> interfaceContent.append(PACKAGE).append(WHITESPACE).append(packageName)
         );
         if (unSeal) {
-            interfaceContent.append(interfaceContent.isEmpty() ? UNSEALED.toLowerCase() : DOT + UNSEALED.toLowerCase());
+            interfaceContent.append(largeInterface.packageName().isEmpty() ? UNSEALED.toLowerCase() : DOT + UNSEALED.toLowerCase());
         }
-        interfaceContent.append(format(";%n%n"));
+        interfaceContent.append(SEMICOLON).append(NEW_LINE).append(NEW_LINE);
         // javaxgenerated
         buildJavaxGeneratedAnnotation(interfaceContent);
         // existing annotations
-        if (largeInterfaceElement.getSimpleName().toString().equals(profile)) {
-            annotationsGenerator.generateExistingAnnotations(interfaceContent, largeInterfaceElement);
+        if (largeInterface.simpleName().equals(profile)) {
+            annotationsGenerator.generateExistingAnnotations(interfaceContent, largeInterface);
         }
         // declaration: public (sealed) interface
-        declarationGenerator.generateModifiersAndName(interfaceContent, profile, largeInterfaceElement, unSeal);
+        declarationGenerator.generateModifiersAndName(interfaceContent, profile, largeInterface, unSeal);
         // list of extends
-        extendsGenerator.generateExtendsClauseFromPermitsMapAndProcessedProfile(
+        extendsGenerator.generateExtendsClauseFromProfileGraphAndProcessedProfile(
                 interfaceContent,
-                sealedInterfacesPermitsMap,
+                profileGraph,
                 profile,
-                largeInterfaceElement,
+                largeInterface,
                 unSeal
         );
         // list of permits
         if (!unSeal) {
-            permitsGenerator.generatePermitsClauseFromPermitsMapAndProcessedProfile(
+            permitsGenerator.generatePermitsClauseFromProfileGraphAndProcessedProfile(
                     interfaceContent,
-                    sealedInterfacesPermitsMap,
+                    profileGraph,
                     profile,
-                    largeInterfaceElement
+                    largeInterface
             );
         }
-        interfaceContent.append(format(" %s%n ", OPENING_CURLY_BRACE)); // opening bracket after permits list
+        interfaceContent.append(WHITESPACE).append(OPENING_CURLY_BRACE).append(NEW_LINE).append(WHITESPACE); // opening bracket after permits list
         // list of methods
-        methodsGenerator.generateAbstractMethodsFromElementsSet(interfaceContent, sealedInterfaceToGenerate.getValue());
+        methodsGenerator.generateAbstractMethods(interfaceContent, sealedInterfaceToGenerate.getValue());
         // closing bracket
         interfaceContent.append(CLOSING_CURLY_BRACE);
-        //
-        return removeDoubleSpaceOccurrences(interfaceContent.toString());
     }
 }
\ No newline at end of file
@@ -21,17 +21,18 @@
  */
 package org.jisel.generators.contentgen.impl;
 
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.MethodDescriptor;
+import org.jisel.generators.ProfileGraph;
 import org.jisel.generators.contentgen.AbstractSealedReportContentGenerator;
 
 import javax.annotation.processing.ProcessingEnvironment;
-import javax.lang.model.element.Element;
+import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import static java.lang.String.format;
-import static org.jisel.generators.StringGenerator.DOT;
-import static org.jisel.generators.StringGenerator.generatePackageName;
 
 /**
  * Generates a Report file listing all generated sealed, unsealed and detached interfaces for the provided large interfaces.<br>
@@ -74,33 +75,29 @@ import static org.jisel.generators.StringGenerator.generatePackageName;
 public final class ReportContentGenerator extends AbstractSealedReportContentGenerator {
 
     /**
-     * Passes through the received {@link ProcessingEnvironment} instance to the super constructor
+     * Passes through the received {@link ProcessingEnvironment} and {@link AppInfo} instances to the super constructor
      *
      * @param processingEnvironment {@link ProcessingEnvironment} instance needed for report content generation
+     * @param appInfo               {@link AppInfo} instance holding the app information displayed in the generated files
      */
-    public ReportContentGenerator(ProcessingEnvironment processingEnvironment) {
-        super(processingEnvironment);
+    public ReportContentGenerator(ProcessingEnvironment processingEnvironment, AppInfo appInfo) {
+        super(processingEnvironment, appInfo);
     }
 
     @Override
-    public String generateReportContent(Element largeInterfaceElement,
-                                        boolean unSeal,
-                                        Map<String, Set<Element>> sealedInterfacesToGenerate,
-                                        Map<String, List<String>> sealedInterfacesPermitsMap,
-                                        List<String> generatedDetachedInterfaces) {
-        var reportContent = new StringBuilder();
-        var packageNameOpt = generatePackageName(largeInterfaceElement);
-        var qualifiedName = packageNameOpt.isPresent()
-                ? packageNameOpt.get() + DOT + largeInterfaceElement.getSimpleName().toString()
-                : largeInterfaceElement.getSimpleName().toString();
-        reportContent.append(format("%s%n%n", qualifiedName));
-        reportContent.append(generateSealedInterfacesReportContent(largeInterfaceElement, sealedInterfacesToGenerate, sealedInterfacesPermitsMap));
+    public void generateReportContent(PrintWriter output,
+                                      LargeInterfaceDescriptor largeInterface,
+                                      boolean unSeal,
+                                      Map<String, List<MethodDescriptor>> sealedInterfacesToGenerate,
+                                      ProfileGraph profileGraph,
+                                      List<String> generatedDetachedInterfaces) {
+        output.append(format("%s%n%n", largeInterface.qualifiedName()));
+        generateSealedInterfacesReportContent(output, largeInterface, sealedInterfacesToGenerate, profileGraph);
         if (unSeal) {
-            reportContent.append(generateUnSealedInterfacesReportContent(largeInterfaceElement, sealedInterfacesToGenerate, sealedInterfacesPermitsMap));
+            generateUnSealedInterfacesReportContent(output, largeInterface, sealedInterfacesToGenerate, profileGraph);
         }
         if (!generatedDetachedInterfaces.isEmpty()) {
-            reportContent.append(generateDetachedInterfacesReportContent(generatedDetachedInterfaces));
+            generateDetachedInterfacesReportContent(output, generatedDetachedInterfaces);
         }
-        return reportContent.toString();
     }
 }
\ No newline at end of file
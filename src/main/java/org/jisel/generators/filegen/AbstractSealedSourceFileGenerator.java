@@ -21,6 +21,16 @@
  */
 package org.jisel.generators.filegen;
 
+import org.jisel.events.ArtifactGenerationEvent;
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.DetachSpec;
+import org.jisel.generators.LargeInterfaceDescriptor;
+import org.jisel.generators.MethodDescriptor;
+import org.jisel.generators.ProcessingStats;
+import org.jisel.generators.ProfileGraph;
+import org.jisel.generators.SegregationModel;
+import org.jisel.generators.codegen.MethodsGenerator;
+import org.jisel.generators.codegen.impl.MethodsGeneratorImpl;
 import org.jisel.generators.contentgen.AbstractSealedDetachedInterfaceSourceContentGenerator;
 import org.jisel.generators.contentgen.AbstractSealedReportContentGenerator;
 import org.jisel.generators.contentgen.AbstractSealedSourceContentGenerator;
@@ -33,44 +43,83 @@ import org.jisel.generators.filegen.impl.InterfaceSourceFileGenerator;
 import javax.annotation.processing.FilerException;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
 import javax.tools.StandardLocation;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.logging.Logger;
 
+import static java.lang.String.format;
+import static org.jisel.AnnotationProcessor.JISEL_FINGERPRINT_OPTION;
+import static org.jisel.AnnotationProcessor.JISEL_PARALLELISM_OPTION;
+import static org.jisel.generators.ProcessingStats.RENDER_PHASE;
+import static org.jisel.generators.ProcessingStats.WRITE_PHASE;
 import static org.jisel.generators.StringGenerator.ALL;
-import static org.jisel.generators.StringGenerator.AT_SIGN;
 import static org.jisel.generators.StringGenerator.DETACHED;
-import static org.jisel.generators.StringGenerator.DETACH_METHODS;
-import static org.jisel.generators.StringGenerator.DETACH_PROFILE;
-import static org.jisel.generators.StringGenerator.DETACH_RENAME;
 import static org.jisel.generators.StringGenerator.DOT;
 import static org.jisel.generators.StringGenerator.EMPTY_STRING;
 import static org.jisel.generators.StringGenerator.FINAL_CLASS_SUFFIX;
+import static org.jisel.generators.StringGenerator.JAVA_LANG_OBJECT;
 import static org.jisel.generators.StringGenerator.JISEL_KEYWORD_ALL;
+import static org.jisel.generators.StringGenerator.NEW_LINE;
 import static org.jisel.generators.StringGenerator.UNDERSCORE;
 import static org.jisel.generators.StringGenerator.UNSEALED;
 import static org.jisel.generators.StringGenerator.generatePackageName;
+import static org.jisel.generators.codegen.AnnotationsGenerator.buildExistingAnnotations;
 import static org.jisel.generators.contentgen.AbstractSealedReportContentGenerator.REPORT_FILENAME_SUFFIX;
 import static org.jisel.generators.contentgen.SourceContentGenerator.DETACHED_INTERFACE_NAME_FUNC;
 import static org.jisel.generators.contentgen.SourceContentGenerator.DETACHED_TOP_LEVEL_INTERFACE_NAME_FUNC;
-import static org.jisel.generators.contentgen.SourceContentGenerator.findAllAbstractMethodsForProfile;
+import static org.jisel.generators.filegen.FingerprintGenerator.FINGERPRINT_FILENAME_SUFFIX;
 
 /**
  * Exposes contract to fulfill by classes generating Source files, along with a bunch of convenience methods
  */
 public abstract sealed class AbstractSealedSourceFileGenerator implements SourceFileGenerator permits InterfaceSourceFileGenerator {
 
+    private static final String FILE_WRITING_ERROR_MSG = "Error while writing the generated file %s";
+
+    private static final String SEALED_INTERFACE_KIND = "sealed";
+
+    private static final String UNSEALED_INTERFACE_KIND = "unsealed";
+
+    private static final String FINAL_CLASS_KIND = "final";
+
+    private static final String DETACHED_INTERFACE_KIND = "detached";
+
+    private static final String REPORT_KIND = "report";
+
+    private static final String FINGERPRINT_KIND = "fingerprint";
+
+    private static final String INVALID_PARALLELISM_OPTION_MSG = "Invalid value for the %s option: '%s'. A positive integer is expected, files content will be rendered sequentially";
+
+    // per worker thread buffer in which files content is rendered when parallel rendering is enabled
+    private static final ThreadLocal<StringWriter> RENDER_BUFFER = ThreadLocal.withInitial(StringWriter::new);
+
     /**
      * {@link ProcessingEnvironment} instance needed to perform low-level operations on {@link javax.lang.model.element.Element} instances
      */
     protected final ProcessingEnvironment processingEnvironment;
 
+    /**
+     * {@link AppInfo} instance holding the app information displayed in the generated files
+     */
+    protected final AppInfo appInfo;
+
     /**
      * {@link AbstractSealedSourceContentGenerator} instance needed to generate interfaces source content
      */
@@ -91,251 +140,569 @@ public abstract sealed class AbstractSealedSourceFileGenerator implements Source
      */
     protected final AbstractSealedReportContentGenerator reportContentGenerator;
 
+    /**
+     * Indicates whether the {@link org.jisel.AnnotationProcessor#JISEL_FINGERPRINT_OPTION} option was enabled
+     */
+    protected final boolean fingerprintEnabled;
+
+    /**
+     * Number of threads rendering the content of the generated files, as provided through the
+     * {@link org.jisel.AnnotationProcessor#JISEL_PARALLELISM_OPTION} option. 1 (default value) means no parallel rendering
+     */
+    protected final int parallelism;
+
+    /**
+     * {@link MethodsGenerator} instance needed to describe the abstract methods of the large interfaces
+     */
+    protected final MethodsGenerator methodsGenerator;
+
+    private final Logger log = Logger.getLogger(AbstractSealedSourceFileGenerator.class.getName());
+
     /**
      * Injects needed instance of {@link ProcessingEnvironment} and creates/initializes needed instances of
      * {@link InterfaceSourceContentGenerator}, {@link DetachedInterfaceSourceContentGenerator}, {@link FinalClassSourceContentGenerator}
      * and {@link ReportContentGenerator}
      *
      * @param processingEnvironment {@link ProcessingEnvironment} instance needed for source content generation
+     * @param appInfo               {@link AppInfo} instance holding the app information displayed in the generated files
      */
-    protected AbstractSealedSourceFileGenerator(ProcessingEnvironment processingEnvironment) {
+    protected AbstractSealedSourceFileGenerator(ProcessingEnvironment processingEnvironment, AppInfo appInfo) {
         this.processingEnvironment = processingEnvironment;
-        this.interfaceSourceContentGenerator = new InterfaceSourceContentGenerator(this.processingEnvironment);
-        this.detachedInterfaceSourceContentGenerator = new DetachedInterfaceSourceContentGenerator(this.processingEnvironment);
-        this.finalClassSourceContentGenerator = new FinalClassSourceContentGenerator(this.processingEnvironment);
-        this.reportContentGenerator = new ReportContentGenerator(this.processingEnvironment);
+        this.appInfo = appInfo;
+        this.interfaceSourceContentGenerator = new InterfaceSourceContentGenerator(this.processingEnvironment, appInfo);
+        this.detachedInterfaceSourceContentGenerator = new DetachedInterfaceSourceContentGenerator(this.processingEnvironment, appInfo);
+        this.finalClassSourceContentGenerator = new FinalClassSourceContentGenerator(this.processingEnvironment, appInfo);
+        this.reportContentGenerator = new ReportContentGenerator(this.processingEnvironment, appInfo);
+        this.fingerprintEnabled = Boolean.parseBoolean(processingEnvironment.getOptions().get(JISEL_FINGERPRINT_OPTION));
+        this.parallelism = readParallelismOption(processingEnvironment.getOptions().get(JISEL_PARALLELISM_OPTION));
+        this.methodsGenerator = new MethodsGeneratorImpl();
+    }
+
+    private int readParallelismOption(String parallelismOptionValue) {
+        if (parallelismOptionValue == null) {
+            return 1;
+        }
+        try {
+            var parallelismValue = Integer.parseInt(parallelismOptionValue.strip());
+            if (parallelismValue >= 1) {
+                return parallelismValue;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        log.warning(() -> format(INVALID_PARALLELISM_OPTION_MSG, JISEL_PARALLELISM_OPTION, parallelismOptionValue));
+        return 1;
     }
 
     /**
-     * Creates source file of the generated sealed interface
+     * Builds the list of the {@link Element} instances the files generated for the provided large interface depend on, which
+     * are the large interface itself and all the classes, interfaces or records annotated with &#64;{@link org.jisel.annotations.AddTo}
+     * and found in the permits lists.<br>
+     * Passed to the {@link javax.annotation.processing.Filer}, they allow IDEs and build tools to regenerate only the affected files
      *
-     * @param largeInterfaceElement        {@link Element} instance of the large interface being segregated
+     * @param segregationModel {@link SegregationModel} instance of the large interface being segregated
+     * @return array of the originating {@link Element} instances
+     */
+    protected Element[] buildOriginatingElements(SegregationModel segregationModel) {
+        var originatingElements = new LinkedHashSet<Element>();
+        originatingElements.add(segregationModel.largeInterfaceElement());
+        // permitted subtypes which are neither generated profiles nor the generated final class are the @AddTo annotated elements.
+        // The profiles ids come first, so the other permitted subtypes are the ones with an id from profilesCount
+        var visitedIds = new BitSet();
+        for (var parentId : segregationModel.parentIds()) {
+            for (var childId : segregationModel.childrenIds(parentId)) {
+                if (childId >= segregationModel.profilesCount() && !visitedIds.get(childId)) {
+                    visitedIds.set(childId);
+                    var permittedName = segregationModel.name(childId);
+                    if (!permittedName.startsWith(UNDERSCORE)) {
+                        Optional.ofNullable(processingEnvironment.getElementUtils().getTypeElement(permittedName)).ifPresent(originatingElements::add);
+                    }
+                }
+            }
+        }
+        return originatingElements.toArray(Element[]::new);
+    }
+
+    /**
+     * Describes the provided large interface with an immutable {@link LargeInterfaceDescriptor} instance, from which the content
+     * of all its generated files can be rendered on any thread.<br>
+     * Must be called on the javac thread, as {@link Element} instances are not thread-safe
+     *
+     * @param largeInterfaceElement {@link Element} instance of the large interface being segregated
+     * @param methodDescriber       {@link Function} describing a method {@link Element} instance, expected to cache the descriptors
+     *                              of the methods shared by several generated interfaces
+     * @return the {@link LargeInterfaceDescriptor} instance of the provided large interface
+     */
+    protected LargeInterfaceDescriptor describeLargeInterface(Element largeInterfaceElement, Function<Element, MethodDescriptor> methodDescriber) {
+        return new LargeInterfaceDescriptor(
+                largeInterfaceElement.toString(),
+                largeInterfaceElement.getSimpleName().toString(),
+                buildExistingAnnotations(largeInterfaceElement, NEW_LINE),
+                processingEnvironment.getTypeUtils().directSupertypes(largeInterfaceElement.asType()).stream()
+                        .map(Object::toString)
+                        .filter(superType -> !superType.contains(JAVA_LANG_OBJECT))
+                        .toList(),
+                processingEnvironment.getElementUtils().getAllMembers((TypeElement) largeInterfaceElement).stream()
+                        .filter(element -> ElementKind.METHOD.equals(element.getKind()))
+                        .map(methodDescriber)
+                        .toList()
+        );
+    }
+
+    /**
+     * Describes the abstract methods of each one of the sealed interfaces to generate with {@link MethodDescriptor} instances.<br>
+     * Must be called on the javac thread, as {@link Element} instances are not thread-safe
+     *
+     * @param segregationModel {@link SegregationModel} instance of the large interface being segregated
+     * @param methodDescriber  {@link Function} describing a method {@link Element} instance
+     * @return {@link Map} of profile name as the key and the {@link List} of its abstract methods descriptors as the value
+     */
+    protected Map<String, List<MethodDescriptor>> describeSealedInterfaces(SegregationModel segregationModel,
+                                                                           Function<Element, MethodDescriptor> methodDescriber) {
+        var describedSealedInterfaces = new LinkedHashMap<String, List<MethodDescriptor>>();
+        for (int profileId = 0; profileId < segregationModel.profilesCount(); profileId++) {
+            describedSealedInterfaces.put(
+                    segregationModel.name(profileId),
+                    segregationModel.methods(profileId).stream().map(methodDescriber).toList()
+            );
+        }
+        return describedSealedInterfaces;
+    }
+
+    /**
+     * Prepares the source file of the generated sealed interface
+     *
+     * @param largeInterface               {@link LargeInterfaceDescriptor} instance of the large interface being segregated
      * @param sealedInterfaceToGenerate    {@link Map.Entry} instance containing information about the sealed interface to generate
-     *                                     (profile as key and value is a Set of abstract methods {@link Element} instances)
-     * @param sealedInterfacesPermitsMap   {@link Map} containing information about the subtypes permitted by
+     *                                     (profile as key and value is a List of abstract methods {@link MethodDescriptor} instances)
+     * @param profileGraph                 {@link ProfileGraph} indexing the subtypes permitted by
      *                                     each one of the sealed interfaces to be generated
      * @param generatedSealedInterfaceName qualified name of the sealed interface file being generated
-     * @return qualified name of the generated sealed interface file
-     * @throws IOException if a severe error occurs during file creation
+     * @param originatingElements          {@link Element} instances the generated file depends on, passed to the {@link javax.annotation.processing.Filer}
+     * @return {@link FileToGenerate} instance describing the sealed interface file to write
      */
-    protected String createSealedInterfaceSourceFile(Element largeInterfaceElement,
-                                                     Map.Entry<String, Set<Element>> sealedInterfaceToGenerate,
-                                                     Map<String, List<String>> sealedInterfacesPermitsMap,
-                                                     String generatedSealedInterfaceName) throws IOException {
-        var packageNameOpt = generatePackageName(largeInterfaceElement);
+    protected FileToGenerate createSealedInterfaceSourceFile(LargeInterfaceDescriptor largeInterface,
+                                                             Map.Entry<String, List<MethodDescriptor>> sealedInterfaceToGenerate,
+                                                             ProfileGraph profileGraph,
+                                                             String generatedSealedInterfaceName,
+                                                             Element... originatingElements) {
+        var packageNameOpt = largeInterface.packageName();
         var qualifiedName = packageNameOpt.isPresent() ? packageNameOpt.get() + DOT + generatedSealedInterfaceName : generatedSealedInterfaceName;
-        try {
-            var fileObject = processingEnvironment.getFiler().createSourceFile(qualifiedName);
-            try (var out = new PrintWriter(fileObject.openWriter())) {
-                out.println(
-                        interfaceSourceContentGenerator.generateSourceContent(
-                                largeInterfaceElement,
-                                false,
-                                sealedInterfaceToGenerate,
-                                sealedInterfacesPermitsMap
-                        )
-                );
-            }
-        } catch (FilerException e) {
-            // File was already generated - do nothing
-        }
-        return qualifiedName;
+        return FileToGenerate.sourceFile(
+                largeInterface,
+                qualifiedName,
+                SEALED_INTERFACE_KIND,
+                sealedInterfaceToGenerate.getValue().size(),
+                output -> interfaceSourceContentGenerator.generateSourceContent(
+                        output,
+                        largeInterface,
+                        false,
+                        sealedInterfaceToGenerate,
+                        profileGraph
+                ),
+                originatingElements
+        );
     }
 
     /**
-     * Creates source file of the generated sealed interface
+     * Prepares the source file of the generated unsealed interface
      *
-     * @param largeInterfaceElement          {@link Element} instance of the large interface being segregated
+     * @param largeInterface                 {@link LargeInterfaceDescriptor} instance of the large interface being segregated
      * @param sealedInterfaceToGenerate      {@link Map.Entry} instance containing information about the sealed interface to generate
-     *                                       (profile as key and value is a Set of abstract methods {@link Element} instances)
-     * @param sealedInterfacesPermitsMap     {@link Map} containing information about the subtypes permitted by
+     *                                       (profile as key and value is a List of abstract methods {@link MethodDescriptor} instances)
+     * @param profileGraph                   {@link ProfileGraph} indexing the subtypes permitted by
      *                                       each one of the sealed interfaces to be generated
      * @param generatedUnSealedInterfaceName qualified name of the unsealed interface file being generated
-     * @return qualified name of the generated unsealed interface file
-     * @throws IOException if a severe error occurs during file creation
+     * @param originatingElements            {@link Element} instances the generated file depends on, passed to the {@link javax.annotation.processing.Filer}
+     * @return {@link FileToGenerate} instance describing the unsealed interface file to write
      */
-    protected String createUnSealedInterfaceSourceFile(Element largeInterfaceElement,
-                                                       Map.Entry<String, Set<Element>> sealedInterfaceToGenerate,
-                                                       Map<String, List<String>> sealedInterfacesPermitsMap,
-                                                       String generatedUnSealedInterfaceName) throws IOException {
-        var packageNameOpt = generatePackageName(largeInterfaceElement);
+    protected FileToGenerate createUnSealedInterfaceSourceFile(LargeInterfaceDescriptor largeInterface,
+                                                               Map.Entry<String, List<MethodDescriptor>> sealedInterfaceToGenerate,
+                                                               ProfileGraph profileGraph,
+                                                               String generatedUnSealedInterfaceName,
+                                                               Element... originatingElements) {
+        var packageNameOpt = largeInterface.packageName();
         var qualifiedName = packageNameOpt.isPresent()
                 ? packageNameOpt.get() + DOT + UNSEALED.toLowerCase() + DOT + generatedUnSealedInterfaceName
                 : UNSEALED.toLowerCase() + DOT + generatedUnSealedInterfaceName;
-        try {
-            var fileObject = processingEnvironment.getFiler().createSourceFile(qualifiedName);
-            try (var out = new PrintWriter(fileObject.openWriter())) {
-                out.println(
-                        interfaceSourceContentGenerator.generateSourceContent(
-                                largeInterfaceElement,
-                                true,
-                                sealedInterfaceToGenerate,
-                                sealedInterfacesPermitsMap
-                        )
-                );
-            }
-        } catch (FilerException e) {
-            // File was already generated - do nothing
-        }
-        return qualifiedName;
+        return FileToGenerate.sourceFile(
+                largeInterface,
+                qualifiedName,
+                UNSEALED_INTERFACE_KIND,
+                sealedInterfaceToGenerate.getValue().size(),
+                output -> interfaceSourceContentGenerator.generateSourceContent(
+                        output,
+                        largeInterface,
+                        true,
+                        sealedInterfaceToGenerate,
+                        profileGraph
+                ),
+                originatingElements
+        );
     }
 
     /**
-     * Creates source file of the generated convenience final class
+     * Prepares the source file of the generated convenience final class
      *
-     * @param largeInterfaceElement      {@link Element} instance of the large interface being segregated
-     * @param sealedInterfacesPermitsMap {@link Map} containing information about the subtypes permitted by
+     * @param largeInterface             {@link LargeInterfaceDescriptor} instance of the large interface being segregated
+     * @param profileGraph               {@link ProfileGraph} indexing the subtypes permitted by
      *                                   each one of the sealed interfaces to be generated
-     * @return qualified name of the generated final class file
-     * @throws IOException if a severe error occurs during file creation
+     * @param originatingElements        {@link Element} instances the generated file depends on, passed to the {@link javax.annotation.processing.Filer}
+     * @return {@link FileToGenerate} instance describing the final class file to write
      */
-    protected String createFinalClassFile(Element largeInterfaceElement,
-                                          Map<String, List<String>> sealedInterfacesPermitsMap) throws IOException {
-        var packageNameOpt = generatePackageName(largeInterfaceElement);
+    protected FileToGenerate createFinalClassFile(LargeInterfaceDescriptor largeInterface,
+                                                  ProfileGraph profileGraph,
+                                                  Element... originatingElements) {
+        var packageNameOpt = largeInterface.packageName();
         var qualifiedName = packageNameOpt.isPresent()
-                ? packageNameOpt.get() + DOT + UNDERSCORE + largeInterfaceElement.getSimpleName().toString() + FINAL_CLASS_SUFFIX
-                : UNDERSCORE + largeInterfaceElement.getSimpleName().toString() + FINAL_CLASS_SUFFIX;
-        try {
-            var fileObject = processingEnvironment.getFiler().createSourceFile(qualifiedName);
-            try (var out = new PrintWriter(fileObject.openWriter())) {
-                out.println(
-                        finalClassSourceContentGenerator.generateSourceContent(
-                                largeInterfaceElement,
-                                false,
-                                null,
-                                sealedInterfacesPermitsMap
-                        )
-                );
-            }
-        } catch (FilerException e) {
-            // File was already generated - do nothing
-        }
-        return qualifiedName;
+                ? packageNameOpt.get() + DOT + UNDERSCORE + largeInterface.simpleName() + FINAL_CLASS_SUFFIX
+                : UNDERSCORE + largeInterface.simpleName() + FINAL_CLASS_SUFFIX;
+        return FileToGenerate.sourceFile(
+                largeInterface,
+                qualifiedName,
+                FINAL_CLASS_KIND,
+                0,
+                output -> finalClassSourceContentGenerator.generateSourceContent(
+                        output,
+                        largeInterface,
+                        false,
+                        null,
+                        profileGraph
+                ),
+                originatingElements
+        );
     }
 
     /**
-     * Creates source files for the detached interfaces
+     * Prepares the source files of the detached interfaces.<br>
+     * Must be called on the javac thread, as the abstract methods of the detached interfaces are described from their {@link Element} instances
      *
-     * @param largeInterfaceElement                        {@link Element} instance of the large interface being segregated
-     * @param detachedInterfacesToGenerateByLargeInterface {@link Map} containing information about the detached interfaces to
-     *                                                     be generated for each large interface
-     * @param sealedInterfacesToGenerateByLargeInterface   {@link Map} containing information about the sealed interfaces to
-     *                                                     be generated for each large interface
-     * @param sealedInterfacesPermitsByLargeInterface      {@link Map} containing information about the subtypes permitted by each one of the
-     *                                                     sealed interfaces to be generated
-     * @return {@link List} of generated detached interfaces
-     * @throws IOException if a severe error occurs during file creation
+     * @param largeInterface      {@link LargeInterfaceDescriptor} instance of the large interface being segregated
+     * @param segregationModel    {@link SegregationModel} instance of the large interface being segregated
+     * @param methodDescriber     {@link Function} describing a method {@link Element} instance
+     * @param originatingElements {@link Element} instances the generated files depend on, passed to the {@link javax.annotation.processing.Filer}
+     * @return {@link List} of {@link FileToGenerate} instances describing the detached interfaces files to write
      */
-    protected List<String> createDetachedInterfacesSourceFiles(Element largeInterfaceElement,
-                                                               Map<Element, Map<String, Map<String, Object>>> detachedInterfacesToGenerateByLargeInterface,
-                                                               Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                               Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) throws IOException {
-        var generatedFiles = new ArrayList<String>();
-        var mapEntrySet = detachedInterfacesToGenerateByLargeInterface.get(largeInterfaceElement).entrySet();
-        for (var mapEntry : mapEntrySet) {
-            var detachedProfileUniqueKey = mapEntry.getKey();
-            var detachAttribs = mapEntry.getValue();
-            var profile = detachedProfileUniqueKey.contains(AT_SIGN)
-                    ? detachedProfileUniqueKey.substring(0, detachedProfileUniqueKey.indexOf(AT_SIGN))
-                    : detachedProfileUniqueKey;
-            generatedFiles.addAll(
-                    JISEL_KEYWORD_ALL.equals(profile)
-                            ? createDetachedInterfacesForAllProfiles(largeInterfaceElement, sealedInterfacesToGenerateByLargeInterface, sealedInterfacesPermitsByLargeInterface)
-                            : List.of(createDetachedInterfaceForProfile(largeInterfaceElement, detachAttribs, false))
-            );
+    protected List<FileToGenerate> createDetachedInterfacesSourceFiles(LargeInterfaceDescriptor largeInterface,
+                                                                       SegregationModel segregationModel,
+                                                                       Function<Element, MethodDescriptor> methodDescriber,
+                                                                       Element... originatingElements) {
+        var filesToGenerate = new ArrayList<FileToGenerate>();
+        for (var detachSpec : segregationModel.detachSpecs()) {
+            if (JISEL_KEYWORD_ALL.equals(detachSpec.profile())) {
+                filesToGenerate.addAll(createDetachedInterfacesForAllProfiles(largeInterface, segregationModel, methodDescriber, originatingElements));
+            } else {
+                filesToGenerate.add(createDetachedInterfaceForProfile(largeInterface, detachSpec,
+                        describeAllAbstractMethods(segregationModel, detachSpec.profile(), methodDescriber), false, originatingElements));
+            }
         }
-        return generatedFiles;
+        return filesToGenerate;
     }
 
-    private List<String> createDetachedInterfacesForAllProfiles(Element largeInterfaceElement,
-                                                                Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                                Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) throws IOException {
-        var generatedFiles = new ArrayList<String>();
-        for (var profile : sealedInterfacesToGenerateByLargeInterface.get(largeInterfaceElement).keySet()) {
-            generatedFiles.add(
-                    createDetachedInterfaceForProfile(
-                            largeInterfaceElement,
-                            Map.of(
-                                    DETACH_PROFILE, profile,
-                                    DETACH_METHODS, findAllAbstractMethodsForProfile(
-                                            profile,
-                                            sealedInterfacesToGenerateByLargeInterface,
-                                            sealedInterfacesPermitsByLargeInterface,
-                                            largeInterfaceElement
-                                    )
-                            ),
-                            true)
-            );
+    private List<FileToGenerate> createDetachedInterfacesForAllProfiles(LargeInterfaceDescriptor largeInterface,
+                                                                        SegregationModel segregationModel,
+                                                                        Function<Element, MethodDescriptor> methodDescriber,
+                                                                        Element... originatingElements) {
+        var filesToGenerate = new ArrayList<FileToGenerate>();
+        for (int profileId = 0; profileId < segregationModel.profilesCount(); profileId++) {
+            var profile = segregationModel.name(profileId);
+            filesToGenerate.add(createDetachedInterfaceForProfile(largeInterface, DetachSpec.ofProfile(profile),
+                    describeAllAbstractMethods(segregationModel, profile, methodDescriber), true, originatingElements));
         }
-        return generatedFiles;
+        return filesToGenerate;
     }
 
-    private String createDetachedInterfaceForProfile(Element largeInterfaceElement, Map<String, Object> detachAttribs, boolean detachAll) throws IOException {
+    // describes all the abstract methods of the provided profile, including the parent profiles ones
+    private List<MethodDescriptor> describeAllAbstractMethods(SegregationModel segregationModel, String profile,
+                                                              Function<Element, MethodDescriptor> methodDescriber) {
+        return segregationModel.allAbstractMethods(profile).stream().map(methodDescriber).toList();
+    }
+
+    private FileToGenerate createDetachedInterfaceForProfile(LargeInterfaceDescriptor largeInterface, DetachSpec detachSpec,
+                                                             List<MethodDescriptor> methods, boolean detachAll,
+                                                             Element... originatingElements) {
         Function<Boolean, String> allSubPackageFunc = detachAllFlag -> detachAllFlag.booleanValue() ? ALL + DOT : EMPTY_STRING;
-        var packageNameOpt = generatePackageName(largeInterfaceElement);
+        var packageNameOpt = largeInterface.packageName();
         var detachedInterfaceSimpleName = DETACHED_TOP_LEVEL_INTERFACE_NAME_FUNC.apply(
-                DETACHED_INTERFACE_NAME_FUNC.apply(
-                        detachAttribs.get(DETACH_PROFILE).toString(),
-                        Optional.ofNullable(detachAttribs.get(DETACH_RENAME)).orElse(EMPTY_STRING).toString()
-                ),
-                largeInterfaceElement
+                DETACHED_INTERFACE_NAME_FUNC.apply(detachSpec.profile(), detachSpec.rename()),
+                largeInterface.simpleName()
         );
         var qualifiedName = packageNameOpt.isPresent()
                 ? packageNameOpt.get() + DOT + DETACHED.toLowerCase() + DOT + allSubPackageFunc.apply(detachAll) + detachedInterfaceSimpleName
                 : DETACHED.toLowerCase() + DOT + detachedInterfaceSimpleName;
+        return FileToGenerate.sourceFile(
+                largeInterface,
+                qualifiedName,
+                DETACHED_INTERFACE_KIND,
+                methods.size(),
+                output -> detachedInterfaceSourceContentGenerator.generateDetachedInterfaceSourceContent(output, qualifiedName, detachSpec,
+                        methods, largeInterface),
+                originatingElements
+        );
+    }
+
+    /**
+     * Prepares the Jisel Generation Report file
+     *
+     * @param largeInterface              {@link LargeInterfaceDescriptor} instance of the large interface being segregated
+     * @param unSeal                      boolean, indicates whether to add the generated unselaed interfaces to the report
+     * @param sealedInterfacesToGenerate  {@link Map} containing information about the generated sealed interfaces
+     * @param profileGraph                {@link ProfileGraph} indexing the subtypes permitted by each one of the
+     *                                    sealed interfaces to be generated
+     * @param generatedDetachedInterfaces {@link List} of generated detached interfaces
+     * @param originatingElements         {@link Element} instances the generated file depends on, passed to the {@link javax.annotation.processing.Filer}
+     * @return {@link FileToGenerate} instance describing the report file to write
+     */
+    protected FileToGenerate createJiselReportFileForLargeInterface(LargeInterfaceDescriptor largeInterface,
+                                                                    boolean unSeal,
+                                                                    Map<String, List<MethodDescriptor>> sealedInterfacesToGenerate,
+                                                                    ProfileGraph profileGraph,
+                                                                    List<String> generatedDetachedInterfaces,
+                                                                    Element... originatingElements) {
+        var packageNameOpt = largeInterface.packageName();
+        var qualifiedName = packageNameOpt.isPresent()
+                ? packageNameOpt.get() + DOT + UNDERSCORE + largeInterface.simpleName() + REPORT_FILENAME_SUFFIX
+                : UNDERSCORE + largeInterface.simpleName() + REPORT_FILENAME_SUFFIX;
+        return FileToGenerate.resource(
+                largeInterface,
+                qualifiedName,
+                REPORT_KIND,
+                packageNameOpt.orElse(EMPTY_STRING),
+                UNDERSCORE + largeInterface.simpleName() + REPORT_FILENAME_SUFFIX,
+                output -> reportContentGenerator.generateReportContent(
+                        output,
+                        largeInterface,
+                        unSeal,
+                        sealedInterfacesToGenerate,
+                        profileGraph,
+                        generatedDetachedInterfaces
+                ),
+                originatingElements
+        );
+    }
+
+    /**
+     * Renders the content of the provided files and writes them through the {@link javax.annotation.processing.Filer}.<br>
+     * By default, the content of each file is streamed directly into the writer opened by the {@link javax.annotation.processing.Filer}.
+     * When the {@link org.jisel.AnnotationProcessor#JISEL_PARALLELISM_OPTION} option is greater than 1, the contents are rendered
+     * concurrently in memory on a dedicated {@link ForkJoinPool}, while the files are still written one after the other, in the
+     * provided order, on the calling (javac) thread, as the {@link javax.annotation.processing.Filer} is not thread-safe
+     *
+     * @param filesToGenerate {@link List} of {@link FileToGenerate} instances describing the files to write
+     * @param processingStats {@link ProcessingStats} instance recording the time spent rendering and writing each file
+     * @throws IOException if a severe error occurs during files creation
+     */
+    protected void writeFiles(List<FileToGenerate> filesToGenerate, ProcessingStats processingStats) throws IOException {
+        if (parallelism <= 1 || filesToGenerate.size() <= 1) {
+            for (var fileToGenerate : filesToGenerate) {
+                writeFile(fileToGenerate, fileToGenerate.contentRenderer(), RENDER_PHASE, processingStats);
+            }
+            return;
+        }
+        var forkJoinPool = new ForkJoinPool(parallelism);
         try {
-            var fileObject = processingEnvironment.getFiler().createSourceFile(qualifiedName);
-            try (var out = new PrintWriter(fileObject.openWriter())) {
-                out.println(
-                        detachedInterfaceSourceContentGenerator.generateDetachedInterfaceSourceContent(qualifiedName, detachAttribs, largeInterfaceElement)
-                );
+            var renderedContents = filesToGenerate.stream()
+                    .map(fileToGenerate -> CompletableFuture.supplyAsync(() -> renderInMemory(fileToGenerate, processingStats), forkJoinPool))
+                    .toList();
+            for (int index = 0; index < filesToGenerate.size(); index++) {
+                var renderedContent = awaitRenderedContent(renderedContents.get(index));
+                writeFile(filesToGenerate.get(index), output -> output.write(renderedContent), WRITE_PHASE, processingStats);
             }
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
+    private String renderInMemory(FileToGenerate fileToGenerate, ProcessingStats processingStats) {
+        var renderStart = processingStats.start();
+        // the buffer is reused by all the files rendered on the same worker thread, only the final String gets allocated
+        var content = RENDER_BUFFER.get();
+        content.getBuffer().setLength(0);
+        var output = new PrintWriter(content);
+        fileToGenerate.contentRenderer().accept(output);
+        output.flush();
+        var renderedContent = content.toString();
+        processingStats.recordArtifact(fileToGenerate.largeInterfaceName(), fileToGenerate.qualifiedName(), RENDER_PHASE,
+                processingStats.elapsedSince(renderStart));
+        return renderedContent;
+    }
+
+    private String awaitRenderedContent(CompletableFuture<String> renderedContent) {
+        try {
+            return renderedContent.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // the time spent in the content renderer is recorded under the provided phase, the remaining time under the write phase
+    private void writeFile(FileToGenerate fileToGenerate,
+                           Consumer<PrintWriter> contentRenderer,
+                           String contentRendererPhase,
+                           ProcessingStats processingStats) throws IOException {
+        var writeStart = processingStats.start();
+        var contentRendererNanos = 0L;
+        var artifactGenerationEvent = new ArtifactGenerationEvent(
+                fileToGenerate.largeInterfaceName(),
+                fileToGenerate.qualifiedName(),
+                fileToGenerate.kind(),
+                fileToGenerate.methodsCount()
+        );
+        try {
+            var fileObject = fileToGenerate.resourceName().isEmpty()
+                    ? processingEnvironment.getFiler().createSourceFile(fileToGenerate.qualifiedName(), fileToGenerate.originatingElements())
+                    : processingEnvironment.getFiler().createResource(
+                    StandardLocation.SOURCE_OUTPUT,
+                    fileToGenerate.packageName(),
+                    fileToGenerate.resourceName(),
+                    fileToGenerate.originatingElements()
+            );
+            // the written bytes are only counted when they are reported
+            var byteCountingWriter = artifactGenerationEvent.isEnabled() || processingStats.isEnabled()
+                    ? new ByteCountingWriter(fileObject.openWriter())
+                    : null;
+            try (var out = new PrintWriter(new BufferedWriter(byteCountingWriter != null ? byteCountingWriter : fileObject.openWriter()))) {
+                var contentRendererStart = processingStats.start();
+                contentRenderer.accept(out);
+                out.println();
+                contentRendererNanos = processingStats.elapsedSince(contentRendererStart);
+                if (out.checkError()) {
+                    throw new IOException(format(FILE_WRITING_ERROR_MSG, fileToGenerate.qualifiedName()));
+                }
+            }
+            var bytesWritten = byteCountingWriter != null ? byteCountingWriter.bytesCount() : 0L;
+            artifactGenerationEvent.commit(bytesWritten);
+            processingStats.recordArtifactWritten(fileToGenerate.largeInterfaceName(), bytesWritten);
         } catch (FilerException e) {
             // File was already generated - do nothing
         }
-        return qualifiedName;
+        var writeNanos = processingStats.elapsedSince(writeStart);
+        if (!WRITE_PHASE.equals(contentRendererPhase)) {
+            processingStats.recordArtifact(fileToGenerate.largeInterfaceName(), fileToGenerate.qualifiedName(), contentRendererPhase,
+                    contentRendererNanos);
+            writeNanos -= contentRendererNanos;
+        }
+        processingStats.recordArtifact(fileToGenerate.largeInterfaceName(), fileToGenerate.qualifiedName(), WRITE_PHASE, writeNanos);
     }
 
     /**
-     * Creates the Jisel Generation Report file
+     * Reads the fingerprint sidecar file written for the provided large interface by a previous build, and returns the list of
+     * the files generated by that build if the stored fingerprint matches the provided one and all those files are still available
      *
-     * @param largeInterfaceElement      {@link Element} instance of the large interface being segregated
-     * @param unSeal                     boolean, indicates whether to add the generated unselaed interfaces to the report
-     * @param sealedInterfacesToGenerate {@link Map} containing information about the generated sealed interfaces
-     * @param sealedInterfacesPermitsMap {@link Map} containing information about the subtypes permitted by each one of the
-     *                                   sealed interfaces to be generated
-     * @return qualified name of the generated report file
-     * @throws IOException if a severe error occurs during file creation
+     * @param largeInterfaceElement {@link Element} instance of the large interface being segregated
+     * @param fingerprint           fingerprint of the current inputs of the large interface
+     * @return {@link Optional} of the {@link List} of the previously generated files, empty if the files must be generated again
      */
-    protected String createJiselReportFileForLargeInterface(Element largeInterfaceElement,
-                                                            boolean unSeal,
-                                                            Map<String, Set<Element>> sealedInterfacesToGenerate,
-                                                            Map<String, List<String>> sealedInterfacesPermitsMap,
-                                                            List<String> generatedDetachedInterfaces) throws IOException {
-        var packageNameOpt = generatePackageName(largeInterfaceElement);
-        var qualifiedName = packageNameOpt.isPresent()
-                ? packageNameOpt.get() + DOT + UNDERSCORE + largeInterfaceElement.getSimpleName().toString() + REPORT_FILENAME_SUFFIX
-                : UNDERSCORE + largeInterfaceElement.getSimpleName().toString() + REPORT_FILENAME_SUFFIX;
+    protected Optional<List<String>> findUpToDateGeneratedFiles(Element largeInterfaceElement, String fingerprint) {
+        List<String> sidecarLines;
         try {
-            var fileObject = processingEnvironment.getFiler().createResource(
+            var fileObject = processingEnvironment.getFiler().getResource(
                     StandardLocation.SOURCE_OUTPUT,
-                    packageNameOpt.isPresent() ? packageNameOpt.get() : EMPTY_STRING,
-                    UNDERSCORE + largeInterfaceElement.getSimpleName().toString() + REPORT_FILENAME_SUFFIX
+                    generatePackageName(largeInterfaceElement).orElse(EMPTY_STRING),
+                    UNDERSCORE + largeInterfaceElement.getSimpleName().toString() + FINGERPRINT_FILENAME_SUFFIX
             );
-            try (var out = new PrintWriter(fileObject.openWriter())) {
-                out.println(
-                        reportContentGenerator.generateReportContent(
-                                largeInterfaceElement,
-                                unSeal,
-                                sealedInterfacesToGenerate,
-                                sealedInterfacesPermitsMap,
-                                generatedDetachedInterfaces
-                        )
-                );
-            }
-        } catch (FilerException e) {
-            // File was already generated - do nothing
+            sidecarLines = fileObject.getCharContent(true).toString().lines().toList();
+        } catch (IOException | IllegalArgumentException e) {
+            // no fingerprint stored by a previous build
+            return Optional.empty();
+        }
+        if (sidecarLines.isEmpty() || !sidecarLines.get(0).equals(fingerprint)) {
+            return Optional.empty();
+        }
+        var previouslyGeneratedFiles = sidecarLines.subList(1, sidecarLines.size());
+        return previouslyGeneratedFiles.stream().allMatch(qualifiedName -> generatedFileExists(largeInterfaceElement, qualifiedName))
+                ? Optional.of(previouslyGeneratedFiles)
+                : Optional.empty();
+    }
+
+    /**
+     * Prepares the fingerprint sidecar file of the provided large interface, storing the fingerprint of its inputs followed by
+     * the list of the files generated for it
+     *
+     * @param largeInterface      {@link LargeInterfaceDescriptor} instance of the large interface being segregated
+     * @param fingerprint         fingerprint of the current inputs of the large interface
+     * @param generatedFiles      {@link List} of the files generated for the large interface
+     * @param originatingElements {@link Element} instances the generated file depends on, passed to the {@link javax.annotation.processing.Filer}
+     * @return {@link FileToGenerate} instance describing the fingerprint file to write
+     */
+    protected FileToGenerate createFingerprintFile(LargeInterfaceDescriptor largeInterface,
+                                                   String fingerprint,
+                                                   List<String> generatedFiles,
+                                                   Element... originatingElements) {
+        var packageName = largeInterface.packageName().orElse(EMPTY_STRING);
+        var fingerprintFilename = UNDERSCORE + largeInterface.simpleName() + FINGERPRINT_FILENAME_SUFFIX;
+        var sidecarLines = new ArrayList<String>();
+        sidecarLines.add(fingerprint);
+        sidecarLines.addAll(generatedFiles);
+        return FileToGenerate.resource(
+                largeInterface,
+                packageName.isEmpty() ? fingerprintFilename : packageName + DOT + fingerprintFilename,
+                FINGERPRINT_KIND,
+                packageName,
+                fingerprintFilename,
+                output -> output.print(String.join(System.lineSeparator(), sidecarLines)),
+                originatingElements
+        );
+    }
+
+    // generated types must be visible to the current compilation (i.e. through the generated sources directory), while the
+    // report must still exist in the source output location
+    private boolean generatedFileExists(Element largeInterfaceElement, String qualifiedName) {
+        if (!qualifiedName.endsWith(REPORT_FILENAME_SUFFIX)) {
+            return processingEnvironment.getElementUtils().getTypeElement(qualifiedName) != null;
+        }
+        var packageName = generatePackageName(largeInterfaceElement).orElse(EMPTY_STRING);
+        try {
+            processingEnvironment.getFiler().getResource(
+                    StandardLocation.SOURCE_OUTPUT,
+                    packageName,
+                    packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + DOT.length())
+            ).getCharContent(true);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Describes a file to generate: its name and location, the {@link Element} instances it depends on, and the renderer of its
+     * content.<br>
+     * The renderer only captures immutable descriptors, so it can be invoked on any thread
+     *
+     * @param largeInterfaceName  qualified name of the large interface the file is generated for
+     * @param qualifiedName       qualified name of the generated type, or of the generated resource file
+     * @param kind                kind of the generated file (sealed, unsealed, final, detached, report or fingerprint)
+     * @param methodsCount        number of abstract methods declared by the generated type. 0 for classes and resource files
+     * @param packageName         package of the generated resource file. Empty for source files
+     * @param resourceName        relative name of the generated resource file. Empty for source files
+     * @param contentRenderer     {@link Consumer} rendering the content of the file into the provided {@link PrintWriter}
+     * @param originatingElements {@link Element} instances the generated file depends on, passed to the {@link javax.annotation.processing.Filer}
+     */
+    protected record FileToGenerate(String largeInterfaceName,
+                                    String qualifiedName,
+                                    String kind,
+                                    int methodsCount,
+                                    String packageName,
+                                    String resourceName,
+                                    Consumer<PrintWriter> contentRenderer,
+                                    Element[] originatingElements) {
+
+        static FileToGenerate sourceFile(LargeInterfaceDescriptor largeInterface, String qualifiedName, String kind, int methodsCount,
+                                         Consumer<PrintWriter> contentRenderer, Element... originatingElements) {
+            return new FileToGenerate(largeInterface.qualifiedName(), qualifiedName, kind, methodsCount, EMPTY_STRING, EMPTY_STRING,
+                    contentRenderer, originatingElements);
+        }
+
+        static FileToGenerate resource(LargeInterfaceDescriptor largeInterface, String qualifiedName, String kind, String packageName,
+                                       String resourceName, Consumer<PrintWriter> contentRenderer, Element... originatingElements) {
+            return new FileToGenerate(largeInterface.qualifiedName(), qualifiedName, kind, 0, packageName, resourceName,
+                    contentRenderer, originatingElements);
         }
-        return qualifiedName;
     }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.generators.filegen;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * {@link FilterWriter} counting the number of bytes the characters written through it take once encoded in UTF-8
+ */
+final class ByteCountingWriter extends FilterWriter {
+
+    private long bytesCount;
+
+    private boolean pendingHighSurrogate;
+
+    /**
+     * ByteCountingWriter constructor
+     *
+     * @param out {@link Writer} instance the characters are written to
+     */
+    ByteCountingWriter(Writer out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        out.write(c);
+        count((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        out.write(cbuf, off, len);
+        for (int index = off; index < off + len; index++) {
+            count(cbuf[index]);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        out.write(str, off, len);
+        for (int index = off; index < off + len; index++) {
+            count(str.charAt(index));
+        }
+    }
+
+    /**
+     * Returns the number of bytes written so far, encoded in UTF-8
+     *
+     * @return the number of bytes written so far
+     */
+    long bytesCount() {
+        return bytesCount;
+    }
+
+    private void count(char c) {
+        if (c < 0x80) {
+            bytesCount++;
+        } else if (c < 0x800) {
+            bytesCount += 2;
+        } else if (Character.isHighSurrogate(c)) {
+            // a surrogate pair takes 4 bytes, counted once the low surrogate is written
+            pendingHighSurrogate = true;
+            return;
+        } else if (Character.isLowSurrogate(c) && pendingHighSurrogate) {
+            bytesCount += 4;
+        } else {
+            bytesCount += 3;
+        }
+        pendingHighSurrogate = false;
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.generators.filegen;
+
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.MethodDescriptor;
+import org.jisel.generators.SegregationModel;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
+import static org.jisel.generators.StringGenerator.NEW_LINE;
+import static org.jisel.generators.StringGenerator.WHITESPACE;
+
+/**
+ * Computes the fingerprint of the semantic inputs of a large interface: its annotations, parent interfaces and methods
+ * signatures (including their annotations), the profiles, the &#64;{@link org.jisel.annotations.AddTo} annotated children,
+ * the &#64;{@link org.jisel.annotations.Detach} attributes, the Jisel version and the Jisel processor options.<br>
+ * Files generated for a large interface whose fingerprint did not change since the previous build are identical to the ones
+ * of the previous build, so their generation can be skipped
+ */
+public interface FingerprintGenerator {
+
+    /**
+     * "Fingerprint.txt" suffix appended by the end of the fingerprint sidecar filename
+     */
+    String FINGERPRINT_FILENAME_SUFFIX = "Fingerprint.txt";
+
+    /**
+     * Hash algorithm used to compute the fingerprints
+     */
+    String FINGERPRINT_ALGORITHM = "SHA-256";
+
+    /**
+     * Prefix of the processor options taken into account in the fingerprints
+     */
+    String JISEL_OPTIONS_PREFIX = "jisel.";
+
+    /**
+     * Computes the fingerprint of the provided large interface processing inputs
+     *
+     * @param processingEnvironment {@link ProcessingEnvironment} instance needed to perform low-level operations on {@link Element} instances
+     * @param appInfo               {@link AppInfo} instance holding the app information displayed in the generated files
+     * @param segregationModel      {@link SegregationModel} instance of the large interface being segregated
+     * @param methodDescriber       {@link Function} describing a method {@link Element} instance, expected to cache the
+     *                              descriptors of the methods described several times
+     * @return hexadecimal String representation of the fingerprint
+     */
+    static String generateFingerprint(ProcessingEnvironment processingEnvironment,
+                                      AppInfo appInfo,
+                                      SegregationModel segregationModel,
+                                      Function<Element, MethodDescriptor> methodDescriber) {
+        var largeInterfaceElement = segregationModel.largeInterfaceElement();
+        var inputs = new StringBuilder();
+        inputs.append(appInfo.version()).append(NEW_LINE);
+        processingEnvironment.getOptions().entrySet().stream()
+                .filter(option -> option.getKey().startsWith(JISEL_OPTIONS_PREFIX))
+                .map(option -> option.getKey() + "=" + option.getValue())
+                .sorted()
+                .forEach(option -> inputs.append(option).append(NEW_LINE));
+        inputs.append(largeInterfaceElement).append(WHITESPACE).append(segregationModel.unSeal()).append(NEW_LINE);
+        inputs.append(describe(largeInterfaceElement.getAnnotationMirrors(), methodDescriber)).append(NEW_LINE);
+        inputs.append(describe(processingEnvironment.getTypeUtils().directSupertypes(largeInterfaceElement.asType()), methodDescriber)).append(NEW_LINE);
+        inputs.append(describe(processingEnvironment.getElementUtils().getAllMembers((TypeElement) largeInterfaceElement).stream()
+                .filter(element -> ElementKind.METHOD.equals(element.getKind()))
+                .toList(), methodDescriber)).append(NEW_LINE);
+        inputs.append(describeSealedInterfaces(segregationModel, methodDescriber)).append(NEW_LINE);
+        inputs.append(describePermits(segregationModel)).append(NEW_LINE);
+        inputs.append(describe(segregationModel.detachSpecs(), methodDescriber));
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(inputs.toString().getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform implementation is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Builds an order-independent String description of the provided value: collections are sorted and
+     * methods are described along with their annotations, parameters and thrown exceptions
+     *
+     * @param value           value to describe, can be null
+     * @param methodDescriber {@link Function} describing a method {@link Element} instance
+     * @return String description of the provided value
+     */
+    private static String describe(Object value, Function<Element, MethodDescriptor> methodDescriber) {
+        if (value instanceof ExecutableElement method) {
+            return describeMethod(method, methodDescriber.apply(method));
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream()
+                    .map(element -> describe(element, methodDescriber))
+                    .sorted()
+                    .collect(joining(COMMA_SEPARATOR, "[", "]"));
+        }
+        return String.valueOf(value);
+    }
+
+    // profiles sorted by name, each one described along with its sorted abstract methods, read straight from the methods ids
+    private static String describeSealedInterfaces(SegregationModel segregationModel, Function<Element, MethodDescriptor> methodDescriber) {
+        var sortedEntries = new TreeMap<String, String>();
+        for (int profileId = 0; profileId < segregationModel.profilesCount(); profileId++) {
+            sortedEntries.put(segregationModel.name(profileId), Arrays.stream(segregationModel.methodIds(profileId))
+                    .mapToObj(methodId -> describe(segregationModel.method(methodId), methodDescriber))
+                    .sorted()
+                    .collect(joining(COMMA_SEPARATOR, "[", "]")));
+        }
+        return sortedEntries.toString();
+    }
+
+    // parents sorted by name, each one described along with its sorted children names, read straight from the permits adjacency arrays
+    private static String describePermits(SegregationModel segregationModel) {
+        var sortedEntries = new TreeMap<String, String>();
+        for (var parentId : segregationModel.parentIds()) {
+            sortedEntries.put(segregationModel.name(parentId), Arrays.stream(segregationModel.childrenIds(parentId))
+                    .mapToObj(segregationModel::name)
+                    .sorted()
+                    .collect(joining(COMMA_SEPARATOR, "[", "]")));
+        }
+        return sortedEntries.toString();
+    }
+
+    // the rendered parts of the method signature are reused from its descriptor. Jisel annotations are not part of it, but
+    // their effects are described through the profiles and permits maps
+    private static String describeMethod(ExecutableElement method, MethodDescriptor methodDescriptor) {
+        return format(
+                "%s %s %s %s %s throws %s default=%s",
+                methodDescriptor.existingAnnotations(),
+                method.getModifiers(),
+                method.getTypeParameters(),
+                methodDescriptor.returnType(),
+                methodDescriptor.nameAndParameters(),
+                methodDescriptor.thrownExceptions(),
+                method.getDefaultValue()
+        );
+    }
+}
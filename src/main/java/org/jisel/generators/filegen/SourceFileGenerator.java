@@ -21,11 +21,11 @@
  */
 package org.jisel.generators.filegen;
 
-import javax.lang.model.element.Element;
+import org.jisel.generators.ProcessingStats;
+import org.jisel.generators.SegregationModel;
+
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 /**
  * Exposes contract to fulfill by classes generating Java source files
@@ -33,20 +33,22 @@ import java.util.Set;
 public sealed interface SourceFileGenerator permits AbstractSealedSourceFileGenerator {
 
     /**
-     * Creates source files based on provided parameters and returns a {@link List} of the generated interfaces and classes qualified names
+     * Qualified names of the files handled while creating the source files of the large interfaces
+     *
+     * @param generatedFiles qualified names of the generated interfaces, classes and reports
+     * @param upToDateFiles  qualified names of the files not generated again, as the fingerprint of their large interface
+     *                       did not change since the previous build
+     */
+    record SourceFiles(List<String> generatedFiles, List<String> upToDateFiles) {
+    }
+
+    /**
+     * Creates source files based on provided parameters and returns the qualified names of the generated and up-to-date files
      *
-     * @param sealedInterfacesToGenerateByLargeInterface   {@link Map} containing information about the sealed interfaces to
-     *                                                     be generated for each large interface
-     * @param sealedInterfacesPermitsByLargeInterface      {@link Map} containing information about the subtypes permitted by
-     *                                                     each one of the sealed interfaces to be generated for each large interface
-     * @param unSealValueByLargeInterface                  {@link Map} storing 'unSeal' boolean value for each large interface
-     * @param detachedInterfacesToGenerateByLargeInterface {@link Map} containing information about the detached interfaces to
-     *                                                     be generated for each large interface
-     * @return {@link List} of the generated interfaces and classes qualified names
+     * @param segregationModels {@link List} of the {@link SegregationModel} instances of the large interfaces to segregate
+     * @param processingStats   {@link ProcessingStats} instance recording the time spent describing, rendering and writing the files
+     * @return the {@link SourceFiles} holding the qualified names of the generated files and of the skipped up-to-date files
      * @throws IOException if an I/O error occured
      */
-    List<String> createSourceFiles(Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                   Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface,
-                                   Map<Element, Boolean> unSealValueByLargeInterface,
-                                   Map<Element, Map<String, Map<String, Object>>> detachedInterfacesToGenerateByLargeInterface) throws IOException;
-}
\ No newline at end of file
+    SourceFiles createSourceFiles(List<SegregationModel> segregationModels, ProcessingStats processingStats) throws IOException;
+}
@@ -21,6 +21,11 @@
  */
 package org.jisel.generators.filegen.impl;
 
+import org.jisel.generators.AppInfo;
+import org.jisel.generators.MethodDescriptorCache;
+import org.jisel.generators.ProcessingStats;
+import org.jisel.generators.ProfileGraph;
+import org.jisel.generators.SegregationModel;
 import org.jisel.generators.filegen.AbstractSealedSourceFileGenerator;
 
 import javax.annotation.processing.ProcessingEnvironment;
@@ -28,13 +33,15 @@ import javax.lang.model.element.Element;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
 
+import static org.jisel.generators.ProcessingStats.DESCRIBE_PHASE;
+import static org.jisel.generators.ProcessingStats.FINGERPRINT_PHASE;
 import static org.jisel.generators.StringGenerator.DETACHED;
 import static org.jisel.generators.StringGenerator.DOT;
 import static org.jisel.generators.StringGenerator.SEALED_PREFIX;
 import static org.jisel.generators.StringGenerator.sealedInterfaceNameConvention;
+import static org.jisel.generators.filegen.FingerprintGenerator.generateFingerprint;
 
 /**
  * Creates the content of an interface and writes it to the filesystem.<br>
@@ -43,79 +50,116 @@ import static org.jisel.generators.StringGenerator.sealedInterfaceNameConvention
 public final class InterfaceSourceFileGenerator extends AbstractSealedSourceFileGenerator {
 
     /**
-     * InterfaceSourceFileGenerator constructor. Injects needed instance of {@link ProcessingEnvironment} and passes it
+     * InterfaceSourceFileGenerator constructor. Injects needed instances of {@link ProcessingEnvironment} and {@link AppInfo} and passes them
      * to the super constructor
      *
      * @param processingEnvironment instance needed for performing low-level operations on {@link Element} instances
+     * @param appInfo               {@link AppInfo} instance holding the app information displayed in the generated files
      */
-    public InterfaceSourceFileGenerator(ProcessingEnvironment processingEnvironment) {
-        super(processingEnvironment);
+    public InterfaceSourceFileGenerator(ProcessingEnvironment processingEnvironment, AppInfo appInfo) {
+        super(processingEnvironment, appInfo);
     }
 
     @Override
-    public List<String> createSourceFiles(Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                          Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface,
-                                          Map<Element, Boolean> unSealValueByLargeInterface,
-                                          Map<Element, Map<String, Map<String, Object>>> detachedInterfacesToGenerateByLargeInterface) throws IOException {
+    public SourceFiles createSourceFiles(List<SegregationModel> segregationModels, ProcessingStats processingStats) throws IOException {
         var allGeneratedFiles = new ArrayList<String>();
-        for (var sealedInterfacesToGenerateMapEntry : sealedInterfacesToGenerateByLargeInterface.entrySet()) {
-            var largeInterfaceElement = sealedInterfacesToGenerateMapEntry.getKey();
-            var unSeal = unSealValueByLargeInterface.getOrDefault(largeInterfaceElement, false).booleanValue();
-            var generatedFilesForLargeInterface = new ArrayList<String>();
-            for (var mapEntry : sealedInterfacesToGenerateMapEntry.getValue().entrySet()) {
+        var upToDateFiles = new ArrayList<String>();
+        // all Element instances are described on the javac thread, before any content gets rendered
+        var filesToGenerate = new ArrayList<FileToGenerate>();
+        // methods descriptors are shared by all the large interfaces and generators of the round
+        var methodDescriber = new MethodDescriptorCache(methodsGenerator::describeMethod);
+        for (var segregationModel : segregationModels) {
+            var largeInterfaceElement = segregationModel.largeInterfaceElement();
+            var unSeal = segregationModel.unSeal();
+            var largeInterfaceName = largeInterfaceElement.toString();
+            processingStats.recordLargeInterface(largeInterfaceName, segregationModel);
+            var filesToGenerateForLargeInterface = new ArrayList<FileToGenerate>();
+            var originatingElements = buildOriginatingElements(segregationModel);
+            var fingerprintStart = processingStats.start();
+            var fingerprintOpt = fingerprintEnabled
+                    ? Optional.of(generateFingerprint(processingEnvironment, appInfo, segregationModel, methodDescriber))
+                    : Optional.<String>empty();
+            if (fingerprintOpt.isPresent()) {
+                var upToDateGeneratedFilesOpt = findUpToDateGeneratedFiles(largeInterfaceElement, fingerprintOpt.get());
+                processingStats.record(FINGERPRINT_PHASE, largeInterfaceName, fingerprintStart);
+                if (upToDateGeneratedFilesOpt.isPresent()) {
+                    // inputs unchanged since the previous build, whose generated files are still available
+                    upToDateFiles.addAll(upToDateGeneratedFilesOpt.get());
+                    continue;
+                }
+            }
+            var describeStart = processingStats.start();
+            var profileGraph = ProfileGraph.of(segregationModel);
+            var largeInterface = describeLargeInterface(largeInterfaceElement, methodDescriber);
+            var sealedInterfacesToGenerate = describeSealedInterfaces(segregationModel, methodDescriber);
+            for (var mapEntry : sealedInterfacesToGenerate.entrySet()) {
                 var profile = mapEntry.getKey();
-                var generatedSealedInterfaceName = sealedInterfaceNameConvention(profile, largeInterfaceElement);
+                var generatedSealedInterfaceName = sealedInterfaceNameConvention(profile, largeInterface.simpleName());
                 var generatedUnSealedInterfaceName = generatedSealedInterfaceName.substring(SEALED_PREFIX.length());
-                generatedFilesForLargeInterface.add(
-                        // 3rd arg is a Map made of only 1 instance of Map.Entry<String, Set<Element>>
+                filesToGenerateForLargeInterface.add(
                         createSealedInterfaceSourceFile(
-                                largeInterfaceElement,
+                                largeInterface,
                                 mapEntry,
-                                sealedInterfacesPermitsByLargeInterface.get(largeInterfaceElement),
-                                generatedSealedInterfaceName
+                                profileGraph,
+                                generatedSealedInterfaceName,
+                                originatingElements
                         )
                 );
                 if (unSeal) {
-                    generatedFilesForLargeInterface.add(
+                    filesToGenerateForLargeInterface.add(
                             createUnSealedInterfaceSourceFile(
-                                    largeInterfaceElement,
+                                    largeInterface,
                                     mapEntry,
-                                    sealedInterfacesPermitsByLargeInterface.get(largeInterfaceElement),
-                                    generatedUnSealedInterfaceName
+                                    profileGraph,
+                                    generatedUnSealedInterfaceName,
+                                    originatingElements
                             )
                     );
                 }
-
             }
-            generatedFilesForLargeInterface.add(
+            filesToGenerateForLargeInterface.add(
                     createFinalClassFile(
-                            largeInterfaceElement,
-                            sealedInterfacesPermitsByLargeInterface.get(largeInterfaceElement)
+                            largeInterface,
+                            profileGraph,
+                            originatingElements
                     )
             );
-            if (detachedInterfacesToGenerateByLargeInterface.containsKey(largeInterfaceElement)) {
-                generatedFilesForLargeInterface.addAll(
+            if (!segregationModel.detachSpecs().isEmpty()) {
+                filesToGenerateForLargeInterface.addAll(
                         createDetachedInterfacesSourceFiles(
-                                largeInterfaceElement,
-                                detachedInterfacesToGenerateByLargeInterface,
-                                sealedInterfacesToGenerateByLargeInterface,
-                                sealedInterfacesPermitsByLargeInterface
+                                largeInterface,
+                                segregationModel,
+                                methodDescriber,
+                                originatingElements
                         )
                 );
             }
-            generatedFilesForLargeInterface.add(
+            filesToGenerateForLargeInterface.add(
                     createJiselReportFileForLargeInterface(
-                            largeInterfaceElement,
+                            largeInterface,
                             unSeal,
-                            sealedInterfacesToGenerateByLargeInterface.get(largeInterfaceElement),
-                            sealedInterfacesPermitsByLargeInterface.get(largeInterfaceElement),
-                            generatedFilesForLargeInterface.stream()
+                            sealedInterfacesToGenerate,
+                            profileGraph,
+                            filesToGenerateForLargeInterface.stream()
+                                    .map(FileToGenerate::qualifiedName)
                                     .filter(qualifiedName -> qualifiedName.contains(DETACHED.toLowerCase() + DOT))
-                                    .toList()
+                                    .toList(),
+                            originatingElements
                     )
             );
+            var generatedFilesForLargeInterface = filesToGenerateForLargeInterface.stream()
+                    .map(FileToGenerate::qualifiedName)
+                    .toList();
+            if (fingerprintOpt.isPresent()) {
+                filesToGenerateForLargeInterface.add(
+                        createFingerprintFile(largeInterface, fingerprintOpt.get(), generatedFilesForLargeInterface, originatingElements)
+                );
+            }
+            processingStats.record(DESCRIBE_PHASE, largeInterfaceName, describeStart);
+            filesToGenerate.addAll(filesToGenerateForLargeInterface);
             allGeneratedFiles.addAll(generatedFilesForLargeInterface);
         }
-        return allGeneratedFiles;
+        writeFiles(filesToGenerate, processingStats);
+        return new SourceFiles(allGeneratedFiles, upToDateFiles);
     }
 }
\ No newline at end of file
@@ -27,29 +27,11 @@ import org.jisel.handlers.impl.AddToHandler;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
 
-import static java.util.Collections.unmodifiableSet;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toSet;
-import static java.util.stream.Stream.concat;
-import static org.jisel.generators.StringGenerator.ADD_TO_REGEX;
-import static org.jisel.generators.StringGenerator.ANNOTATION_STRING_VALUE_REGEX;
-import static org.jisel.generators.StringGenerator.CLOSING_CURLY_BRACE;
-import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
-import static org.jisel.generators.StringGenerator.DOT_CLASS;
-import static org.jisel.generators.StringGenerator.DOUBLE_QUOTES;
 import static org.jisel.generators.StringGenerator.EMPTY_STRING;
-import static org.jisel.generators.StringGenerator.EQUALS_SIGN;
-import static org.jisel.generators.StringGenerator.LARGE_INTERFACE;
-import static org.jisel.generators.StringGenerator.LARGE_INTERFACE_ATTRIBUTE_REGEX;
-import static org.jisel.generators.StringGenerator.OPENING_CURLY_BRACE;
-import static org.jisel.generators.StringGenerator.ORG_JISEL_ADD_TO;
-import static org.jisel.generators.StringGenerator.PROFILES;
-import static org.jisel.generators.StringGenerator.removeDotClass;
 
 /**
  * Exposes convenience methods to be used by classes handling the &#64;{@link AddTo} annotated elements
@@ -75,45 +57,16 @@ public abstract sealed class AbstractSealedAddToHandler implements JiselAnnotati
      * For a specified class or interface annotated with &#64;{@link AddTo}, constructs a Map storing a Set of all the provided
      * profiles names (as the Map value) for each one of the large interfaces names (as the Map key) provided through &#64;AddTo.
      *
+     * @param annotationIndex           {@link AnnotationIndex} of the current round
      * @param annotatedClassOrInterface {@link Element} instance representing the annotated class or interface
      * @return a Map storing a Set of all the provided profiles names (as the Map value) for each one of the large interfaces names (as the Map key)
      */
-    protected Map<String, Set<String>> buildAddToProvidedProfilesMap(Element annotatedClassOrInterface) {
+    protected Map<String, Set<String>> buildAddToProvidedProfilesMap(AnnotationIndex annotationIndex, Element annotatedClassOrInterface) {
         var providedProfilesMap = new HashMap<String, Set<String>>();
-        var annotationRawValueAsString = annotatedClassOrInterface.getAnnotationMirrors().stream()
-                .filter(annotationMirror -> annotationMirror.toString().contains(ORG_JISEL_ADD_TO))
-                .map(Object::toString)
-                .collect(joining(COMMA_SEPARATOR));
-        // sample values for annotationRawValueAsString:
-        // @org.jisel.annotations.AddTo(profiles={"Student", "Worker"}, largeInterface=com.bayor.jisel.annotation.client.data.Sociable.class),@org.jisel.annotations.AddTo(largeInterface=com.bayor.jisel.annotation.client.data.Sociable.class)
-        var addToMatcher = Pattern.compile(ADD_TO_REGEX).matcher(annotationRawValueAsString);
-        while (addToMatcher.find()) {
-            var attributesWithValues = addToMatcher.group(1).strip(); // profiles={"ActiveWorker", "Student"}, largeInterface=com.bayor.jisel.annotation.client.data.Sociable.class
-            var profilesSet = new HashSet<String>();
-            if (attributesWithValues.contains(PROFILES + EQUALS_SIGN)) {
-                var commaSeparatedProfiles = attributesWithValues.substring(attributesWithValues.indexOf(OPENING_CURLY_BRACE) + 1, attributesWithValues.indexOf(CLOSING_CURLY_BRACE));
-                var profilesNamesMatcher = Pattern.compile(ANNOTATION_STRING_VALUE_REGEX).matcher(commaSeparatedProfiles);
-                while (profilesNamesMatcher.find()) {
-                    profilesSet.add(profilesNamesMatcher.group(1).strip());
-                }
-            }
-            updateProvidedProfilesMapBasedOnProfilesSet(providedProfilesMap, unmodifiableSet(profilesSet), addQuotesToLargeInterfaceValue(attributesWithValues));
-        }
+        annotationIndex.addToAttributes(annotatedClassOrInterface).forEach(addToAttributes -> providedProfilesMap.computeIfAbsent(
+                addToAttributes.largeInterface() == null ? EMPTY_STRING : addToAttributes.largeInterface().getQualifiedName().toString(),
+                largeInterfaceQualifiedName -> new LinkedHashSet<>()
+        ).addAll(addToAttributes.profiles().isEmpty() ? Set.of(EMPTY_STRING) : addToAttributes.profiles()));
         return providedProfilesMap;
     }
-
-    private String addQuotesToLargeInterfaceValue(String largeInterfaceAttributeRawString) {
-        return largeInterfaceAttributeRawString
-                .replace(LARGE_INTERFACE + EQUALS_SIGN, LARGE_INTERFACE + EQUALS_SIGN + DOUBLE_QUOTES)
-                .replace(DOT_CLASS, DOUBLE_QUOTES);
-    }
-
-    private void updateProvidedProfilesMapBasedOnProfilesSet(Map<String, Set<String>> providedProfilesMap, Set<String> profilesSet, String attributesWithValues) {
-        var largeInterfaceAttributeMatcher = Pattern.compile(LARGE_INTERFACE_ATTRIBUTE_REGEX).matcher(attributesWithValues);
-        providedProfilesMap.merge(
-                largeInterfaceAttributeMatcher.find() ? removeDotClass(largeInterfaceAttributeMatcher.group(1).strip()) : EMPTY_STRING,
-                profilesSet.isEmpty() ? new HashSet<>(Set.of(EMPTY_STRING)) : profilesSet,
-                (currentSet, newSet) -> concat(currentSet.stream(), newSet.stream()).collect(toSet())
-        );
-    }
 }
\ No newline at end of file
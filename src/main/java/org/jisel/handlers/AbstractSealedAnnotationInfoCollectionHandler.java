@@ -23,145 +23,123 @@ package org.jisel.handlers;
 
 import org.jisel.annotations.AddTo;
 import org.jisel.annotations.SealFor;
+import org.jisel.generators.SegregationModel;
 import org.jisel.handlers.impl.SealForAnnotationInfoCollectionHandler;
 
 import javax.lang.model.element.Element;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.TreeMap;
 
-import static java.util.stream.Collectors.toSet;
-import static java.util.stream.Stream.concat;
-import static org.jisel.generators.StringGenerator.ANNOTATION_STRING_VALUE_REGEX;
-import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
-import static org.jisel.generators.StringGenerator.ORG_JISEL_SEAL_FOR;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toCollection;
 
 /**
  * Exposes contract to fulfill by a class collecting necessary information from the annotated elements,
- * in order to populate the {@link Map} containing the sealed interfaces information to be generated
+ * in order to populate the {@link SegregationModel.Builder} of each large interface with the sealed interfaces to be generated
  */
 public abstract sealed class AbstractSealedAnnotationInfoCollectionHandler implements JiselAnnotationHandler permits SealForAnnotationInfoCollectionHandler {
 
+    // lexicographic order of the profiles indexes: the lowest index set in only one of the 2 memberships decides
+    private static final Comparator<BitSet> PROFILES_MEMBERSHIP_ORDER = (membership, otherMembership) -> {
+        var difference = (BitSet) membership.clone();
+        difference.xor(otherMembership);
+        var lowestDifferentIndex = difference.nextSetBit(0);
+        return lowestDifferentIndex < 0 ? 0 : membership.get(lowestDifferentIndex) ? -1 : 1;
+    };
+
     /**
-     * Populates the Map containing the sealed interfaces information to be generated information regarding the used annotations
+     * Populates the {@link SegregationModel.Builder} of a large interface with the sealed interfaces to be generated for the
+     * profiles provided through the &#64;{@link SealFor} annotations
      *
-     * @param allAnnotatedElements                       {@link Set} of {@link Element} instances representing all classes
-     *                                                   annotated with &#64;{@link AddTo} and all abstract methods annotated
-     *                                                   with &#64;{@link SealFor}
-     * @param sealedInterfacesToGenerateByLargeInterface {@link Map} containing information about the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the {@link Element} instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a {@link Map} of profile name as the key and a Set of {@link Element} instances as the value.
-     *                                                   The Element instances represent each one of the abstract methods to be
-     *                                                   added to the generated sealed interface corresponding to a profile.
+     * @param annotatedMethods        {@link Set} of {@link Element} instances representing the abstract methods of the large
+     *                                interface annotated with &#64;{@link SealFor}
+     * @param annotationIndex         {@link AnnotationIndex} of the current round, providing the profiles provided through the
+     *                                &#64;{@link SealFor} annotations
+     * @param segregationModelBuilder {@link SegregationModel.Builder} instance of the large interface. To be populated
+     * @return {@link Map} of the {@link ProfileSet} instances of the created intermediate parent interfaces, by display name
      */
-    public abstract void populateSealedInterfacesMap(Set<Element> allAnnotatedElements,
-                                                     Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface);
+    public abstract Map<String, ProfileSet> populateSealedInterfaces(Set<Element> annotatedMethods,
+                                                                     AnnotationIndex annotationIndex,
+                                                                     SegregationModel.Builder segregationModelBuilder);
 
     /**
-     * Creates intermediate parent interfaces based on common methods of provided profiles, then stores the created intermediate
-     * parent interfaces in the Map containing the sealed interfaces information to be generated
+     * Creates intermediate parent interfaces based on common methods of provided profiles, then stores the profiles and the
+     * created intermediate parent interfaces in the {@link SegregationModel.Builder} of the large interface
      *
-     * @param annotatedMethodsByProfileByLargeInterface  {@link Set} of all annotated abstract methods for a specified profile
-     * @param sealedInterfacesToGenerateByLargeInterface {@link Map} containing information about the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the {@link Element} instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a Set of Element instances as the value.
-     *                                                   The Element instances represent each one of the abstract methods to be
-     *                                                   added to the generated sealed interface corresponding to a profile.
+     * @param annotatedMethodsByProfile {@link Map} of the {@link Set} of all annotated abstract methods, by profile name. The
+     *                                  common methods are removed from the provided sets
+     * @param segregationModelBuilder   {@link SegregationModel.Builder} instance of the large interface. To be populated
+     * @return {@link Map} of the {@link ProfileSet} instances of the created intermediate parent interfaces, by display name
      */
-    protected void createParentInterfacesBasedOnCommonMethods(Map<Element, Map<String, Set<Element>>> annotatedMethodsByProfileByLargeInterface,
-                                                              Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface) {
-        annotatedMethodsByProfileByLargeInterface.forEach((interfaceElement, annotatedMethodsByProfile) -> {
-            var profilesList = new ArrayList<String>();
-            var methodsSetsList = new ArrayList<Set<Element>>();
-            annotatedMethodsByProfile.forEach((profileName, methodsSet) -> {
-                profilesList.add(profileName);
-                methodsSetsList.add(methodsSet);
-            });
-            var totalProfiles = profilesList.size();
-            sealedInterfacesToGenerateByLargeInterface.putIfAbsent(interfaceElement, new HashMap<>());
-            sealedInterfacesToGenerateByLargeInterface.get(interfaceElement).putAll(annotatedMethodsByProfileByLargeInterface.get(interfaceElement));
-            for (int i = 0; i < totalProfiles - 1; i++) { // TODO try eliminating i
-                var allProcessedCommonMethodsByConcatenatedProfiles = concatenateProfilesBasedOnCommonMethods(profilesList.get(i), profilesList, methodsSetsList);
-                // remove all commonMethodElmnts 1 by 1 and in each profile
-                allProcessedCommonMethodsByConcatenatedProfiles.values().stream()
-                        .flatMap(Collection::stream)
-                        .collect(toSet())
-                        .forEach(method -> {
-                            methodsSetsList.forEach(methodsSets -> methodsSets.remove(method));
-                            annotatedMethodsByProfileByLargeInterface.get(interfaceElement)
-                                    .forEach((profileName, methodsSets) -> methodsSets.remove(method));
-                        });
-                sealedInterfacesToGenerateByLargeInterface.get(interfaceElement).putAll(allProcessedCommonMethodsByConcatenatedProfiles);
-            }
+    protected Map<String, ProfileSet> createParentInterfacesBasedOnCommonMethods(Map<String, Set<Element>> annotatedMethodsByProfile,
+                                                                                SegregationModel.Builder segregationModelBuilder) {
+        var profilesList = new ArrayList<>(annotatedMethodsByProfile.keySet());
+        var profileIndex = new ProfileIndex(profilesList);
+        var profileSets = new HashMap<String, ProfileSet>();
+        var commonMethodsByProfilesMembership = groupCommonMethodsByProfilesMembership(profilesList, annotatedMethodsByProfile);
+        // common methods are moved from the profiles methods sets to the intermediate parent interfaces
+        commonMethodsByProfilesMembership.forEach((profilesMembership, commonMethods) -> {
+            var profileSet = profileIndex.profileSet(profilesMembership);
+            profileSet.profiles().forEach(profile -> annotatedMethodsByProfile.get(profile).removeAll(commonMethods));
+            profileSets.put(profileSet.name(), profileSet);
         });
+        // the methods ids are only stored once the profiles methods sets are final
+        annotatedMethodsByProfile.forEach(segregationModelBuilder::putProfile);
+        commonMethodsByProfilesMembership.forEach((profilesMembership, commonMethods) ->
+                segregationModelBuilder.putProfile(profileIndex.profileSet(profilesMembership).name(), commonMethods));
+        return profileSets;
     }
 
-    private Map<String, Set<Element>> concatenateProfilesBasedOnCommonMethods(String processedProfileName,
-                                                                              List<String> profilesList,
-                                                                              List<Set<Element>> methodsSetsList) {
-        var allProcessedCommonMethodsByConcatenatedProfiles = new HashMap<String, Set<Element>>();
-        var totalProfiles = profilesList.size();
-        var processProfileIndex = profilesList.indexOf(processedProfileName);
-        for (var methodElement : methodsSetsList.get(processProfileIndex)) {
-            var concatenatedProfiles = new StringBuilder(processedProfileName);
-            var found = false;
-            for (int j = processProfileIndex + 1; j < totalProfiles; j++) { // TODO try eliminating j and found
-                if (methodsSetsList.get(j).contains(methodElement)) {
-                    concatenatedProfiles.append(COMMA_SEPARATOR).append(profilesList.get(j));
-                    found = true;
-                }
-            }
-            if (found) {
-                allProcessedCommonMethodsByConcatenatedProfiles.merge(
-                        concatenatedProfiles.toString(),
-                        new HashSet<>(Set.of(methodElement)),
-                        (currentSet, newSet) -> concat(currentSet.stream(), newSet.stream()).collect(toSet())
-                );
+    // groups in a single pass all the methods shared by at least 2 profiles, using the set of profiles indexes the method belongs to as key.
+    // The groups are sorted by profiles membership, so that the intermediate parent interfaces are created and promoted in the
+    // same order from one build to another
+    private Map<BitSet, Set<Element>> groupCommonMethodsByProfilesMembership(List<String> profilesList,
+                                                                            Map<String, Set<Element>> annotatedMethodsByProfile) {
+        var profilesMembershipByMethod = new LinkedHashMap<Element, BitSet>();
+        for (int profileIndex = 0; profileIndex < profilesList.size(); profileIndex++) {
+            for (var methodElement : annotatedMethodsByProfile.get(profilesList.get(profileIndex))) {
+                profilesMembershipByMethod.computeIfAbsent(methodElement, method -> new BitSet(profilesList.size())).set(profileIndex);
             }
         }
-        return allProcessedCommonMethodsByConcatenatedProfiles;
+        var commonMethodsByProfilesMembership = new TreeMap<BitSet, Set<Element>>(PROFILES_MEMBERSHIP_ORDER);
+        profilesMembershipByMethod.forEach((methodElement, profilesMembership) -> {
+            if (profilesMembership.cardinality() > 1) {
+                commonMethodsByProfilesMembership.computeIfAbsent(profilesMembership, membership -> new LinkedHashSet<>()).add(methodElement);
+            }
+        });
+        return commonMethodsByProfilesMembership;
     }
 
     /**
      * For a specified abstract method annotated with #64;{@link SealFor}, constructs a Set storing all the provided profiles names
      *
+     * @param annotationIndex {@link AnnotationIndex} of the current round
      * @param annotatedMethod {@link Element} instance representing the annotated method of the large interface
      * @return a Set storing all the provided profiles names
      */
-    protected Set<String> buildSealForProvidedProfilesSet(Element annotatedMethod) {
-        var providedProfilesSet = new HashSet<String>();
-        annotatedMethod.getAnnotationMirrors().stream()
-                .filter(annotationMirror -> annotationMirror.toString().contains(ORG_JISEL_SEAL_FOR))
-                .flatMap(annotationMirror -> annotationMirror.getElementValues().entrySet().stream())
-                .map(entry -> entry.getValue().toString())
-                .forEach(annotationRawValueAsString -> {
-                    // sample values for annotationRawValueAsString:
-                    // single value: "profile1name"
-                    // multiple: @org.jisel.annotations.SealFor("profile2name"), @org.jisel.annotations.SealFor("profile3name"),...
-                    var matcher = Pattern.compile(ANNOTATION_STRING_VALUE_REGEX).matcher(annotationRawValueAsString);
-                    while (matcher.find()) {
-                        var profile = matcher.group(1).strip();
-                        if (profile.isBlank()) { // blank profiles ignored
-                            continue;
-                        }
-                        providedProfilesSet.add(profile);
-                    }
-                });
-        return providedProfilesSet;
+    protected Set<String> buildSealForProvidedProfilesSet(AnnotationIndex annotationIndex, Element annotatedMethod) {
+        return annotationIndex.sealForProfiles(annotatedMethod);
     }
 
     @Override
     public Map<Element, String> handleAnnotatedElements(Set<Element> allAnnotatedElements,
-                                                        Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                        Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
-        populateSealedInterfacesMap(allAnnotatedElements, sealedInterfacesToGenerateByLargeInterface);
+                                                        AnnotationIndex annotationIndex,
+                                                        Map<Element, SegregationModel.Builder> segregationModelBuilders) {
+        allAnnotatedElements.stream()
+                .collect(groupingBy(Element::getEnclosingElement, LinkedHashMap::new, toCollection(LinkedHashSet::new)))
+                .forEach((largeInterfaceElement, annotatedMethods) -> populateSealedInterfaces(
+                        annotatedMethods,
+                        annotationIndex,
+                        segregationModelBuilders.computeIfAbsent(largeInterfaceElement, SegregationModel::builder)
+                ));
         return Map.of();
     }
 }
\ No newline at end of file
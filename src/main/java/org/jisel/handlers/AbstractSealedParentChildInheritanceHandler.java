@@ -21,106 +21,68 @@
  */
 package org.jisel.handlers;
 
+import org.jisel.generators.SegregationModel;
 import org.jisel.handlers.impl.SealForParentChildInheritanceHandler;
 
 import javax.lang.model.element.Element;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
-import static java.util.Arrays.asList;
-import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
-import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
 
 /**
- * Exposes contract to fulfill by a class building parent-children relations based on information provided in
- * the Map containing the sealed interfaces information to be generated
+ * Exposes contract to fulfill by a class building parent-children relations based on the sealed interfaces to be generated
+ * stored in the {@link SegregationModel.Builder} of a large interface
  */
 public abstract sealed class AbstractSealedParentChildInheritanceHandler implements JiselAnnotationHandler permits SealForParentChildInheritanceHandler {
 
     /**
-     * Reads information stored in the Map containing the sealed interfaces information to be generated, and populates another Map storing subtypes of the provided profiles
+     * Reads the sealed interfaces to be generated stored in the {@link SegregationModel.Builder} of a large interface, and
+     * populates the subtypes permitted by each one of them
      *
-     * @param sealedInterfacesToGenerateByLargeInterface {@link Map} containing information about the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the {@link Element} instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a Set of Element instances as the value.
-     *                                                   The Element instances represent each one of the abstract methods to be
-     *                                                   added to the generated sealed interface corresponding to a profile.
-     * @param sealedInterfacesPermitsByLargeInterface    Map containing information about the subtypes permitted by each one of the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a List of profiles names as the value.
+     * @param segregationModelBuilder {@link SegregationModel.Builder} instance of the large interface. To be populated and/or
+     *                                modified if needed
+     * @param profileSets             {@link Map} of the {@link ProfileSet} instances of the intermediate parent interfaces created
+     *                                from the methods common to several profiles, by display name
      */
-    public abstract void buildInheritanceRelations(Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                   Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface);
+    public abstract void buildInheritanceRelations(SegregationModel.Builder segregationModelBuilder, Map<String, ProfileSet> profileSets);
 
     /**
-     * Populates a Map storing subtypes of the provided profiles
+     * Populates the subtypes permitted by each one of the sealed interfaces to be generated
      *
-     * @param interfaceElement                           large interface {@link Element} instance
-     * @param sealedInterfacesToGenerateByLargeInterface {@link Map} containing information about the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the {@link Element} instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a Set of Element instances as the value.
-     *                                                   The Element instances represent each one of the abstract methods to be
-     *                                                   added to the generated sealed interface corresponding to a profile.
-     * @param sealedInterfacesPermitsByLargeInterface    Map containing information about the subtypes permitted by each one of the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a List of profiles names as the value.
+     * @param segregationModelBuilder {@link SegregationModel.Builder} instance of the large interface. To be populated and/or
+     *                                modified if needed
+     * @param profileSets             {@link Map} of the {@link ProfileSet} instances of the intermediate parent interfaces of the
+     *                                large interface, by display name
      */
-    protected void buildSealedInterfacesPermitsMap(Element interfaceElement,
-                                                   Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                   Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
-        sealedInterfacesPermitsByLargeInterface.get(interfaceElement).putAll(
-                sealedInterfacesToGenerateByLargeInterface.get(interfaceElement).keySet().stream()
-                        .filter(profiles -> profiles.contains(COMMA_SEPARATOR))
-                        .collect(toMap(profiles -> profiles, profiles -> asList(profiles.split(COMMA_SEPARATOR))))
-        );
+    protected void buildSealedInterfacesPermitsMap(SegregationModel.Builder segregationModelBuilder, Map<String, ProfileSet> profileSets) {
+        // each intermediate parent interface still to be generated permits its profiles
+        segregationModelBuilder.profiles().forEach(profile ->
+                Optional.ofNullable(profileSets.get(profile)).ifPresent(profileSet ->
+                        segregationModelBuilder.putPermits(profile, profileSet.profiles())));
         // unique parent interface is present and permits all,
         // if there are other permits already existing then the profiles in those permits lists should be removed from parent interf permits list
-        var parentInterfaceSimpleName = interfaceElement.getSimpleName().toString();
-        var allPermittedProfiles = sealedInterfacesPermitsByLargeInterface.get(interfaceElement).values().stream().flatMap(Collection::stream).collect(toSet());
-        sealedInterfacesPermitsByLargeInterface.get(interfaceElement).put(
+        var parentInterfaceSimpleName = segregationModelBuilder.largeInterfaceElement().getSimpleName().toString();
+        var allPermittedProfiles = segregationModelBuilder.permitsMap().values().stream().flatMap(Collection::stream).collect(toSet());
+        segregationModelBuilder.putPermits(
                 parentInterfaceSimpleName,
-                new ArrayList<>( // making the constructed list mutable
-                        sealedInterfacesToGenerateByLargeInterface.get(interfaceElement).keySet().stream()
-                                .filter(profile -> !parentInterfaceSimpleName.equals(profile))
-                                .filter(profile -> !allPermittedProfiles.contains(profile))
-                                .toList()
-                )
+                segregationModelBuilder.profiles().stream()
+                        .filter(profile -> !parentInterfaceSimpleName.equals(profile))
+                        .filter(profile -> !allPermittedProfiles.contains(profile))
+                        .toList()
         );
-        // if a profile from the List<String> is a key within the same map, then remove it from the list
-        eliminateCyclicRelationships(sealedInterfacesPermitsByLargeInterface.get(interfaceElement));
-    }
-
-    private void eliminateCyclicRelationships(Map<String, List<String>> sealedInterfacesPermits) {
-        var childProfilesListToRemoveByParentProfile = new HashMap<String, List<String>>();
-        sealedInterfacesPermits.forEach((parentProfile, childProfilesList) -> {
-            var childProfilesListToRemove = new ArrayList<String>();
-            for (var childProfile : childProfilesList) {
-                if (sealedInterfacesPermits.containsKey(childProfile)) {
-                    childProfilesListToRemove.addAll(childProfilesList);
-                    childProfilesListToRemove.retainAll(sealedInterfacesPermits.get(childProfile));
-                    break;
-                }
-            }
-            childProfilesListToRemoveByParentProfile.put(parentProfile, childProfilesListToRemove);
-        });
-        sealedInterfacesPermits.keySet().forEach(parentProfile ->
-                sealedInterfacesPermits.get(parentProfile).removeAll(childProfilesListToRemoveByParentProfile.get(parentProfile)));
+        // if a profile from the List<String> can also be reached through another profile of the same list, then remove it from the list
+        segregationModelBuilder.reducePermitsTransitively();
     }
 
     @Override
     public Map<Element, String> handleAnnotatedElements(Set<Element> allAnnotatedElements,
-                                                        Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                        Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
-        buildInheritanceRelations(sealedInterfacesToGenerateByLargeInterface, sealedInterfacesPermitsByLargeInterface);
+                                                        AnnotationIndex annotationIndex,
+                                                        Map<Element, SegregationModel.Builder> segregationModelBuilders) {
+        // the intermediate parent interfaces are only known while handling the @SealFor annotated methods (see SealForHandler)
+        segregationModelBuilders.values().forEach(segregationModelBuilder -> buildInheritanceRelations(segregationModelBuilder, Map.of()));
         return Map.of();
     }
 }
\ No newline at end of file
@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.handlers;
+
+import org.jisel.annotations.AddTo;
+import org.jisel.annotations.Detach;
+import org.jisel.annotations.SealFor;
+import org.jisel.annotations.UnSeal;
+import org.jisel.generators.DetachSpec;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.AnnotationValueVisitor;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.SimpleAnnotationValueVisitor14;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.jisel.generators.StringGenerator.DETACH_APPLYANNOTATIONS;
+import static org.jisel.generators.StringGenerator.DETACH_FIRST_SUPERINTERFACE_GENERICS;
+import static org.jisel.generators.StringGenerator.DETACH_PROFILE;
+import static org.jisel.generators.StringGenerator.DETACH_RENAME;
+import static org.jisel.generators.StringGenerator.DETACH_SECOND_SUPERINTERFACE_GENERICS;
+import static org.jisel.generators.StringGenerator.DETACH_SUPERINTERFACES;
+import static org.jisel.generators.StringGenerator.DETACH_THIRD_SUPERINTERFACE_GENERICS;
+import static org.jisel.generators.StringGenerator.EMPTY_STRING;
+import static org.jisel.generators.StringGenerator.LARGE_INTERFACE;
+import static org.jisel.generators.StringGenerator.PROFILES;
+import static org.jisel.generators.StringGenerator.VALUE;
+
+/**
+ * Reads the attributes values of the Jisel annotations straight from their {@link AnnotationMirror#getElementValues()}, and
+ * returns them as typed values. Used by the {@link AnnotationIndex} while indexing the annotated elements of a round.<br>
+ * The annotations contained in a repeatable container annotation are returned in the order they were declared.
+ */
+public interface AnnotationAttributesReader {
+
+    /**
+     * Attributes values provided through an &#64;{@link AddTo} annotation
+     *
+     * @param profiles       stripped and non-blank profiles names. Empty if none was provided
+     * @param largeInterface {@link TypeElement} instance of the provided large interface, null if it could not be read
+     */
+    record AddToAttributes(Set<String> profiles, TypeElement largeInterface) {
+    }
+
+    /**
+     * Flattens an {@link AnnotationValue} into the provided list: arrays are visited element by element, while strings,
+     * booleans, types and annotations are added as is
+     */
+    AnnotationValueVisitor<Void, List<Object>> ANNOTATION_VALUES_COLLECTOR = new SimpleAnnotationValueVisitor14<>() {
+
+        @Override
+        public Void visitBoolean(boolean value, List<Object> values) {
+            values.add(value);
+            return null;
+        }
+
+        @Override
+        public Void visitString(String value, List<Object> values) {
+            values.add(value);
+            return null;
+        }
+
+        @Override
+        public Void visitType(TypeMirror value, List<Object> values) {
+            values.add(value);
+            return null;
+        }
+
+        @Override
+        public Void visitAnnotation(AnnotationMirror value, List<Object> values) {
+            values.add(value);
+            return null;
+        }
+
+        @Override
+        public Void visitArray(List<? extends AnnotationValue> value, List<Object> values) {
+            value.forEach(annotationValue -> annotationValue.accept(this, values));
+            return null;
+        }
+    };
+
+    /**
+     * Reads the profiles provided through a single &#64;{@link SealFor} annotation
+     *
+     * @param sealForMirror {@link AnnotationMirror} instance of the &#64;SealFor annotation
+     * @return List of stripped and non-blank profiles names, in the order they were provided
+     */
+    static List<String> readSealForProfiles(AnnotationMirror sealForMirror) {
+        return readStrings(sealForMirror, VALUE).stream()
+                .map(String::strip)
+                .filter(profile -> !profile.isBlank()) // blank profiles ignored
+                .toList();
+    }
+
+    /**
+     * Reads the attributes of a single &#64;{@link AddTo} annotation
+     *
+     * @param addToMirror {@link AnnotationMirror} instance of the &#64;AddTo annotation
+     * @return the {@link AddToAttributes} of the annotation
+     */
+    static AddToAttributes readAddToAttributes(AnnotationMirror addToMirror) {
+        return new AddToAttributes(
+                readStrings(addToMirror, PROFILES).stream()
+                        .map(String::strip)
+                        .filter(profile -> !profile.isBlank())
+                        .collect(LinkedHashSet::new, Set::add, Set::addAll),
+                readValues(addToMirror, LARGE_INTERFACE, DeclaredType.class).stream()
+                        .findFirst()
+                        .map(declaredType -> (TypeElement) declaredType.asElement())
+                        .orElse(null)
+        );
+    }
+
+    /**
+     * Reads the attributes of a single &#64;{@link Detach} annotation
+     *
+     * @param detachMirror {@link AnnotationMirror} instance of the &#64;Detach annotation
+     * @return the {@link DetachSpec} of the annotation
+     */
+    static DetachSpec readDetachAttributes(AnnotationMirror detachMirror) {
+        return new DetachSpec(
+                readString(detachMirror, DETACH_PROFILE).strip(),
+                readString(detachMirror, DETACH_RENAME).strip(),
+                readQualifiedNames(detachMirror, DETACH_SUPERINTERFACES),
+                readQualifiedNames(detachMirror, DETACH_FIRST_SUPERINTERFACE_GENERICS),
+                readQualifiedNames(detachMirror, DETACH_SECOND_SUPERINTERFACE_GENERICS),
+                readQualifiedNames(detachMirror, DETACH_THIRD_SUPERINTERFACE_GENERICS),
+                readString(detachMirror, DETACH_APPLYANNOTATIONS)
+        );
+    }
+
+    /**
+     * Reads the value provided through an &#64;{@link UnSeal} annotation
+     *
+     * @param unSealMirror {@link AnnotationMirror} instance of the &#64;UnSeal annotation
+     * @return the provided value, true if not provided
+     */
+    static boolean readUnSealValue(AnnotationMirror unSealMirror) {
+        return readValues(unSealMirror, VALUE, Boolean.class).stream().findFirst().orElse(true);
+    }
+
+    /**
+     * Reads the annotations contained in the value of a repeatable container annotation
+     *
+     * @param containerMirror {@link AnnotationMirror} instance of the container annotation
+     * @return List of the contained {@link AnnotationMirror} instances, in declaration order
+     */
+    static List<AnnotationMirror> readContainedAnnotations(AnnotationMirror containerMirror) {
+        return readValues(containerMirror, VALUE, AnnotationMirror.class);
+    }
+
+    /**
+     * Reads the values of an annotation attribute, only keeping the ones of the provided type.<br>
+     * Attributes not explicitly provided are read as empty, as default values are not returned by {@link AnnotationMirror#getElementValues()}
+     *
+     * @param annotationMirror {@link AnnotationMirror} instance to read
+     * @param attributeName    name of the attribute
+     * @param valueType        expected type of the values
+     * @param <T>              expected type of the values
+     * @return List of the attribute values. Arrays are flattened
+     */
+    static <T> List<T> readValues(AnnotationMirror annotationMirror, String attributeName, Class<T> valueType) {
+        var values = new ArrayList<Object>();
+        annotationMirror.getElementValues().forEach((executableElement, annotationValue) -> {
+            if (executableElement.getSimpleName().contentEquals(attributeName)) {
+                annotationValue.accept(ANNOTATION_VALUES_COLLECTOR, values);
+            }
+        });
+        return values.stream().filter(valueType::isInstance).map(valueType::cast).toList();
+    }
+
+    private static List<String> readStrings(AnnotationMirror annotationMirror, String attributeName) {
+        return readValues(annotationMirror, attributeName, String.class);
+    }
+
+    private static String readString(AnnotationMirror annotationMirror, String attributeName) {
+        return readStrings(annotationMirror, attributeName).stream().findFirst().orElse(EMPTY_STRING);
+    }
+
+    private static List<String> readQualifiedNames(AnnotationMirror annotationMirror, String attributeName) {
+        return readValues(annotationMirror, attributeName, TypeMirror.class).stream()
+                .map(typeMirror -> typeMirror instanceof DeclaredType declaredType
+                        ? ((TypeElement) declaredType.asElement()).getQualifiedName().toString()
+                        : typeMirror.toString())
+                .toList();
+    }
+}
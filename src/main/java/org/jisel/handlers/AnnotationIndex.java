@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.handlers;
+
+import org.jisel.generators.DetachSpec;
+import org.jisel.handlers.AnnotationAttributesReader.AddToAttributes;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableSet;
+import static org.jisel.generators.StringGenerator.ORG_JISEL_ADD_TO;
+import static org.jisel.generators.StringGenerator.ORG_JISEL_ADD_TOS;
+import static org.jisel.generators.StringGenerator.ORG_JISEL_DETACH;
+import static org.jisel.generators.StringGenerator.ORG_JISEL_DETACHALL;
+import static org.jisel.generators.StringGenerator.ORG_JISEL_DETACHS;
+import static org.jisel.generators.StringGenerator.ORG_JISEL_SEAL_FOR;
+import static org.jisel.generators.StringGenerator.ORG_JISEL_SEAL_FORS;
+import static org.jisel.generators.StringGenerator.ORG_JISEL_TOP_LEVEL;
+import static org.jisel.generators.StringGenerator.ORG_JISEL_UNSEAL;
+import static org.jisel.handlers.AnnotationAttributesReader.readAddToAttributes;
+import static org.jisel.handlers.AnnotationAttributesReader.readContainedAnnotations;
+import static org.jisel.handlers.AnnotationAttributesReader.readDetachAttributes;
+import static org.jisel.handlers.AnnotationAttributesReader.readSealForProfiles;
+import static org.jisel.handlers.AnnotationAttributesReader.readUnSealValue;
+
+/**
+ * Index of the elements annotated with the Jisel annotations during a single processing round, along with the parsed
+ * attributes of their Jisel annotations.<br>
+ * The annotation types are matched by {@link TypeElement} identity, and the {@link AnnotationMirror} instances of each annotated
+ * element are read only once, while building the index. The handlers then read the attributes values from the index instead
+ * of scanning the annotated elements again.<br>
+ * Not thread-safe, meant to be built and used on the javac thread
+ */
+public final class AnnotationIndex {
+
+    private final Set<Element> topLevelElements = new LinkedHashSet<>();
+    private final Set<Element> sealForElements = new LinkedHashSet<>();
+    private final Set<Element> addToElements = new LinkedHashSet<>();
+    private final Set<Element> unSealElements = new LinkedHashSet<>();
+    private final Set<Element> detachElements = new LinkedHashSet<>();
+
+    private final Map<Element, Set<String>> sealForProfilesByElement = new HashMap<>();
+    private final Map<Element, List<AddToAttributes>> addToAttributesByElement = new HashMap<>();
+    private final Map<Element, Boolean> unSealValueByElement = new HashMap<>();
+    private final Map<Element, List<DetachSpec>> detachSpecsByElement = new HashMap<>();
+    private final Set<Element> detachAllElements = new HashSet<>();
+
+    private AnnotationIndex() {
+    }
+
+    /**
+     * Builds the index of the elements annotated with the provided Jisel annotations
+     *
+     * @param annotations  the annotation interfaces requested to be processed
+     * @param roundEnv     environment for information about the current and prior round
+     * @param elementUtils {@link Elements} instance used to resolve the {@link TypeElement} instances of the Jisel annotations
+     * @return the {@link AnnotationIndex} of the current round
+     */
+    public static AnnotationIndex of(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv, Elements elementUtils) {
+        var annotationQualifiedNamesByType = new IdentityHashMap<Element, String>();
+        for (var annotationQualifiedName : List.of(ORG_JISEL_TOP_LEVEL, ORG_JISEL_SEAL_FOR, ORG_JISEL_SEAL_FORS, ORG_JISEL_ADD_TO,
+                ORG_JISEL_ADD_TOS, ORG_JISEL_UNSEAL, ORG_JISEL_DETACH, ORG_JISEL_DETACHALL, ORG_JISEL_DETACHS)) {
+            var annotationType = elementUtils.getTypeElement(annotationQualifiedName);
+            if (annotationType != null) {
+                annotationQualifiedNamesByType.put(annotationType, annotationQualifiedName);
+            }
+        }
+        var annotationIndex = new AnnotationIndex();
+        var annotatedElements = new LinkedHashSet<Element>();
+        for (var annotation : annotations) {
+            var annotationQualifiedName = annotationQualifiedNamesByType.get(annotation);
+            if (annotationQualifiedName == null) {
+                continue;
+            }
+            var elements = annotationIndex.elementsSetOf(annotationQualifiedName);
+            for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                elements.add(element);
+                annotatedElements.add(element);
+            }
+        }
+        annotatedElements.forEach(element -> annotationIndex.indexAnnotations(element, annotationQualifiedNamesByType));
+        return annotationIndex;
+    }
+
+    // @SealFor, @AddTo and @Detach elements are respectively grouped with their repeatable containers, and @DetachAll with @Detach
+    private Set<Element> elementsSetOf(String annotationQualifiedName) {
+        return switch (annotationQualifiedName) {
+            case ORG_JISEL_TOP_LEVEL -> topLevelElements;
+            case ORG_JISEL_SEAL_FOR, ORG_JISEL_SEAL_FORS -> sealForElements;
+            case ORG_JISEL_ADD_TO, ORG_JISEL_ADD_TOS -> addToElements;
+            case ORG_JISEL_UNSEAL -> unSealElements;
+            default -> detachElements;
+        };
+    }
+
+    // single pass over the annotations of the element, repeated annotations read from their container in declaration order
+    private void indexAnnotations(Element element, Map<Element, String> annotationQualifiedNamesByType) {
+        for (var annotationMirror : element.getAnnotationMirrors()) {
+            var annotationQualifiedName = annotationQualifiedNamesByType.get(annotationMirror.getAnnotationType().asElement());
+            if (annotationQualifiedName == null) {
+                continue;
+            }
+            switch (annotationQualifiedName) {
+                case ORG_JISEL_SEAL_FOR -> indexSealFor(element, annotationMirror);
+                case ORG_JISEL_SEAL_FORS -> readContainedAnnotations(annotationMirror).forEach(sealForMirror -> indexSealFor(element, sealForMirror));
+                case ORG_JISEL_ADD_TO -> indexAddTo(element, annotationMirror);
+                case ORG_JISEL_ADD_TOS -> readContainedAnnotations(annotationMirror).forEach(addToMirror -> indexAddTo(element, addToMirror));
+                case ORG_JISEL_UNSEAL -> unSealValueByElement.putIfAbsent(element, readUnSealValue(annotationMirror));
+                case ORG_JISEL_DETACH -> indexDetach(element, annotationMirror);
+                case ORG_JISEL_DETACHS -> readContainedAnnotations(annotationMirror).forEach(detachMirror -> indexDetach(element, detachMirror));
+                case ORG_JISEL_DETACHALL -> detachAllElements.add(element);
+                default -> {
+                    // @TopLevel has no attributes
+                }
+            }
+        }
+    }
+
+    private void indexSealFor(Element element, AnnotationMirror sealForMirror) {
+        sealForProfilesByElement.computeIfAbsent(element, key -> new LinkedHashSet<>()).addAll(readSealForProfiles(sealForMirror));
+    }
+
+    private void indexAddTo(Element element, AnnotationMirror addToMirror) {
+        addToAttributesByElement.computeIfAbsent(element, key -> new ArrayList<>()).add(readAddToAttributes(addToMirror));
+    }
+
+    private void indexDetach(Element element, AnnotationMirror detachMirror) {
+        detachSpecsByElement.computeIfAbsent(element, key -> new ArrayList<>()).add(readDetachAttributes(detachMirror));
+    }
+
+    /**
+     * Returns the elements annotated with &#64;{@link org.jisel.annotations.TopLevel}
+     *
+     * @return unmodifiable {@link Set} of the annotated {@link Element} instances
+     */
+    public Set<Element> topLevelElements() {
+        return unmodifiableSet(topLevelElements);
+    }
+
+    /**
+     * Returns the elements annotated with one or multiple &#64;{@link org.jisel.annotations.SealFor}
+     *
+     * @return unmodifiable {@link Set} of the annotated {@link Element} instances
+     */
+    public Set<Element> sealForElements() {
+        return unmodifiableSet(sealForElements);
+    }
+
+    /**
+     * Returns the elements annotated with one or multiple &#64;{@link org.jisel.annotations.AddTo}
+     *
+     * @return unmodifiable {@link Set} of the annotated {@link Element} instances
+     */
+    public Set<Element> addToElements() {
+        return unmodifiableSet(addToElements);
+    }
+
+    /**
+     * Returns the elements annotated with &#64;{@link org.jisel.annotations.UnSeal}
+     *
+     * @return unmodifiable {@link Set} of the annotated {@link Element} instances
+     */
+    public Set<Element> unSealElements() {
+        return unmodifiableSet(unSealElements);
+    }
+
+    /**
+     * Returns the elements annotated with one or multiple &#64;{@link org.jisel.annotations.Detach}, or with
+     * &#64;{@link org.jisel.annotations.DetachAll}
+     *
+     * @return unmodifiable {@link Set} of the annotated {@link Element} instances
+     */
+    public Set<Element> detachElements() {
+        return unmodifiableSet(detachElements);
+    }
+
+    /**
+     * Returns all the profiles provided through the &#64;{@link org.jisel.annotations.SealFor} annotations of an abstract method
+     *
+     * @param annotatedMethod {@link Element} instance representing the annotated method of the large interface
+     * @return Set of stripped and non-blank profiles names, in the order they were provided. Empty if none was provided
+     */
+    public Set<String> sealForProfiles(Element annotatedMethod) {
+        return sealForProfilesByElement.getOrDefault(annotatedMethod, Set.of());
+    }
+
+    /**
+     * Returns the attributes of all the &#64;{@link org.jisel.annotations.AddTo} annotations of a class, interface or record
+     *
+     * @param annotatedClassOrInterface {@link Element} instance representing the annotated class, interface or record
+     * @return List of {@link AddToAttributes}, one per &#64;AddTo annotation
+     */
+    public List<AddToAttributes> addToAttributes(Element annotatedClassOrInterface) {
+        return addToAttributesByElement.getOrDefault(annotatedClassOrInterface, List.of());
+    }
+
+    /**
+     * Returns the value provided through the &#64;{@link org.jisel.annotations.UnSeal} annotation of a large interface
+     *
+     * @param largeInterfaceElement {@link Element} instance of the large interface
+     * @return the provided value, true if not provided or if the large interface is not annotated with &#64;UnSeal
+     */
+    public boolean unSealValue(Element largeInterfaceElement) {
+        return unSealValueByElement.getOrDefault(largeInterfaceElement, true);
+    }
+
+    /**
+     * Returns the attributes of all the &#64;{@link org.jisel.annotations.Detach} annotations of a large interface
+     *
+     * @param largeInterfaceElement {@link Element} instance of the large interface
+     * @return List of {@link DetachSpec}, one per &#64;Detach annotation
+     */
+    public List<DetachSpec> detachSpecs(Element largeInterfaceElement) {
+        return detachSpecsByElement.getOrDefault(largeInterfaceElement, List.of());
+    }
+
+    /**
+     * Checks whether a large interface is annotated with &#64;{@link org.jisel.annotations.DetachAll}
+     *
+     * @param largeInterfaceElement {@link Element} instance of the large interface
+     * @return true if the large interface is annotated with &#64;DetachAll
+     */
+    public boolean isDetachAll(Element largeInterfaceElement) {
+        return detachAllElements.contains(largeInterfaceElement);
+    }
+}
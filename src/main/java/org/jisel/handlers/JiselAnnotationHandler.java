@@ -21,11 +21,11 @@
  */
 package org.jisel.handlers;
 
+import org.jisel.generators.SegregationModel;
 import org.jisel.handlers.impl.TopLevelHandler;
 import org.jisel.handlers.impl.UnSealHandler;
 
 import javax.lang.model.element.Element;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -37,22 +37,17 @@ public sealed interface JiselAnnotationHandler
         AbstractSealedAnnotationInfoCollectionHandler, AbstractSealedParentChildInheritanceHandler {
 
     /**
-     * Reads values of all attributes provided through the use of Jisel annotations and populates the provided Map arguments
+     * Reads values of all attributes provided through the use of Jisel annotations and fills the provided builders
      *
-     * @param allAnnotatedElements                       {@link Set} of {@link Element} instances representing all classes annotated with Jisel annotations
-     * @param sealedInterfacesToGenerateByLargeInterface {@link Map} containing information about the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a Set of Element instances as the value.
-     *                                                   The Element instances represent each one of the abstract methods to be
-     *                                                   added to the generated sealed interface corresponding to a profile.
-     * @param sealedInterfacesPermitsByLargeInterface    Map containing information about the subtypes permitted by each one of the sealed interfaces to be generated.
-     *                                                   To be populated and/or modified if needed. The key represents the Element instance of
-     *                                                   each one of the large interfaces to be segregated, while the associated value is
-     *                                                   a Map of profile name as the key and a List of profiles names as the value.
+     * @param allAnnotatedElements     {@link Set} of {@link Element} instances representing all classes annotated with Jisel annotations
+     * @param annotationIndex          {@link AnnotationIndex} of the current round, providing the attributes values of the Jisel
+     *                                 annotations of the annotated elements
+     * @param segregationModelBuilders {@link Map} of the {@link SegregationModel.Builder} instances collecting the segregation
+     *                                 information of each one of the large interfaces to be segregated, by large interface
+     *                                 {@link Element} instance. To be populated and/or modified if needed
      * @return a status report as a string value for each one of the large interfaces to be segregated
      */
     Map<Element, String> handleAnnotatedElements(Set<Element> allAnnotatedElements,
-                                                 Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                 Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface);
+                                                 AnnotationIndex annotationIndex,
+                                                 Map<Element, SegregationModel.Builder> segregationModelBuilders);
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.handlers;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the profiles provided for a large interface, interning the {@link ProfileSet} instances representing combinations
+ * of those profiles.<br>
+ * Each profile is identified by its position in the profiles list provided at creation, so a combination of profiles is
+ * represented by a {@link BitSet} of those positions. Requesting the same combination twice returns the same {@link ProfileSet}
+ * instance.<br>
+ * Not thread-safe, meant to be used while handling the annotated elements of a single large interface
+ */
+public final class ProfileIndex {
+
+    private final List<String> profilesList;
+
+    private final Map<BitSet, ProfileSet> profileSetsByMembers;
+
+    /**
+     * ProfileIndex constructor
+     *
+     * @param profilesList {@link List} of the profiles names of the large interface. The position of each profile in the list
+     *                     is its index, also used to order the profiles names within the {@link ProfileSet} display names
+     */
+    public ProfileIndex(List<String> profilesList) {
+        this.profilesList = List.copyOf(profilesList);
+        this.profileSetsByMembers = new HashMap<>();
+    }
+
+    /**
+     * Returns the interned {@link ProfileSet} instance of the provided combination of profiles
+     *
+     * @param members {@link BitSet} of the indexes of the profiles belonging to the combination. Not modified, and can be
+     *                modified afterwards by the caller
+     * @return the {@link ProfileSet} instance of the provided combination of profiles, created on the first request
+     */
+    public ProfileSet profileSet(BitSet members) {
+        var profileSet = profileSetsByMembers.get(members);
+        if (profileSet == null) {
+            profileSet = new ProfileSet(this, (BitSet) members.clone());
+            profileSetsByMembers.put(profileSet.members(), profileSet);
+        }
+        return profileSet;
+    }
+
+    /**
+     * Returns the name of the profile at the provided index
+     *
+     * @param index index of the profile
+     * @return the name of the profile at the provided index
+     */
+    public String profile(int index) {
+        return profilesList.get(index);
+    }
+}
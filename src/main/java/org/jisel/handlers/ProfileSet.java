@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2022 Mohamed Ashraf Bayor
+ * <p>
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * <p>
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * <p>
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.jisel.handlers;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
+
+/**
+ * Immutable combination of profiles of a large interface, backed by a {@link BitSet} of the profiles indexes within the
+ * {@link ProfileIndex} of the large interface. Instances are interned by their {@link ProfileIndex}.<br>
+ * Used to represent the intermediate parent interfaces created from the methods common to several profiles, whose names
+ * are the comma separated names of their profiles ("A,B,C"). The hashCode, the display name and the profiles names list are
+ * computed once at creation, so the profiles of an intermediate parent interface never need to be read back from its name
+ */
+public final class ProfileSet {
+
+    private final ProfileIndex profileIndex;
+
+    private final BitSet members;
+
+    private final int hashCode;
+
+    private final String name;
+
+    private final List<String> profiles;
+
+    ProfileSet(ProfileIndex profileIndex, BitSet members) {
+        this.profileIndex = profileIndex;
+        this.members = members;
+        this.hashCode = members.hashCode();
+        var profilesList = new ArrayList<String>(members.cardinality());
+        members.stream().mapToObj(profileIndex::profile).forEach(profilesList::add);
+        this.profiles = Collections.unmodifiableList(profilesList);
+        // profiles names follow the profiles indexes order
+        this.name = String.join(COMMA_SEPARATOR, profilesList);
+    }
+
+    // never modified, only exposed to the interning ProfileIndex
+    BitSet members() {
+        return members;
+    }
+
+    /**
+     * Returns the display name of the profiles combination: the names of its profiles, comma separated
+     *
+     * @return the display name of the profiles combination
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the names of the profiles of the combination, in the order of their indexes
+     *
+     * @return unmodifiable {@link List} of the names of the profiles of the combination
+     */
+    public List<String> profiles() {
+        return profiles;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || other instanceof ProfileSet otherProfileSet
+                && profileIndex == otherProfileSet.profileIndex
+                && members.equals(otherProfileSet.members);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
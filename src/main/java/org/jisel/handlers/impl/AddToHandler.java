@@ -22,22 +22,22 @@
 package org.jisel.handlers.impl;
 
 import org.jisel.annotations.AddTo;
+import org.jisel.generators.SegregationModel;
 import org.jisel.handlers.AbstractSealedAddToHandler;
+import org.jisel.handlers.AnnotationIndex;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 
-import static java.util.Arrays.asList;
-import static java.util.stream.Collectors.toSet;
-import static java.util.stream.Stream.concat;
+import static java.util.stream.Collectors.toCollection;
 import static org.jisel.generators.StringGenerator.ADD_TO_REPORT_PROFILES_NOT_FOUND_MSG;
 import static org.jisel.generators.StringGenerator.sealedInterfaceNameConvention;
 
@@ -57,28 +57,28 @@ public final class AddToHandler extends AbstractSealedAddToHandler {
 
     @Override
     public Map<Element, String> handleAnnotatedElements(Set<Element> allAnnotatedElements,
-                                                        Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                        Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
+                                                        AnnotationIndex annotationIndex,
+                                                        Map<Element, SegregationModel.Builder> segregationModelBuilders) {
         var statusReport = new HashMap<Element, String>();
         var annotatedClassesAndInterfaces = allAnnotatedElements.stream()
                 .filter(element -> !element.getClass().isEnum())
                 .filter(element -> ElementKind.CLASS.equals(element.getKind())
                         || ElementKind.INTERFACE.equals(element.getKind())
                         || ElementKind.RECORD.equals(element.getKind()))
-                .collect(toSet());
+                .collect(toCollection(LinkedHashSet::new));
         annotatedClassesAndInterfaces.forEach(annotatedClassOrInterface ->
                 statusReport.put(
                         annotatedClassOrInterface,
-                        processAnnotatedElement(annotatedClassOrInterface, sealedInterfacesToGenerateByLargeInterface, sealedInterfacesPermitsByLargeInterface)
+                        processAnnotatedElement(annotatedClassOrInterface, annotationIndex, segregationModelBuilders)
                 ));
         return statusReport;
     }
 
     private String processAnnotatedElement(Element annotatedClassOrInterface,
-                                           Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                           Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
+                                           AnnotationIndex annotationIndex,
+                                           Map<Element, SegregationModel.Builder> segregationModelBuilders) {
         var statusReport = new StringBuilder();
-        var addToProfileProvidedProfilesMap = buildAddToProvidedProfilesMap(annotatedClassOrInterface);
+        var addToProfileProvidedProfilesMap = buildAddToProvidedProfilesMap(annotationIndex, annotatedClassOrInterface);
         if (addToProfileProvidedProfilesMap.isEmpty()) {
             // do not process if no profiles and no largeInterfaces are provided
             return statusReport.toString();
@@ -94,13 +94,11 @@ public final class AddToHandler extends AbstractSealedAddToHandler {
                 var providedLargeInterfaceElement = processingEnvironment.getTypeUtils().asElement(
                         processingEnvironment.getElementUtils().getTypeElement(providedLargeInterfaceQualifiedName).asType()
                 );
-                var annotatedMethodsByProfile = sealedInterfacesToGenerateByLargeInterface.get(providedLargeInterfaceElement);
-                profileFound = Optional.ofNullable(annotatedMethodsByProfile).isPresent() && updateSealedInterfacesPermitsMapWithProvidedProfiles(
-                        annotatedMethodsByProfile.keySet(),
-                        providedLargeInterfaceElement,
+                var segregationModelBuilder = segregationModelBuilders.get(providedLargeInterfaceElement);
+                profileFound = Optional.ofNullable(segregationModelBuilder).isPresent() && addChildToProvidedProfiles(
+                        segregationModelBuilder,
                         annotatedClassOrInterface,
-                        providedProfilesForProvidedLargeInterface,
-                        sealedInterfacesPermitsByLargeInterface
+                        providedProfilesForProvidedLargeInterface
                 );
             } else {
                 providedLargeInterfaceTypeNotFound = true;
@@ -112,32 +110,28 @@ public final class AddToHandler extends AbstractSealedAddToHandler {
         return statusReport.toString();
     }
 
-    private boolean updateSealedInterfacesPermitsMapWithProvidedProfiles(Set<String> largeInterfaceProfilesSet,
-                                                                         Element providedLargeInterfaceElement,
-                                                                         Element annotatedClassOrInterface,
-                                                                         Set<String> providedProfilesForProvidedLargeInterface,
-                                                                         Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
-        Consumer<String> updateSealedInterfacesPermitsMapConsumer = profile ->
-                sealedInterfacesPermitsByLargeInterface.get(providedLargeInterfaceElement).merge(
-                        profile,
-                        asList(annotatedClassOrInterface.toString()),
-                        (currentList, newList) -> concat(currentList.stream(), newList.stream()).toList()
-                );
+    private boolean addChildToProvidedProfiles(SegregationModel.Builder segregationModelBuilder,
+                                               Element annotatedClassOrInterface,
+                                               Set<String> providedProfilesForProvidedLargeInterface) {
+        var providedLargeInterfaceElement = segregationModelBuilder.largeInterfaceElement();
+        // the permits lists are mutable, so each child is appended in amortized constant time
+        Consumer<String> addChildToProfileConsumer = profile ->
+                segregationModelBuilder.addPermittedSubtype(profile, annotatedClassOrInterface.toString());
         var notFoundProfiles = new HashSet<String>();
         for (var providedProfile : providedProfilesForProvidedLargeInterface) {
             if (providedProfile.isBlank()) {
                 // for provided empty profiles, add to the largeInterface sealed profile permits list
-                updateSealedInterfacesPermitsMapConsumer.accept(providedLargeInterfaceElement.getSimpleName().toString());
+                addChildToProfileConsumer.accept(providedLargeInterfaceElement.getSimpleName().toString());
                 continue;
             }
             var foundProvidedProfile = false;
-            for (var profile : largeInterfaceProfilesSet) {
+            for (var profile : segregationModelBuilder.profiles()) {
                 if (profile.equals(providedLargeInterfaceElement.getSimpleName().toString())) {
                     continue;
                 }
                 if (sealedInterfaceNameConvention(providedProfile, providedLargeInterfaceElement)
                         .equals(sealedInterfaceNameConvention(profile, providedLargeInterfaceElement))) {
-                    updateSealedInterfacesPermitsMapConsumer.accept(providedProfile);
+                    addChildToProfileConsumer.accept(providedProfile);
                     foundProvidedProfile = true;
                 }
             }
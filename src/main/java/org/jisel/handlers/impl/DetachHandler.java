@@ -22,22 +22,17 @@
 package org.jisel.handlers.impl;
 
 import org.jisel.annotations.Detach;
+import org.jisel.generators.SegregationModel;
 import org.jisel.handlers.AbstractSealedDetachHandler;
+import org.jisel.handlers.AnnotationIndex;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import static org.jisel.generators.StringGenerator.AT_SIGN;
-import static org.jisel.generators.StringGenerator.DETACH_METHODS;
-import static org.jisel.generators.StringGenerator.JISEL_KEYWORD_ALL;
-import static org.jisel.generators.StringGenerator.ORG_JISEL_DETACHS;
-import static org.jisel.generators.contentgen.SourceContentGenerator.findAllAbstractMethodsForProfile;
-
 /**
  * Handles all elements annotated with &#64;{@link Detach}
  */
@@ -53,10 +48,9 @@ public final class DetachHandler extends AbstractSealedDetachHandler {
     }
 
     @Override
-    public Map<Element, String> handleDetachAnnotatedElements(Set<Element> allAnnotatedElements,
-                                                              Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                              Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface,
-                                                              Map<Element, Map<String, Map<String, Object>>> detachedInterfacesToGenerateByLargeInterface) {
+    public Map<Element, String> handleAnnotatedElements(Set<Element> allAnnotatedElements,
+                                                        AnnotationIndex annotationIndex,
+                                                        Map<Element, SegregationModel.Builder> segregationModelBuilders) {
         var statusReport = new HashMap<Element, String>();
         allAnnotatedElements.stream()
                 .filter(element -> ElementKind.INTERFACE.equals(element.getKind()))
@@ -64,59 +58,14 @@ public final class DetachHandler extends AbstractSealedDetachHandler {
                     // handle @DetachAll annotation
                     statusReport.put(
                             largeInterfaceElement,
-                            handleDetachAllAnnotation(
-                                    detachedInterfacesToGenerateByLargeInterface,
-                                    largeInterfaceElement,
-                                    sealedInterfacesToGenerateByLargeInterface
-                            )
+                            handleDetachAllAnnotation(annotationIndex, largeInterfaceElement, segregationModelBuilders)
                     );
-                    // handle @Detach.Detachs and @Detach annotations
-                    var detachsAnnotationMirrorOpt = largeInterfaceElement.getAnnotationMirrors().stream()
-                            .filter(annotationMirror -> annotationMirror.toString().contains(ORG_JISEL_DETACHS))
-                            .findFirst();
-                    // detachsAnnotationMirrorOpt sample value:
-                    // Optional[@org.jisel.annotations.Detach.Detachs({@org.jisel.annotations.Detach(profile="(toplevel)" ...), @org.jisel.annotations.Detach(profile="PRo1") ...})]
-                    detachsAnnotationMirrorOpt.ifPresentOrElse(
-                            // consumer triggered when @Detachs present (multiple @Detach)
-                            detachsAnnotationMirror -> statusReport.merge(
-                                    largeInterfaceElement,
-                                    handleMultipleDetachAnnotations(
-                                            detachedInterfacesToGenerateByLargeInterface,
-                                            largeInterfaceElement,
-                                            detachsAnnotationMirror,
-                                            sealedInterfacesToGenerateByLargeInterface
-                                    ),
-                                    String::concat
-                            ),
-                            // runnable triggered when a single @Detach was used
-                            () -> statusReport.merge(
-                                    largeInterfaceElement,
-                                    handleSingleDetachAnnotation(
-                                            detachedInterfacesToGenerateByLargeInterface,
-                                            largeInterfaceElement,
-                                            sealedInterfacesToGenerateByLargeInterface
-                                    ),
-                                    String::concat
-                            )
+                    // handle @Detach annotations, repeated or not
+                    statusReport.merge(
+                            largeInterfaceElement,
+                            handleDetachAnnotations(annotationIndex, largeInterfaceElement, segregationModelBuilders),
+                            String::concat
                     );
-                    if (detachedInterfacesToGenerateByLargeInterface.containsKey(largeInterfaceElement)) {
-                        // for each detached interface, get the corresponding abstract methods (including the parent profiles methods)
-                        detachedInterfacesToGenerateByLargeInterface.get(largeInterfaceElement).keySet().stream()
-                                .filter(detachedProfileUniqueKey -> !detachedProfileUniqueKey.startsWith(JISEL_KEYWORD_ALL))
-                                .forEach(detachedProfileUniqueKey ->
-                                        detachedInterfacesToGenerateByLargeInterface.get(largeInterfaceElement).get(detachedProfileUniqueKey).put(
-                                                DETACH_METHODS,
-                                                findAllAbstractMethodsForProfile(
-                                                        detachedProfileUniqueKey.contains(AT_SIGN)
-                                                                ? detachedProfileUniqueKey.substring(0, detachedProfileUniqueKey.indexOf(AT_SIGN))
-                                                                : detachedProfileUniqueKey,
-                                                        sealedInterfacesToGenerateByLargeInterface,
-                                                        sealedInterfacesPermitsByLargeInterface,
-                                                        largeInterfaceElement
-                                                )
-                                        )
-                                );
-                    }
                 });
         return statusReport;
     }
@@ -21,54 +21,39 @@
  */
 package org.jisel.handlers.impl;
 
+import org.jisel.generators.SegregationModel;
 import org.jisel.handlers.AbstractSealedAnnotationInfoCollectionHandler;
+import org.jisel.handlers.AnnotationIndex;
+import org.jisel.handlers.ProfileSet;
 
 import javax.lang.model.element.Element;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toSet;
-import static java.util.stream.Stream.concat;
-
 /**
- * Collects necessary information from the annotated elements, in order to populate the Map containing the sealed
- * interfaces information to be generated
+ * Collects necessary information from the annotated elements, in order to populate the {@link SegregationModel.Builder} of each
+ * large interface with the sealed interfaces to be generated
  */
 public final class SealForAnnotationInfoCollectionHandler extends AbstractSealedAnnotationInfoCollectionHandler {
 
     @Override
-    public void populateSealedInterfacesMap(Set<Element> allAnnotatedElements,
-                                            Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface) {
-        var annotatedMethodsByInterface = allAnnotatedElements.stream()
-                .collect(groupingBy(Element::getEnclosingElement, toSet()));
-        var annotatedMethodsByProfileByInterface = new HashMap<Element, Map<String, Set<Element>>>();
-        annotatedMethodsByInterface.forEach(
-                (interfaceElement, annotatedMethodsElements) -> annotatedMethodsElements.forEach(
-                        annotatedMethod -> extractProfilesAndPopulateMaps(
-                                interfaceElement,
-                                buildSealForProvidedProfilesSet(annotatedMethod),
-                                annotatedMethod,
-                                annotatedMethodsByProfileByInterface
-                        )
-                )
-        );
-        createParentInterfacesBasedOnCommonMethods(annotatedMethodsByProfileByInterface, sealedInterfacesToGenerateByLargeInterface);
+    public Map<String, ProfileSet> populateSealedInterfaces(Set<Element> annotatedMethods,
+                                                            AnnotationIndex annotationIndex,
+                                                            SegregationModel.Builder segregationModelBuilder) {
+        var annotatedMethodsByProfile = new HashMap<String, Set<Element>>();
+        annotatedMethods.forEach(annotatedMethod -> extractProfilesAndPopulateMap(
+                buildSealForProvidedProfilesSet(annotationIndex, annotatedMethod),
+                annotatedMethod,
+                annotatedMethodsByProfile
+        ));
+        return createParentInterfacesBasedOnCommonMethods(annotatedMethodsByProfile, segregationModelBuilder);
     }
 
-    private void extractProfilesAndPopulateMaps(Element interfaceElement,
-                                                Set<String> providedProfilesSet,
-                                                Element annotatedMethod,
-                                                Map<Element, Map<String, Set<Element>>> annotatedMethodsByProfileByInterface) {
-        providedProfilesSet.forEach(profile -> {
-            annotatedMethodsByProfileByInterface.putIfAbsent(interfaceElement, new HashMap<>(Map.of(profile, new HashSet<>(Set.of(annotatedMethod)))));
-            annotatedMethodsByProfileByInterface.get(interfaceElement).merge(
-                    profile,
-                    new HashSet<>(Set.of(annotatedMethod)),
-                    (currentSet, newSet) -> concat(currentSet.stream(), newSet.stream()).collect(toSet())
-            );
-        });
+    private void extractProfilesAndPopulateMap(Set<String> providedProfilesSet,
+                                               Element annotatedMethod,
+                                               Map<String, Set<Element>> annotatedMethodsByProfile) {
+        providedProfilesSet.forEach(profile -> annotatedMethodsByProfile.computeIfAbsent(profile, key -> new LinkedHashSet<>()).add(annotatedMethod));
     }
 }
\ No newline at end of file
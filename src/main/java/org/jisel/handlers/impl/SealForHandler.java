@@ -22,16 +22,21 @@
 package org.jisel.handlers.impl;
 
 import org.jisel.annotations.SealFor;
+import org.jisel.generators.SegregationModel;
 import org.jisel.handlers.AbstractSealedSealForHandler;
+import org.jisel.handlers.AnnotationIndex;
+import org.jisel.handlers.ProfileSet;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toCollection;
 import static org.jisel.generators.StringGenerator.EMPTY_STRING;
 
 /**
@@ -41,25 +46,29 @@ public final class SealForHandler extends AbstractSealedSealForHandler {
 
     @Override
     public Map<Element, String> handleAnnotatedElements(Set<Element> allAnnotatedElements,
-                                                        Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                        Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
+                                                        AnnotationIndex annotationIndex,
+                                                        Map<Element, SegregationModel.Builder> segregationModelBuilders) {
         var statusReport = new HashMap<Element, String>();
-        var allAnnotatedElementsToProcess = allAnnotatedElements.stream()
+        var annotatedMethodsByLargeInterface = allAnnotatedElements.stream()
                 .filter(element -> ElementKind.METHOD.equals(element.getKind()))
                 .filter(element -> ElementKind.INTERFACE.equals(element.getEnclosingElement().getKind()))
                 // only where @TopLevel is used
-                .filter(element -> sealedInterfacesToGenerateByLargeInterface.containsKey(element.getEnclosingElement()))
+                .filter(element -> segregationModelBuilders.containsKey(element.getEnclosingElement()))
                 // only if the same method is NOT also annotated with @TopLevel
                 .filter(element ->
-                        !sealedInterfacesToGenerateByLargeInterface
+                        !segregationModelBuilders
                                 .get(element.getEnclosingElement())
-                                .get(element.getEnclosingElement().getSimpleName().toString())
-                                .contains(element))
-                .collect(toSet());
+                                .hasProfileMethod(element.getEnclosingElement().getSimpleName().toString(), element))
+                .collect(groupingBy(Element::getEnclosingElement, LinkedHashMap::new, toCollection(LinkedHashSet::new)));
         // statusReport - only add the name of the processed large interfaces with no description
-        allAnnotatedElementsToProcess.forEach(element -> statusReport.put(element.getEnclosingElement(), EMPTY_STRING));
-        annotationInfoCollectionHandler.populateSealedInterfacesMap(allAnnotatedElementsToProcess, sealedInterfacesToGenerateByLargeInterface);
-        parentChildInheritanceHandler.buildInheritanceRelations(sealedInterfacesToGenerateByLargeInterface, sealedInterfacesPermitsByLargeInterface);
+        annotatedMethodsByLargeInterface.keySet().forEach(largeInterfaceElement -> statusReport.put(largeInterfaceElement, EMPTY_STRING));
+        segregationModelBuilders.forEach((largeInterfaceElement, segregationModelBuilder) -> {
+            var annotatedMethods = annotatedMethodsByLargeInterface.get(largeInterfaceElement);
+            var profileSets = annotatedMethods == null
+                    ? Map.<String, ProfileSet>of()
+                    : annotationInfoCollectionHandler.populateSealedInterfaces(annotatedMethods, annotationIndex, segregationModelBuilder);
+            parentChildInheritanceHandler.buildInheritanceRelations(segregationModelBuilder, profileSets);
+        });
         return statusReport;
     }
 }
\ No newline at end of file
@@ -21,54 +21,38 @@
  */
 package org.jisel.handlers.impl;
 
+import org.jisel.generators.SegregationModel;
 import org.jisel.handlers.AbstractSealedParentChildInheritanceHandler;
+import org.jisel.handlers.ProfileSet;
 
-import javax.lang.model.element.Element;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-
-import static org.jisel.generators.StringGenerator.COMMA_SEPARATOR;
 
 /**
- * Builds parent-children relationships based on information provided in the Map containing the sealed interfaces information to be generated
+ * Builds parent-children relationships based on the sealed interfaces to be generated stored in the {@link SegregationModel.Builder}
+ * of a large interface
  */
 public final class SealForParentChildInheritanceHandler extends AbstractSealedParentChildInheritanceHandler {
     @Override
-    public void buildInheritanceRelations(Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                          Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
-        sealedInterfacesToGenerateByLargeInterface.keySet().forEach(interfaceElement -> {
-            sealedInterfacesPermitsByLargeInterface.put(interfaceElement, new HashMap<>()); // start with initializing sealedInterfacesPermitsByLargeInterface with empty mutable maps
-            // promote profiles with empty methods to parent level
-            var allProfilesToRemove = new HashSet<String>();
-            sealedInterfacesToGenerateByLargeInterface.get(interfaceElement).keySet().forEach(concatenatedProfiles -> {
-                var profilesArray = concatenatedProfiles.split(COMMA_SEPARATOR);
-                if (profilesArray.length > 1) { // only concatenated profiles are processed
-                    for (var profile : profilesArray) {
-                        var profileMethodsOpt = Optional.ofNullable(sealedInterfacesToGenerateByLargeInterface.get(interfaceElement).get(profile));
-                        if (profileMethodsOpt.isPresent() && profileMethodsOpt.get().isEmpty()) {
-                            sealedInterfacesToGenerateByLargeInterface.get(interfaceElement).put(
-                                    profile,
-                                    sealedInterfacesToGenerateByLargeInterface.get(interfaceElement).get(concatenatedProfiles)
-                            );
-                            sealedInterfacesPermitsByLargeInterface.get(interfaceElement).put(
-                                    profile,
-                                    new ArrayList<>(Arrays.stream(profilesArray).filter(profileName -> !profile.equals(profileName)).toList())
-                            );
-                            allProfilesToRemove.add(concatenatedProfiles);
-                            break;
-                        }
+    public void buildInheritanceRelations(SegregationModel.Builder segregationModelBuilder, Map<String, ProfileSet> profileSets) {
+        // promote profiles with empty methods to parent level. The profiles are iterated over a copy, as the promoted
+        // intermediate parent interfaces are removed
+        for (var concatenatedProfiles : List.copyOf(segregationModelBuilder.profiles())) {
+            var profileSet = profileSets.get(concatenatedProfiles);
+            if (profileSet != null) { // only intermediate parent interfaces are processed
+                for (var profile : profileSet.profiles()) {
+                    if (segregationModelBuilder.hasProfileWithoutMethods(profile)) {
+                        segregationModelBuilder.promoteProfile(profile, concatenatedProfiles); // only concatenated profiles are removed
+                        segregationModelBuilder.putPermits(
+                                profile,
+                                profileSet.profiles().stream().filter(profileName -> !profile.equals(profileName)).toList()
+                        );
+                        break;
                     }
                 }
-            });
-            allProfilesToRemove.forEach(sealedInterfacesToGenerateByLargeInterface.get(interfaceElement)::remove); // only concatenated profiles are removed
-            // and complete populating the sealedInterfacesPermitsByLargeInterface map
-            buildSealedInterfacesPermitsMap(interfaceElement, sealedInterfacesToGenerateByLargeInterface, sealedInterfacesPermitsByLargeInterface);
-        });
+            }
+        }
+        // and complete populating the permits relations
+        buildSealedInterfacesPermitsMap(segregationModelBuilder, profileSets);
     }
 }
\ No newline at end of file
@@ -22,17 +22,20 @@
 package org.jisel.handlers.impl;
 
 import org.jisel.annotations.TopLevel;
+import org.jisel.generators.SegregationModel;
+import org.jisel.handlers.AnnotationIndex;
 import org.jisel.handlers.JiselAnnotationHandler;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toCollection;
 import static org.jisel.generators.StringGenerator.EMPTY_STRING;
 
 /**
@@ -42,19 +45,18 @@ public final class TopLevelHandler implements JiselAnnotationHandler {
 
     @Override
     public Map<Element, String> handleAnnotatedElements(Set<Element> allAnnotatedElements,
-                                                        Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                        Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
+                                                        AnnotationIndex annotationIndex,
+                                                        Map<Element, SegregationModel.Builder> segregationModelBuilders) {
         var statusReport = new HashMap<Element, String>();
         allAnnotatedElements.stream()
                 .filter(element -> ElementKind.METHOD.equals(element.getKind()))
                 .filter(element -> ElementKind.INTERFACE.equals(element.getEnclosingElement().getKind()))
-                .collect(groupingBy(Element::getEnclosingElement, toSet()))
+                .collect(groupingBy(Element::getEnclosingElement, LinkedHashMap::new, toCollection(LinkedHashSet::new)))
                 .forEach((largeInterfaceElement, annotatedMethodsSet) -> {
                     // top parent sealed interfaces to be generated
-                    sealedInterfacesToGenerateByLargeInterface.put(
-                            largeInterfaceElement,
-                            new HashMap<>(Map.of(largeInterfaceElement.getSimpleName().toString(), annotatedMethodsSet))
-                    );
+                    var segregationModelBuilder = SegregationModel.builder(largeInterfaceElement);
+                    segregationModelBuilder.putProfile(largeInterfaceElement.getSimpleName().toString(), annotatedMethodsSet);
+                    segregationModelBuilders.put(largeInterfaceElement, segregationModelBuilder);
                     // fill the status rep with the large interfaces processed, no description needed
                     statusReport.put(largeInterfaceElement, EMPTY_STRING);
                 });
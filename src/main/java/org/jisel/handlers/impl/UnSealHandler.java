@@ -22,21 +22,17 @@
 package org.jisel.handlers.impl;
 
 import org.jisel.annotations.UnSeal;
+import org.jisel.generators.SegregationModel;
+import org.jisel.handlers.AnnotationIndex;
 import org.jisel.handlers.JiselAnnotationHandler;
 
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
-import static org.jisel.generators.StringGenerator.CLOSING_PARENTHESIS;
-import static org.jisel.generators.StringGenerator.OPENING_PARENTHESIS;
-import static org.jisel.generators.StringGenerator.ORG_JISEL_UNSEAL;
-import static org.jisel.generators.StringGenerator.TRUE;
-import static org.jisel.generators.StringGenerator.VALUE;
-
 /**
  * Handles all elements annotated with &#64;{@link UnSeal}
  */
@@ -44,26 +40,17 @@ public final class UnSealHandler implements JiselAnnotationHandler {
 
     @Override
     public Map<Element, String> handleAnnotatedElements(Set<Element> allAnnotatedElements,
-                                                        Map<Element, Map<String, Set<Element>>> sealedInterfacesToGenerateByLargeInterface,
-                                                        Map<Element, Map<String, List<String>>> sealedInterfacesPermitsByLargeInterface) {
+                                                        AnnotationIndex annotationIndex,
+                                                        Map<Element, SegregationModel.Builder> segregationModelBuilders) {
         var statusReport = new HashMap<Element, String>();
         allAnnotatedElements.stream()
                 .filter(element -> ElementKind.INTERFACE.equals(element.getKind()))
                 .forEach(element -> {
-                            var annotationElementValues = element.getAnnotationMirrors().stream()
-                                    .filter(annotationMirror -> annotationMirror.toString().contains(ORG_JISEL_UNSEAL))
-                                    .toList().get(0) // @UnSeal not repeatable, so only 1 occurrence will be found
-                                    .getElementValues();
-                            // stores values of UnSeal parameters (true or false) in the statusReport map
-                            statusReport.put(element,
-                                    annotationElementValues.isEmpty()
-                                            ? TRUE
-                                            : annotationElementValues.entrySet().stream()
-                                            .filter(entry -> entry.getKey().toString().equals(VALUE + OPENING_PARENTHESIS + CLOSING_PARENTHESIS))
-                                            .findFirst().get().getValue().toString()
-                            );
-                        }
-                );
+                    var unSealValue = annotationIndex.unSealValue(element);
+                    Optional.ofNullable(segregationModelBuilders.get(element)).ifPresent(builder -> builder.unSeal(unSealValue));
+                    // also stores values of UnSeal parameters (true or false) in the statusReport map
+                    statusReport.put(element, Boolean.toString(unSealValue));
+                });
         return statusReport;
     }
 }
\ No newline at end of file